@@ -0,0 +1,111 @@
+package devbitsve.carga;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parámetros de una corrida, leídos de argumentos --clave=valor.
+ */
+final class ConfiguracionCarga {
+
+    static final String USO = """
+            Uso: ./gradlew :carga:run --args="--clave=valor ..."
+              --url=<base>            API de empleados (http://localhost:8080/api/empleados)
+              --tasa=<n>              Solicitudes por segundo, sin importar cuánto tarden (200)
+              --duracion=<t>          Tiempo medido, en s o m (60s)
+              --calentamiento=<t>     Carga previa que no se mide (15s)
+              --empleados=<n>         Empleados a crear antes de empezar (1000)
+              --mezcla=<op=peso,...>  Operaciones y sus pesos (obtener=90,cambiar-cargo=5,crear=5)
+                                      Operaciones: obtener, listar, buscar, autocompletar,
+                                      cambiar-cargo, crear
+              --salida=<ruta.json>    Resumen de la corrida (build/carga/resumen.json)
+              --base=<ruta.json>      Resumen de otra corrida contra el que comparar
+            """;
+
+    final URI url;
+    final int tasa;
+    final Duration duracion;
+    final Duration calentamiento;
+    final int empleados;
+    final Mezcla mezcla;
+    final Path salida;
+    final Path base;
+
+    private ConfiguracionCarga(Map<String, String> valores) {
+        this.url = URI.create(quitarBarraFinal(valores.getOrDefault("url", "http://localhost:8080/api/empleados")));
+        this.tasa = leerEntero(valores, "tasa", 200);
+        this.duracion = leerDuracion(valores, "duracion", Duration.ofSeconds(60));
+        this.calentamiento = leerDuracion(valores, "calentamiento", Duration.ofSeconds(15));
+        this.empleados = leerEntero(valores, "empleados", 1000);
+        this.mezcla = Mezcla.desde(valores.getOrDefault("mezcla", "obtener=90,cambiar-cargo=5,crear=5"));
+        this.salida = Path.of(valores.getOrDefault("salida", "build/carga/resumen.json"));
+        this.base = valores.containsKey("base") ? Path.of(valores.get("base")) : null;
+
+        if (tasa <= 0 || empleados <= 0 || duracion.isZero() || duracion.isNegative()) {
+            throw new IllegalArgumentException("tasa, empleados y duracion deben ser mayores que cero");
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException si un argumento no es válido
+     */
+    static ConfiguracionCarga desdeArgumentos(String[] argumentos) {
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (String argumento : argumentos) {
+            int igual = argumento.indexOf('=');
+            if (!argumento.startsWith("--") || igual < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + argumento);
+            }
+            valores.put(argumento.substring(2, igual), argumento.substring(igual + 1));
+        }
+        return new ConfiguracionCarga(valores);
+    }
+
+    /**
+     * Parámetros de la corrida, para el resumen
+     */
+    Map<String, Object> toResumen() {
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("url", url.toString());
+        resumen.put("tasa", tasa);
+        resumen.put("duracionSegundos", duracion.toSeconds());
+        resumen.put("calentamientoSegundos", calentamiento.toSeconds());
+        resumen.put("empleados", empleados);
+        resumen.put("mezcla", mezcla.toResumen());
+        return resumen;
+    }
+
+    private static int leerEntero(Map<String, String> valores, String clave, int porDefecto) {
+        String valor = valores.get(clave);
+        if (valor == null) {
+            return porDefecto;
+        }
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + clave + ": " + valor);
+        }
+    }
+
+    private static Duration leerDuracion(Map<String, String> valores, String clave, Duration porDefecto) {
+        String valor = valores.get(clave);
+        if (valor == null) {
+            return porDefecto;
+        }
+        try {
+            if (valor.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(valor.substring(0, valor.length() - 1)));
+            }
+            return Duration.ofSeconds(Long.parseLong(valor.endsWith("s") ? valor.substring(0, valor.length() - 1) : valor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Duración inválida para " + clave + ": " + valor);
+        }
+    }
+
+    private static String quitarBarraFinal(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
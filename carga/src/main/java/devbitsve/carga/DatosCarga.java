@@ -0,0 +1,147 @@
+package devbitsve.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Empleados sembrados para la corrida y cuerpos de las solicitudes que
+ * escriben. Los documentos y emails llevan el identificador de la corrida,
+ * así que varias corridas pueden compartir la misma base.
+ */
+final class DatosCarga {
+
+    private static final String[] NOMBRES = {
+            "José", "María", "Luis", "Ana", "Carlos", "Lucía", "Jorge", "Carmen", "Andrés", "Sofía",
+            "Miguel", "Valentina", "Rafael", "Gabriela", "Diego", "Isabel", "Pedro", "Camila", "Ángel", "Elena" };
+    private static final String[] APELLIDOS = {
+            "Pérez", "González", "Rodríguez", "Hernández", "García", "Martínez", "López", "Díaz", "Sánchez",
+            "Ramírez", "Torres", "Flores", "Rivas", "Núñez", "Medina", "Rojas", "Castillo", "Mendoza" };
+    private static final String[] DEPARTAMENTOS = {
+            "Tecnología", "Finanzas", "Ventas", "Operaciones", "Recursos Humanos", "Legal" };
+    private static final String[] CARGOS = {
+            "Analista", "Desarrollador", "Coordinador", "Especialista", "Gerente", "Asistente" };
+
+    /**
+     * Inicio de los cargos sembrados; cada cambio de cargo empieza un día
+     * después del anterior, para que nunca termine un cargo antes de empezarlo
+     */
+    private static final LocalDate PRIMER_INICIO = LocalDate.of(2000, 1, 1);
+
+    private final ObjectMapper json;
+    private final String corrida;
+    private final AtomicLong secuencia = new AtomicLong();
+    private final AtomicLong diasCambioCargo = new AtomicLong();
+    private final List<String> ids = new ArrayList<>();
+
+    DatosCarga(ObjectMapper json, String corrida) {
+        this.json = json;
+        this.corrida = corrida;
+    }
+
+    /**
+     * Registra los IDs de los empleados sembrados. Se llama antes de empezar la
+     * carga; durante la carga la lista solo se lee
+     */
+    void agregarIds(List<String> nuevos) {
+        ids.addAll(nuevos);
+    }
+
+    int cantidadIds() {
+        return ids.size();
+    }
+
+    String idAleatorio(RandomGenerator aleatorio) {
+        return ids.get(aleatorio.nextInt(ids.size()));
+    }
+
+    /**
+     * Inicio de un nombre o apellido existente, como lo escribiría alguien que
+     * busca: en minúsculas y de 2 a 5 letras
+     */
+    String prefijoAleatorio(RandomGenerator aleatorio) {
+        String palabra = aleatorio.nextBoolean()
+                ? NOMBRES[aleatorio.nextInt(NOMBRES.length)]
+                : APELLIDOS[aleatorio.nextInt(APELLIDOS.length)];
+        String prefijo = palabra.substring(0, Math.min(palabra.length(), 2 + aleatorio.nextInt(4)));
+        return URLEncoder.encode(prefijo.toLowerCase(Locale.ROOT), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Cuerpo de POST /api/empleados para un empleado que no existe aún
+     */
+    byte[] empleadoNuevo(RandomGenerator aleatorio) {
+        return toJson(empleado(aleatorio));
+    }
+
+    /**
+     * Cuerpo de POST /api/empleados/lote con la cantidad de empleados indicada
+     */
+    byte[] loteNuevo(int cantidad, RandomGenerator aleatorio) {
+        List<Map<String, Object>> lote = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            lote.add(empleado(aleatorio));
+        }
+        return toJson(lote);
+    }
+
+    /**
+     * Cuerpo de PUT /api/empleados/{id}/cambiar-cargo
+     */
+    byte[] cargoNuevo(RandomGenerator aleatorio) {
+        LocalDate inicio = PRIMER_INICIO.plusDays(1 + diasCambioCargo.incrementAndGet());
+        return toJson(cargo(aleatorio, inicio));
+    }
+
+    private Map<String, Object> empleado(RandomGenerator aleatorio) {
+        long numero = secuencia.incrementAndGet();
+
+        Map<String, Object> personal = new LinkedHashMap<>();
+        personal.put("nombre", NOMBRES[aleatorio.nextInt(NOMBRES.length)]);
+        personal.put("apellidos", APELLIDOS[aleatorio.nextInt(APELLIDOS.length)] + " "
+                + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)]);
+        personal.put("documentoIdentidad", "CARGA-" + corrida + "-" + numero);
+        personal.put("genero", aleatorio.nextBoolean() ? "Femenino" : "Masculino");
+        personal.put("fechaNacimiento", LocalDate.of(1960, 1, 1).plusDays(aleatorio.nextInt(365 * 40)).toString());
+
+        Map<String, Object> contacto = new LinkedHashMap<>();
+        contacto.put("email", "carga." + corrida + "." + numero + "@example.com");
+        contacto.put("telefono", "+58-412-" + (1000000 + aleatorio.nextInt(9000000)));
+        contacto.put("direccion", "Caracas, Venezuela");
+
+        Map<String, Object> empleado = new LinkedHashMap<>();
+        empleado.put("informacionPersonal", personal);
+        empleado.put("informacionContacto", contacto);
+        empleado.put("cargoInicial", cargo(aleatorio, PRIMER_INICIO));
+        return empleado;
+    }
+
+    private Map<String, Object> cargo(RandomGenerator aleatorio, LocalDate inicio) {
+        Map<String, Object> cargo = new LinkedHashMap<>();
+        cargo.put("cargo", CARGOS[aleatorio.nextInt(CARGOS.length)]);
+        cargo.put("departamento", DEPARTAMENTOS[aleatorio.nextInt(DEPARTAMENTOS.length)]);
+        cargo.put("salario", BigDecimal.valueOf(1500 + aleatorio.nextInt(8500)).setScale(2));
+        cargo.put("fechaInicio", inicio.toString());
+        return cargo;
+    }
+
+    private byte[] toJson(Object valor) {
+        try {
+            return json.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package devbitsve.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y respuestas de una operación durante el tiempo medido.
+ * Registra dos latencias por solicitud: desde el instante en que debía
+ * enviarse según la tasa (incluye la espera si el generador o el servidor se
+ * atrasaron, evitando la omisión coordinada) y desde que se envió.
+ */
+final class EstadisticasOperacion {
+
+    /**
+     * Cifras significativas de los histogramas: error relativo de 0,1 %
+     */
+    static final int PRECISION = 3;
+
+    /**
+     * Código que se registra cuando la solicitud no obtuvo respuesta
+     */
+    static final int SIN_RESPUESTA = 0;
+
+    private final Histogram latencia = new ConcurrentHistogram(PRECISION);
+    private final Histogram servicio = new ConcurrentHistogram(PRECISION);
+    private final Map<Integer, LongAdder> estados = new ConcurrentHashMap<>();
+    private final LongAdder errores = new LongAdder();
+
+    /**
+     * @param latenciaNanos Desde el instante programado hasta la respuesta
+     * @param servicioNanos Desde el envío hasta la respuesta
+     * @param estado        Código HTTP, o {@link #SIN_RESPUESTA}
+     */
+    void registrar(long latenciaNanos, long servicioNanos, int estado) {
+        latencia.recordValue(latenciaNanos);
+        servicio.recordValue(servicioNanos);
+        estados.computeIfAbsent(estado, codigo -> new LongAdder()).increment();
+        if (estado == SIN_RESPUESTA || estado >= 400) {
+            errores.increment();
+        }
+    }
+
+    Histogram getLatencia() {
+        return latencia;
+    }
+
+    Histogram getServicio() {
+        return servicio;
+    }
+
+    long getSolicitudes() {
+        return latencia.getTotalCount();
+    }
+
+    long getErrores() {
+        return errores.sum();
+    }
+
+    /**
+     * Cantidad de respuestas por código HTTP, ordenadas por código
+     */
+    Map<Integer, Long> getEstados() {
+        Map<Integer, Long> conteo = new TreeMap<>();
+        estados.forEach((codigo, cantidad) -> conteo.put(codigo, cantidad.sum()));
+        return conteo;
+    }
+}
@@ -0,0 +1,208 @@
+package devbitsve.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de lazo abierto para la API de empleados.
+ * Envía solicitudes a una tasa fija sin esperar a que terminen las
+ * anteriores, cada una en su propio hilo virtual, como llegan las peticiones
+ * de usuarios independientes: si el servidor se atrasa, las solicitudes se
+ * acumulan y su espera cuenta en la latencia.
+ *
+ * <p>La corrida siembra los empleados, espera a que la aplicación esté lista,
+ * aplica la carga durante el calentamiento sin medir y luego durante el tiempo
+ * medido.
+ */
+public final class GeneradorCarga {
+
+    private static final int TAMANO_LOTE_SIEMBRA = 1000;
+    private static final Duration ESPERA_MAXIMA_LISTA = Duration.ofMinutes(2);
+
+    private final ConfiguracionCarga configuracion;
+    private final ObjectMapper json = new ObjectMapper();
+    private final DatosCarga datos;
+    private final HttpClient cliente;
+    private final Map<Operacion, EstadisticasOperacion> estadisticas = new LinkedHashMap<>();
+
+    private GeneradorCarga(ConfiguracionCarga configuracion, ExecutorService hilos) {
+        this.configuracion = configuracion;
+        this.datos = new DatosCarga(json, Long.toString(System.currentTimeMillis(), 36));
+        this.cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(hilos)
+                .build();
+        for (Operacion operacion : configuracion.mezcla.getOperaciones()) {
+            estadisticas.put(operacion, new EstadisticasOperacion());
+        }
+    }
+
+    public static void main(String[] argumentos) throws Exception {
+        ConfiguracionCarga configuracion;
+        try {
+            configuracion = ConfiguracionCarga.desdeArgumentos(argumentos);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ConfiguracionCarga.USO);
+            System.exit(2);
+            return;
+        }
+
+        try (ExecutorService hilos = Executors.newVirtualThreadPerTaskExecutor()) {
+            new GeneradorCarga(configuracion, hilos).ejecutar();
+        }
+    }
+
+    private void ejecutar() throws IOException, InterruptedException {
+        esperarAplicacionLista();
+        sembrar();
+
+        System.out.printf("Carga: %d sol/s, %ds de calentamiento y %ds medidos, mezcla %s%n",
+                configuracion.tasa, configuracion.calentamiento.toSeconds(), configuracion.duracion.toSeconds(),
+                configuracion.mezcla.toResumen());
+        Instant inicio = Instant.now();
+        aplicarCarga();
+
+        Map<String, EstadisticasOperacion> porNombre = new LinkedHashMap<>();
+        estadisticas.forEach((operacion, valores) -> porNombre.put(operacion.getNombre(), valores));
+        Resumen resumen = new Resumen(configuracion, inicio, porNombre);
+        resumen.imprimir(System.out);
+        resumen.guardar(json);
+        System.out.println("Resumen en " + configuracion.salida.toAbsolutePath());
+
+        if (configuracion.base != null) {
+            JsonNode base = json.readTree(configuracion.base.toFile());
+            resumen.comparar(base, System.out);
+        }
+    }
+
+    /**
+     * Programa las solicitudes a intervalos fijos y envía cada una en un hilo
+     * virtual. Termina cuando respondieron todas las programadas
+     */
+    private void aplicarCarga() {
+        long intervalo = 1_000_000_000L / configuracion.tasa;
+        long inicio = System.nanoTime();
+        long inicioMedicion = inicio + configuracion.calentamiento.toNanos();
+        long fin = inicioMedicion + configuracion.duracion.toNanos();
+        // Semilla fija: la secuencia de operaciones es la misma en cada corrida
+        SplittableRandom aleatorio = new SplittableRandom(42);
+
+        // Al cerrarse espera a que terminen todas las solicitudes enviadas
+        try (ExecutorService solicitudes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long programada = inicio + i * intervalo;
+                if (programada >= fin) {
+                    break;
+                }
+                long espera = programada - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+
+                Operacion operacion = configuracion.mezcla.elegir(aleatorio);
+                EstadisticasOperacion destino = programada >= inicioMedicion ? estadisticas.get(operacion) : null;
+                solicitudes.execute(() -> enviar(operacion, programada, destino));
+            }
+        }
+    }
+
+    /**
+     * Envía una solicitud y registra su latencia si cae en el tiempo medido
+     *
+     * @param programada Instante (System.nanoTime) en que debía enviarse
+     * @param destino    Estadísticas donde registrarla, o null durante el
+     *                   calentamiento
+     */
+    private void enviar(Operacion operacion, long programada, EstadisticasOperacion destino) {
+        HttpRequest solicitud = operacion.solicitud(configuracion.url, datos, ThreadLocalRandom.current());
+        long envio = System.nanoTime();
+        int estado;
+        try {
+            estado = cliente.send(solicitud, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            estado = EstadisticasOperacion.SIN_RESPUESTA;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long respuesta = System.nanoTime();
+
+        if (destino != null) {
+            destino.registrar(respuesta - programada, respuesta - envio, estado);
+        }
+    }
+
+    /**
+     * Crea los empleados sobre los que operan las lecturas y los cambios de
+     * cargo, por lotes
+     */
+    private void sembrar() throws IOException, InterruptedException {
+        System.out.printf("Sembrando %d empleados%n", configuracion.empleados);
+        URI lote = URI.create(configuracion.url + "/lote");
+        for (int creados = 0; creados < configuracion.empleados; creados += TAMANO_LOTE_SIEMBRA) {
+            int cantidad = Math.min(TAMANO_LOTE_SIEMBRA, configuracion.empleados - creados);
+            HttpResponse<byte[]> respuesta = cliente.send(HttpRequest.newBuilder(lote)
+                    .timeout(Duration.ofMinutes(1))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(datos.loteNuevo(cantidad, ThreadLocalRandom.current())))
+                    .build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (respuesta.statusCode() != 200) {
+                throw new IllegalStateException("La siembra falló con HTTP " + respuesta.statusCode() + ": "
+                        + new String(respuesta.body()));
+            }
+
+            List<String> ids = new ArrayList<>(cantidad);
+            for (JsonNode resultado : json.readTree(respuesta.body()).path("resultados")) {
+                if (resultado.hasNonNull("id")) {
+                    ids.add(resultado.get("id").asText());
+                }
+            }
+            datos.agregarIds(ids);
+        }
+        if (datos.cantidadIds() == 0) {
+            throw new IllegalStateException("La siembra no creó ningún empleado");
+        }
+    }
+
+    /**
+     * Espera a que /q/health/ready responda 200: con los índices creándose en
+     * segundo plano, medir antes daría latencias de consultas sin índice
+     */
+    private void esperarAplicacionLista() throws InterruptedException {
+        HttpRequest lista = HttpRequest.newBuilder(configuracion.url.resolve("/q/health/ready"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long limite = System.nanoTime() + ESPERA_MAXIMA_LISTA.toNanos();
+        while (System.nanoTime() < limite) {
+            try {
+                if (cliente.send(lista, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Aún no acepta conexiones
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("La aplicación no está lista en " + configuracion.url.resolve("/q/health/ready"));
+    }
+}
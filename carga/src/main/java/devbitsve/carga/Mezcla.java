@@ -0,0 +1,82 @@
+package devbitsve.carga;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Proporción de cada operación en la carga, como pesos relativos:
+ * "obtener=90,cambiar-cargo=5,crear=5".
+ */
+final class Mezcla {
+
+    private final Map<Operacion, Integer> pesos;
+    private final Operacion[] operaciones;
+    private final int[] acumulados;
+    private final int total;
+
+    private Mezcla(Map<Operacion, Integer> pesos) {
+        this.pesos = pesos;
+        this.operaciones = pesos.keySet().toArray(new Operacion[0]);
+        this.acumulados = new int[operaciones.length];
+        int suma = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            suma += pesos.get(operaciones[i]);
+            acumulados[i] = suma;
+        }
+        this.total = suma;
+    }
+
+    /**
+     * @throws IllegalArgumentException si una operación no existe o un peso no
+     *                                  es un entero positivo
+     */
+    static Mezcla desde(String texto) {
+        Map<Operacion, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : texto.split(",")) {
+            String[] claveValor = parte.trim().split("=");
+            if (claveValor.length != 2) {
+                throw new IllegalArgumentException("Mezcla inválida: " + texto);
+            }
+            int peso;
+            try {
+                peso = Integer.parseInt(claveValor[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Peso inválido en la mezcla: " + parte);
+            }
+            if (peso <= 0) {
+                throw new IllegalArgumentException("Peso inválido en la mezcla: " + parte);
+            }
+            pesos.merge(Operacion.desdeNombre(claveValor[0].trim()), peso, Integer::sum);
+        }
+        return new Mezcla(pesos);
+    }
+
+    /**
+     * Elige una operación con probabilidad proporcional a su peso
+     */
+    Operacion elegir(RandomGenerator aleatorio) {
+        int valor = aleatorio.nextInt(total);
+        for (int i = 0; i < acumulados.length; i++) {
+            if (valor < acumulados[i]) {
+                return operaciones[i];
+            }
+        }
+        return operaciones[operaciones.length - 1];
+    }
+
+    List<Operacion> getOperaciones() {
+        return new ArrayList<>(pesos.keySet());
+    }
+
+    /**
+     * Porcentaje de cada operación, para el resumen
+     */
+    Map<String, Double> toResumen() {
+        Map<String, Double> porcentajes = new LinkedHashMap<>();
+        pesos.forEach((operacion, peso) -> porcentajes.put(operacion.getNombre(), 100.0 * peso / total));
+        return porcentajes;
+    }
+}
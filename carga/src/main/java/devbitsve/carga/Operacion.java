@@ -0,0 +1,102 @@
+package devbitsve.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Operaciones que puede incluir la mezcla, cada una con la solicitud HTTP que
+ * la representa.
+ */
+enum Operacion {
+
+    OBTENER("obtener") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return get(url, "/" + datos.idAleatorio(aleatorio));
+        }
+    },
+    LISTAR("listar") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return get(url, "?limite=50");
+        }
+    },
+    BUSCAR("buscar") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return get(url, "/buscar?limite=10&q=" + datos.prefijoAleatorio(aleatorio));
+        }
+    },
+    AUTOCOMPLETAR("autocompletar") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return get(url, "/autocompletar?limite=10&q=" + datos.prefijoAleatorio(aleatorio));
+        }
+    },
+    CAMBIAR_CARGO("cambiar-cargo") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return conCuerpo(url, "/" + datos.idAleatorio(aleatorio) + "/cambiar-cargo")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(datos.cargoNuevo(aleatorio)))
+                    .build();
+        }
+    },
+    CREAR("crear") {
+        @Override
+        HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio) {
+            return conCuerpo(url, "")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(datos.empleadoNuevo(aleatorio)))
+                    .build();
+        }
+    };
+
+    static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(30);
+
+    private final String nombre;
+
+    Operacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * @throws IllegalArgumentException si no hay una operación con ese nombre
+     */
+    static Operacion desdeNombre(String nombre) {
+        for (Operacion operacion : values()) {
+            if (operacion.nombre.equals(nombre)) {
+                return operacion;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida: " + nombre);
+    }
+
+    String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Solicitud a enviar para una ejecución de la operación
+     *
+     * @param url       Base de la API de empleados, sin barra final
+     * @param datos     Empleados sembrados y generador de cuerpos
+     * @param aleatorio Fuente de los valores elegidos al azar
+     */
+    abstract HttpRequest solicitud(URI url, DatosCarga datos, RandomGenerator aleatorio);
+
+    private static HttpRequest get(URI url, String ruta) {
+        return HttpRequest.newBuilder(URI.create(url + ruta))
+                .timeout(TIEMPO_MAXIMO)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest.Builder conCuerpo(URI url, String ruta) {
+        return HttpRequest.newBuilder(URI.create(url + ruta))
+                .timeout(TIEMPO_MAXIMO)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+    }
+}
@@ -0,0 +1,156 @@
+package devbitsve.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resultado de una corrida: tabla en consola, resumen JSON para comparar
+ * corridas y distribución completa de cada operación en formato .hgrm de
+ * HdrHistogram.
+ */
+final class Resumen {
+
+    private static final double NANOS_POR_MILISEGUNDO = 1_000_000.0;
+    private static final String TOTAL = "total";
+
+    private final ConfiguracionCarga configuracion;
+    private final Instant inicio;
+    private final Map<String, EstadisticasOperacion> operaciones;
+
+    Resumen(ConfiguracionCarga configuracion, Instant inicio, Map<String, EstadisticasOperacion> operaciones) {
+        this.configuracion = configuracion;
+        this.inicio = inicio;
+        this.operaciones = operaciones;
+    }
+
+    /**
+     * Imprime por operación las solicitudes, errores, rendimiento y
+     * percentiles de latencia
+     */
+    void imprimir(PrintStream salida) {
+        salida.printf("%-15s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operacion", "solicitud", "errores", "sol/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        toResumen().get("operaciones").forEach((nombre, valor) -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> datos = (Map<String, Object>) valor;
+            @SuppressWarnings("unchecked")
+            Map<String, Double> latencia = (Map<String, Double>) datos.get("latenciaMs");
+            salida.printf("%-15s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", nombre,
+                    datos.get("solicitudes"), datos.get("errores"), datos.get("rendimiento"),
+                    latencia.get("p50"), latencia.get("p99"), latencia.get("p999"), latencia.get("max"));
+        });
+    }
+
+    /**
+     * Escribe el resumen JSON en la ruta configurada y, junto a él, un .hgrm
+     * por operación
+     */
+    void guardar(ObjectMapper json) throws IOException {
+        Path salida = configuracion.salida.toAbsolutePath();
+        Files.createDirectories(salida.getParent());
+        json.writerWithDefaultPrettyPrinter().writeValue(salida.toFile(), toResumen());
+
+        String prefijo = salida.getFileName().toString().replaceFirst("\\.json$", "");
+        for (Map.Entry<String, EstadisticasOperacion> operacion : operaciones.entrySet()) {
+            Path hgrm = salida.resolveSibling(prefijo + "-" + operacion.getKey() + ".hgrm");
+            try (PrintStream archivo = new PrintStream(Files.newOutputStream(hgrm))) {
+                operacion.getValue().getLatencia().outputPercentileDistribution(archivo, NANOS_POR_MILISEGUNDO);
+            }
+        }
+    }
+
+    /**
+     * Compara con el resumen de otra corrida: variación del rendimiento y de
+     * los percentiles de cada operación presente en ambas
+     */
+    void comparar(JsonNode base, PrintStream salida) {
+        salida.printf("%nComparación con %s (variación respecto de la base)%n", configuracion.base);
+        salida.printf("%-15s %10s %10s %10s %10s%n", "operacion", "sol/s", "p50", "p99", "p999");
+        JsonNode anteriores = base.path("operaciones");
+        toResumen().get("operaciones").forEach((nombre, valor) -> {
+            JsonNode anterior = anteriores.path(nombre);
+            if (anterior.isMissingNode()) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> datos = (Map<String, Object>) valor;
+            @SuppressWarnings("unchecked")
+            Map<String, Double> latencia = (Map<String, Double>) datos.get("latenciaMs");
+            JsonNode latenciaAnterior = anterior.path("latenciaMs");
+            salida.printf("%-15s %10s %10s %10s %10s%n", nombre,
+                    variacion(anterior.path("rendimiento").asDouble(), (Double) datos.get("rendimiento")),
+                    variacion(latenciaAnterior.path("p50").asDouble(), latencia.get("p50")),
+                    variacion(latenciaAnterior.path("p99").asDouble(), latencia.get("p99")),
+                    variacion(latenciaAnterior.path("p999").asDouble(), latencia.get("p999")));
+        });
+    }
+
+    private Map<String, Map<String, Object>> toResumen() {
+        Map<String, Object> porOperacion = new LinkedHashMap<>();
+        Histogram latenciaTotal = new Histogram(EstadisticasOperacion.PRECISION);
+        Histogram servicioTotal = new Histogram(EstadisticasOperacion.PRECISION);
+        long erroresTotal = 0;
+        for (Map.Entry<String, EstadisticasOperacion> operacion : operaciones.entrySet()) {
+            EstadisticasOperacion estadisticas = operacion.getValue();
+            Map<String, Object> datos = toDatos(estadisticas.getSolicitudes(), estadisticas.getErrores(),
+                    estadisticas.getLatencia(), estadisticas.getServicio());
+            datos.put("estados", estadisticas.getEstados());
+            porOperacion.put(operacion.getKey(), datos);
+
+            latenciaTotal.add(estadisticas.getLatencia());
+            servicioTotal.add(estadisticas.getServicio());
+            erroresTotal += estadisticas.getErrores();
+        }
+        porOperacion.put(TOTAL, toDatos(latenciaTotal.getTotalCount(), erroresTotal, latenciaTotal, servicioTotal));
+
+        Map<String, Object> corrida = new LinkedHashMap<>();
+        corrida.put("inicio", inicio.toString());
+        corrida.put("configuracion", configuracion.toResumen());
+
+        Map<String, Map<String, Object>> resumen = new LinkedHashMap<>();
+        resumen.put("corrida", corrida);
+        resumen.put("operaciones", porOperacion);
+        return resumen;
+    }
+
+    private Map<String, Object> toDatos(long solicitudes, long errores, Histogram latencia, Histogram servicio) {
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("solicitudes", solicitudes);
+        datos.put("errores", errores);
+        datos.put("rendimiento", (double) solicitudes / configuracion.duracion.toSeconds());
+        datos.put("latenciaMs", toPercentiles(latencia));
+        datos.put("servicioMs", toPercentiles(servicio));
+        return datos;
+    }
+
+    private static Map<String, Double> toPercentiles(Histogram histograma) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", milisegundos(histograma.getValueAtPercentile(50.0)));
+        percentiles.put("p90", milisegundos(histograma.getValueAtPercentile(90.0)));
+        percentiles.put("p99", milisegundos(histograma.getValueAtPercentile(99.0)));
+        percentiles.put("p999", milisegundos(histograma.getValueAtPercentile(99.9)));
+        percentiles.put("max", milisegundos(histograma.getMaxValue()));
+        percentiles.put("media", histograma.getTotalCount() > 0 ? histograma.getMean() / NANOS_POR_MILISEGUNDO : 0.0);
+        return percentiles;
+    }
+
+    private static double milisegundos(long nanos) {
+        return nanos / NANOS_POR_MILISEGUNDO;
+    }
+
+    private static String variacion(double anterior, double actual) {
+        if (anterior == 0) {
+            return "n/d";
+        }
+        return String.format("%+.1f%%", 100.0 * (actual - anterior) / anterior);
+    }
+}
@@ -0,0 +1,57 @@
+package devbitsve;
+
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import org.bson.types.ObjectId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Empleados de ejemplo para los benchmarks, con datos de un tamaño realista.
+ */
+public final class DatosBenchmark {
+
+    private DatosBenchmark() {
+    }
+
+    /**
+     * Empleado ya guardado (con ID y versión) con la cantidad de cargos
+     * anteriores indicada
+     */
+    public static Empleado empleado(int cantidadCargosHistorial) {
+        return new Empleado(
+                new ObjectId().toHexString(),
+                new InformacionPersonal("José Antonio", "Pérez Núñez", "V-12345678", "Masculino",
+                        LocalDate.of(1988, 7, 21)),
+                new InformacionContacto("jose.perez@example.com", "+58-412-1234567", "Caracas, Venezuela"),
+                new InformacionLaboral("Desarrollador Senior", "Tecnología", new BigDecimal("5250.00"),
+                        LocalDate.of(2021, 3, 1), null),
+                cantidadCargosHistorial,
+                EstadoEmpleado.ACTIVO,
+                LocalDateTime.of(2019, 2, 4, 9, 30),
+                LocalDateTime.of(2024, 11, 18, 16, 5),
+                cantidadCargosHistorial + 1);
+    }
+
+    /**
+     * Cargos anteriores, del más reciente al más antiguo
+     */
+    public static List<InformacionLaboral> historial(int cantidad) {
+        List<InformacionLaboral> cargos = new ArrayList<>(cantidad);
+        LocalDate fin = LocalDate.of(2021, 2, 28);
+        for (int i = 0; i < cantidad; i++) {
+            LocalDate inicio = fin.minusMonths(6);
+            cargos.add(new InformacionLaboral("Desarrollador " + i, i % 2 == 0 ? "Tecnología" : "Producto",
+                    new BigDecimal(4000 - i * 10).setScale(2), inicio, fin));
+            fin = inicio.minusDays(1);
+        }
+        return cargos;
+    }
+}
@@ -0,0 +1,30 @@
+package devbitsve.dominio.modelo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de construir la información de contacto, que valida el formato del
+ * email en cada construcción (al crear empleados y al leerlos de MongoDB).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InformacionContactoBenchmark {
+
+    // Campos no finales para que el JIT no los trate como constantes
+    String email = "Jose.Perez@Example.com";
+    String telefono = "+58-412-1234567";
+    String direccion = "Caracas, Venezuela";
+
+    @Benchmark
+    public InformacionContacto construir() {
+        return new InformacionContacto(email, telefono, direccion);
+    }
+}
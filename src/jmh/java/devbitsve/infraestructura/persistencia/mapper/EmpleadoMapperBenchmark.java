@@ -0,0 +1,45 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import devbitsve.DatosBenchmark;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entre el empleado de dominio y su documento de MongoDB, que se
+ * hace en cada escritura (toEntidad, incluye las claves de búsqueda) y por
+ * cada empleado leído (toDominio, incluye las validaciones de los value
+ * objects).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmpleadoMapperBenchmark {
+
+    private Empleado empleado;
+    private EmpleadoEntidad entidad;
+
+    @Setup
+    public void preparar() {
+        empleado = DatosBenchmark.empleado(3);
+        entidad = EmpleadoMapper.toEntidad(empleado);
+    }
+
+    @Benchmark
+    public EmpleadoEntidad toEntidad() {
+        return EmpleadoMapper.toEntidad(empleado);
+    }
+
+    @Benchmark
+    public Empleado toDominio() {
+        return EmpleadoMapper.toDominio(entidad);
+    }
+}
@@ -0,0 +1,73 @@
+package devbitsve.infraestructura.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import devbitsve.DatosBenchmark;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.infraestructura.rest.dto.EmpleadoResponse;
+import devbitsve.infraestructura.rest.dto.InformacionLaboralDTO;
+import devbitsve.infraestructura.rest.dto.PaginaResponse;
+import devbitsve.infraestructura.rest.mapper.EmpleadoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Armado y serialización JSON de las respuestas de un empleado según la
+ * cantidad de cargos anteriores. El empleado solo lleva la cantidad, así que
+ * su costo no debería depender de ella; los cargos se serializan en la página
+ * de /{id}/historial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmpleadoResponseBenchmark {
+
+    @Param({ "0", "10", "100" })
+    int cargosHistorial;
+
+    private final EmpleadoMapper mapper = new EmpleadoMapper();
+
+    // Misma configuración que el ObjectMapper por defecto de Quarkus
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private Empleado empleado;
+    private EmpleadoResponse respuesta;
+    private PaginaResponse<InformacionLaboralDTO> historial;
+
+    @Setup
+    public void preparar() {
+        empleado = DatosBenchmark.empleado(cargosHistorial);
+        respuesta = mapper.toEmpleadoResponse(empleado);
+        historial = mapper.toPaginaHistorialResponse(
+                new Pagina<>(DatosBenchmark.historial(cargosHistorial), null));
+    }
+
+    @Benchmark
+    public EmpleadoResponse toEmpleadoResponse() {
+        return mapper.toEmpleadoResponse(empleado);
+    }
+
+    @Benchmark
+    public byte[] serializarEmpleado() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(respuesta);
+    }
+
+    @Benchmark
+    public byte[] serializarHistorial() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(historial);
+    }
+}
@@ -0,0 +1,134 @@
+package devbitsve.aplicacion.servicio;
+
+import devbitsve.dominio.modelo.ConteoPlantilla;
+import devbitsve.dominio.modelo.EstadisticaPlantilla;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.puerto.RepositorioEmpleado;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cantidad de empleados por departamento y estado mantenida en memoria.
+ * Cada mutación del servicio ajusta los contadores de forma incremental, sin
+ * consultar la base de datos, y una reconciliación periódica los reemplaza por
+ * los valores reales para corregir la deriva (otras réplicas, escrituras
+ * concurrentes o cambios masivos). Los contadores son por instancia.
+ */
+@ApplicationScoped
+public class ContadoresPlantilla {
+
+    private static final Logger LOG = Logger.getLogger(ContadoresPlantilla.class);
+
+    private static final EstadoEmpleado[] ESTADOS = EstadoEmpleado.values();
+
+    @Inject
+    RepositorioEmpleado repositorioEmpleado;
+
+    // Un LongAdder por estado: los incrementos concurrentes se reparten en
+    // celdas en lugar de competir por un único valor
+    private volatile ConcurrentHashMap<String, LongAdder[]> contadores = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime ultimaReconciliacion;
+
+    /**
+     * Suma un empleado al departamento y estado indicados
+     */
+    public void incrementar(String departamento, EstadoEmpleado estado) {
+        contador(departamento, estado).increment();
+    }
+
+    /**
+     * Resta un empleado del departamento y estado indicados
+     */
+    public void decrementar(String departamento, EstadoEmpleado estado) {
+        contador(departamento, estado).decrement();
+    }
+
+    /**
+     * Mueve un empleado de un departamento y estado a otros
+     */
+    public void mover(String departamentoAnterior, EstadoEmpleado estadoAnterior,
+            String departamentoNuevo, EstadoEmpleado estadoNuevo) {
+        if (estadoAnterior == estadoNuevo && departamentoAnterior.equals(departamentoNuevo)) {
+            return;
+        }
+        decrementar(departamentoAnterior, estadoAnterior);
+        incrementar(departamentoNuevo, estadoNuevo);
+    }
+
+    /**
+     * Mueve varios empleados de un departamento de un estado a otro
+     */
+    public void cambiarEstado(String departamento, EstadoEmpleado estadoAnterior, EstadoEmpleado estadoNuevo,
+            long cantidad) {
+        if (estadoAnterior == estadoNuevo) {
+            return;
+        }
+        contador(departamento, estadoAnterior).add(-cantidad);
+        contador(departamento, estadoNuevo).add(cantidad);
+    }
+
+    /**
+     * Lee los contadores actuales. El costo depende solo de la cantidad de
+     * departamentos y nunca consulta la base de datos
+     */
+    public ConteoPlantilla obtener() {
+        Map<String, Map<EstadoEmpleado, Long>> porDepartamento = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<String, LongAdder[]> entrada : contadores.entrySet()) {
+            Map<EstadoEmpleado, Long> porEstado = new EnumMap<>(EstadoEmpleado.class);
+            long totalDepartamento = 0;
+            for (EstadoEmpleado estado : ESTADOS) {
+                // Un decremento puede adelantarse a su incremento entre reconciliaciones
+                long cantidad = Math.max(0, entrada.getValue()[estado.ordinal()].sum());
+                porEstado.put(estado, cantidad);
+                totalDepartamento += cantidad;
+            }
+            if (totalDepartamento > 0) {
+                porDepartamento.put(entrada.getKey(), porEstado);
+                total += totalDepartamento;
+            }
+        }
+        return new ConteoPlantilla(porDepartamento, total, ultimaReconciliacion);
+    }
+
+    /**
+     * Recalcula los contadores en MongoDB y reemplaza los de memoria. Los
+     * ajustes que lleguen mientras se calcula se pierden y los corrige la
+     * siguiente reconciliación
+     */
+    @Scheduled(every = "${empleados.contadores.reconciliacion}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void reconciliar() {
+        LocalDateTime inicio = LocalDateTime.now();
+        ConcurrentHashMap<String, LongAdder[]> reales = new ConcurrentHashMap<>();
+        for (EstadisticaPlantilla estadistica : repositorioEmpleado.calcularEstadisticas(FiltroEmpleados.todos())) {
+            reales.computeIfAbsent(estadistica.getDepartamento(), d -> nuevosContadores())[estadistica
+                    .getEstado().ordinal()].add(estadistica.getCantidadEmpleados());
+        }
+        contadores = reales;
+        ultimaReconciliacion = inicio;
+        LOG.debugf("Contadores de plantilla reconciliados: %d departamentos", reales.size());
+    }
+
+    private LongAdder contador(String departamento, EstadoEmpleado estado) {
+        return contadores.computeIfAbsent(departamento, d -> nuevosContadores())[estado.ordinal()];
+    }
+
+    private static LongAdder[] nuevosContadores() {
+        LongAdder[] porEstado = new LongAdder[ESTADOS.length];
+        for (int i = 0; i < porEstado.length; i++) {
+            porEstado[i] = new LongAdder();
+        }
+        return porEstado;
+    }
+}
@@ -0,0 +1,455 @@
+package devbitsve.aplicacion.servicio;
+
+import devbitsve.dominio.modelo.CampoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.SugerenciaEmpleado;
+import devbitsve.dominio.modelo.TerminosBusqueda;
+import devbitsve.dominio.modelo.VistaEmpleado;
+import devbitsve.dominio.puerto.RepositorioEmpleado;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria de los nombres de los empleados para autocompletar sin
+ * consultar la base de datos.
+ * Cada palabra normalizada del nombre completo (según {@link TerminosBusqueda})
+ * apunta a una lista ordenada de posiciones enteras; las palabras se guardan en
+ * un árbol ordenado, de modo que un prefijo es un rango contiguo de palabras.
+ * Se construye al arrancar recorriendo la colección, en un hilo aparte para no
+ * retrasar el arranque, lo mantienen al día las mutaciones de
+ * {@link ServicioEmpleado} y se reconstruye periódicamente para recoger los
+ * cambios hechos por otras réplicas.
+ */
+@ApplicationScoped
+public class IndiceAutocompletado {
+
+    private static final Logger LOG = Logger.getLogger(IndiceAutocompletado.class);
+
+    /**
+     * Candidatos que se evalúan por cada sugerencia pedida antes de ordenarlos
+     * por relevancia, igual que en la búsqueda en MongoDB
+     */
+    private static final int CANDIDATOS_POR_RESULTADO = 4;
+
+    private static final Set<CampoEmpleado> CAMPOS_NOMBRE = EnumSet.of(CampoEmpleado.NOMBRE, CampoEmpleado.APELLIDOS);
+
+    @Inject
+    RepositorioEmpleado repositorioEmpleado;
+
+    @Inject
+    MeterRegistry registroMetricas;
+
+    @ConfigProperty(name = "empleados.autocompletado.habilitado", defaultValue = "true")
+    boolean habilitado;
+
+    /**
+     * Si es true la primera construcción se hace en un hilo aparte y la
+     * aplicación arranca sin esperar; mientras tanto no está listo
+     */
+    @ConfigProperty(name = "empleados.autocompletado.construir-en-segundo-plano", defaultValue = "true")
+    boolean construirEnSegundoPlano;
+
+    private volatile boolean construido;
+
+    private final ReentrantReadWriteLock candado = new ReentrantReadWriteLock();
+
+    // Protegidos por el candado
+    private Estructura estructura = new Estructura();
+    private List<Consumer<Estructura>> pendientes;
+
+    @PostConstruct
+    void iniciar() {
+        Gauge.builder("empleados.autocompletado.nombres", this, IndiceAutocompletado::cantidad)
+                .description("Empleados en el índice de autocompletado")
+                .register(registroMetricas);
+        Gauge.builder("empleados.autocompletado.memoria", this, IndiceAutocompletado::estimarMemoriaBytes)
+                .description("Memoria estimada del índice de autocompletado")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registroMetricas);
+    }
+
+    void alIniciar(@Observes StartupEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        if (construirEnSegundoPlano) {
+            Thread.ofVirtual().name("construccion-autocompletado").start(this::construirInicial);
+        } else {
+            reconstruir();
+        }
+    }
+
+    private void construirInicial() {
+        try {
+            reconstruir();
+        } catch (RuntimeException e) {
+            LOG.error("No se pudo construir el índice de autocompletado; se reintenta en la próxima reconstrucción", e);
+        }
+    }
+
+    /**
+     * Indica si el índice ya se construyó al menos una vez. Deshabilitado está
+     * siempre listo (y vacío)
+     */
+    public boolean estaListo() {
+        return !habilitado || construido;
+    }
+
+    @Scheduled(every = "${empleados.autocompletado.reconstruccion}", delayed = "${empleados.autocompletado.reconstruccion}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconstruirPeriodicamente() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+
+    /**
+     * Sugiere empleados cuyo nombre tiene palabras que empiezan por las del
+     * texto, de mayor a menor relevancia
+     */
+    public List<SugerenciaEmpleado> buscar(String texto, int limite) {
+        List<String> consulta = TerminosBusqueda.toTerminosConsulta(texto);
+        if (consulta.isEmpty()) {
+            return List.of();
+        }
+
+        candado.readLock().lock();
+        try {
+            return estructura.buscar(consulta, limite);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega un empleado o reemplaza su nombre si ya estaba
+     */
+    public void agregar(String id, InformacionPersonal informacionPersonal) {
+        String nombreCompleto = informacionPersonal.getNombreCompleto();
+        modificar(indice -> indice.agregar(id, nombreCompleto));
+    }
+
+    /**
+     * Quita un empleado; no hace nada si no estaba
+     */
+    public void quitar(String id) {
+        modificar(indice -> indice.quitar(id));
+    }
+
+    /**
+     * Reconstruye el índice recorriendo la colección y leyendo solo el nombre y
+     * los apellidos. Las mutaciones que llegan mientras tanto se aplican al
+     * índice vigente y se repiten sobre el nuevo antes de reemplazarlo
+     */
+    public void reconstruir() {
+        candado.writeLock().lock();
+        try {
+            if (pendientes != null) {
+                return;
+            }
+            pendientes = new ArrayList<>();
+        } finally {
+            candado.writeLock().unlock();
+        }
+
+        Estructura nueva = new Estructura();
+        try (Stream<VistaEmpleado> vistas = repositorioEmpleado.recorrer(FiltroEmpleados.todos(), CAMPOS_NOMBRE)) {
+            vistas.forEach(vista -> nueva.agregar(vista.getId(), toNombreCompleto(vista)));
+        } catch (RuntimeException e) {
+            candado.writeLock().lock();
+            try {
+                pendientes = null;
+            } finally {
+                candado.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int cantidad;
+        candado.writeLock().lock();
+        try {
+            pendientes.forEach(cambio -> cambio.accept(nueva));
+            estructura = nueva;
+            pendientes = null;
+            cantidad = nueva.cantidad();
+            construido = true;
+        } finally {
+            candado.writeLock().unlock();
+        }
+        LOG.infof("Índice de autocompletado construido con %d empleados", cantidad);
+    }
+
+    /**
+     * Cantidad de empleados en el índice
+     */
+    public int cantidad() {
+        candado.readLock().lock();
+        try {
+            return estructura.cantidad();
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    /**
+     * Memoria aproximada que ocupa el índice, en bytes. Se calcula recorriéndolo
+     * con los tamaños habituales de una JVM de 64 bits con referencias
+     * comprimidas y cadenas compactas
+     */
+    public long estimarMemoriaBytes() {
+        candado.readLock().lock();
+        try {
+            return estructura.estimarMemoriaBytes();
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    private void modificar(Consumer<Estructura> cambio) {
+        candado.writeLock().lock();
+        try {
+            cambio.accept(estructura);
+            if (pendientes != null) {
+                pendientes.add(cambio);
+            }
+        } finally {
+            candado.writeLock().unlock();
+        }
+    }
+
+    private String toNombreCompleto(VistaEmpleado vista) {
+        // Igual que InformacionPersonal.getNombreCompleto()
+        Map<CampoEmpleado, Object> valores = vista.getValores();
+        return valores.get(CampoEmpleado.NOMBRE) + " " + valores.get(CampoEmpleado.APELLIDOS);
+    }
+
+    /**
+     * Contenido del índice. No es seguro para hilos: el índice lo protege con su
+     * candado
+     */
+    private static final class Estructura {
+
+        private static final int CAPACIDAD_INICIAL = 1024;
+
+        // Tamaños aproximados (bytes) para estimar la memoria
+        private static final int ENTRADA_ARBOL = 40;
+        private static final int ENTRADA_HASH = 36;
+        private static final int ENTERO = 16;
+        private static final int LISTA = 24;
+
+        private final TreeMap<String, ListaPosiciones> posicionesPorTermino = new TreeMap<>();
+        private final Map<String, Integer> posicionPorId = new HashMap<>();
+        private final ListaPosiciones libres = new ListaPosiciones();
+
+        // Datos de cada posición; una posición liberada se reutiliza
+        private String[] ids = new String[CAPACIDAD_INICIAL];
+        private String[] nombres = new String[CAPACIDAD_INICIAL];
+        private String[][] terminos = new String[CAPACIDAD_INICIAL][];
+        private int usadas;
+
+        void agregar(String id, String nombreCompleto) {
+            quitar(id);
+            int posicion = libres.tamano() > 0 ? libres.extraerUltimo() : siguientePosicion();
+
+            List<String> delNombre = TerminosBusqueda.toTerminos(nombreCompleto);
+            String[] compartidos = new String[delNombre.size()];
+            for (int i = 0; i < compartidos.length; i++) {
+                String termino = delNombre.get(i);
+                // Se reutiliza la cadena de la clave para no guardar una copia por empleado
+                Map.Entry<String, ListaPosiciones> entrada = posicionesPorTermino.ceilingEntry(termino);
+                ListaPosiciones lista;
+                if (entrada != null && entrada.getKey().equals(termino)) {
+                    compartidos[i] = entrada.getKey();
+                    lista = entrada.getValue();
+                } else {
+                    compartidos[i] = termino;
+                    lista = new ListaPosiciones();
+                    posicionesPorTermino.put(termino, lista);
+                }
+                lista.agregar(posicion);
+            }
+
+            ids[posicion] = id;
+            nombres[posicion] = nombreCompleto;
+            terminos[posicion] = compartidos;
+            posicionPorId.put(id, posicion);
+        }
+
+        void quitar(String id) {
+            Integer posicion = posicionPorId.remove(id);
+            if (posicion == null) {
+                return;
+            }
+
+            for (String termino : terminos[posicion]) {
+                ListaPosiciones lista = posicionesPorTermino.get(termino);
+                lista.quitar(posicion);
+                if (lista.tamano() == 0) {
+                    posicionesPorTermino.remove(termino);
+                }
+            }
+            ids[posicion] = null;
+            nombres[posicion] = null;
+            terminos[posicion] = null;
+            libres.agregar(posicion);
+        }
+
+        List<SugerenciaEmpleado> buscar(List<String> consulta, int limite) {
+            // La palabra más larga suele ser la más selectiva: sus términos guían
+            // el recorrido y el resto se comprueba sobre cada candidato
+            String guia = consulta.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+            int maximoCandidatos = limite * CANDIDATOS_POR_RESULTADO;
+
+            // Los términos están ordenados, así que una coincidencia exacta se
+            // recorre antes que las palabras más largas con el mismo prefijo
+            Set<Integer> candidatos = new LinkedHashSet<>();
+            recorrido: for (ListaPosiciones lista : posicionesPorTermino
+                    .subMap(guia, true, guia + Character.MAX_VALUE, false).values()) {
+                for (int i = 0; i < lista.tamano(); i++) {
+                    int posicion = lista.obtener(i);
+                    if (coincide(terminos[posicion], consulta) && candidatos.add(posicion)
+                            && candidatos.size() >= maximoCandidatos) {
+                        break recorrido;
+                    }
+                }
+            }
+
+            return candidatos.stream()
+                    .sorted(Comparator.<Integer>comparingInt(posicion -> -TerminosBusqueda.toRelevancia(
+                            Arrays.asList(terminos[posicion]), List.of(), consulta))
+                            .thenComparing(posicion -> String.join(" ", terminos[posicion]))
+                            .thenComparing(posicion -> ids[posicion]))
+                    .limit(limite)
+                    .map(posicion -> new SugerenciaEmpleado(ids[posicion], nombres[posicion]))
+                    .collect(Collectors.toList());
+        }
+
+        int cantidad() {
+            return posicionPorId.size();
+        }
+
+        long estimarMemoriaBytes() {
+            long bytes = 3L * arreglo(ids.length) + libres.estimarMemoriaBytes();
+            for (Map.Entry<String, ListaPosiciones> entrada : posicionesPorTermino.entrySet()) {
+                bytes += ENTRADA_ARBOL + cadena(entrada.getKey()) + entrada.getValue().estimarMemoriaBytes();
+            }
+            bytes += arreglo(posicionPorId.size() * 4 / 3);
+            for (int posicion = 0; posicion < usadas; posicion++) {
+                if (ids[posicion] != null) {
+                    bytes += ENTRADA_HASH + ENTERO + cadena(ids[posicion]) + cadena(nombres[posicion])
+                            + arreglo(terminos[posicion].length);
+                }
+            }
+            return bytes;
+        }
+
+        private int siguientePosicion() {
+            if (usadas == ids.length) {
+                int capacidad = usadas + (usadas >> 1);
+                ids = Arrays.copyOf(ids, capacidad);
+                nombres = Arrays.copyOf(nombres, capacidad);
+                terminos = Arrays.copyOf(terminos, capacidad);
+            }
+            return usadas++;
+        }
+
+        private static boolean coincide(String[] delEmpleado, List<String> consulta) {
+            for (String termino : consulta) {
+                boolean encontrado = false;
+                for (int i = 0; !encontrado && i < delEmpleado.length; i++) {
+                    encontrado = delEmpleado[i].startsWith(termino);
+                }
+                if (!encontrado) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long cadena(String valor) {
+            // Objeto String más su arreglo de bytes (un byte por carácter latino)
+            return 24 + alinear(16 + valor.length());
+        }
+
+        private static long arreglo(int elementos) {
+            // Cabecera más referencias o enteros de 4 bytes
+            return alinear(16 + 4L * elementos);
+        }
+
+        private static long alinear(long bytes) {
+            return (bytes + 7) & ~7L;
+        }
+    }
+
+    /**
+     * Lista ordenada de posiciones sobre un arreglo de enteros primitivos
+     */
+    private static final class ListaPosiciones {
+
+        private int[] valores = new int[2];
+        private int tamano;
+
+        void agregar(int valor) {
+            int indice = Arrays.binarySearch(valores, 0, tamano, valor);
+            if (indice >= 0) {
+                return;
+            }
+            indice = -indice - 1;
+            if (tamano == valores.length) {
+                valores = Arrays.copyOf(valores, tamano + (tamano >> 1) + 1);
+            }
+            System.arraycopy(valores, indice, valores, indice + 1, tamano - indice);
+            valores[indice] = valor;
+            tamano++;
+        }
+
+        void quitar(int valor) {
+            int indice = Arrays.binarySearch(valores, 0, tamano, valor);
+            if (indice < 0) {
+                return;
+            }
+            System.arraycopy(valores, indice + 1, valores, indice, tamano - indice - 1);
+            tamano--;
+        }
+
+        int extraerUltimo() {
+            return valores[--tamano];
+        }
+
+        int obtener(int indice) {
+            return valores[indice];
+        }
+
+        int tamano() {
+            return tamano;
+        }
+
+        long estimarMemoriaBytes() {
+            return Estructura.LISTA + Estructura.arreglo(valores.length);
+        }
+    }
+}
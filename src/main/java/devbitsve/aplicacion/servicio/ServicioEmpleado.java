@@ -2,45 +2,127 @@ package devbitsve.aplicacion.servicio;
 
 import devbitsve.dominio.modelo.*;
 import devbitsve.dominio.puerto.RepositorioEmpleado;
+import devbitsve.dominio.puerto.RepositorioHistorialCargos;
+import devbitsve.infraestructura.metricas.Medido;
+import io.quarkus.scheduler.Scheduled;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Servicio de aplicación que orquesta los casos de uso relacionados con
  * empleados.
  * Coordina las operaciones del dominio y la persistencia.
  */
+@Medido("servicio")
 @ApplicationScoped
 public class ServicioEmpleado {
 
+    /**
+     * Tamaño máximo de página permitido en los listados
+     */
+    public static final int LIMITE_MAXIMO = 500;
+
+    /**
+     * Empleados con cargos pendientes de historial revisados en cada recuperación
+     */
+    private static final int LOTE_HISTORIAL_PENDIENTE = 500;
+
+    private static final Logger LOG = Logger.getLogger(ServicioEmpleado.class);
+
     @Inject
     RepositorioEmpleado repositorioEmpleado;
 
+    @Inject
+    RepositorioHistorialCargos repositorioHistorialCargos;
+
+    @Inject
+    ContadoresPlantilla contadoresPlantilla;
+
+    @Inject
+    IndiceAutocompletado indiceAutocompletado;
+
     /**
-     * Crea un nuevo empleado en el sistema
+     * Número máximo de empleados aceptados en una creación por lote
+     */
+    @ConfigProperty(name = "empleados.lote.maximo", defaultValue = "10000")
+    int maximoLote;
+
+    /**
+     * Crea un nuevo empleado en el sistema.
+     * La unicidad del documento de identidad la garantiza la persistencia al
+     * insertar, sin una consulta previa
      */
-    @Transactional
     public Empleado crearEmpleado(
             InformacionPersonal informacionPersonal,
             InformacionContacto informacionContacto,
             InformacionLaboral cargoInicial) {
 
-        // Validar que no exista un empleado con el mismo documento
-        if (repositorioEmpleado.existePorDocumentoIdentidad(informacionPersonal.getDocumentoIdentidad())) {
-            throw new IllegalArgumentException(
-                    "Ya existe un empleado con el documento de identidad: " +
-                            informacionPersonal.getDocumentoIdentidad());
-        }
-
         // Crear el empleado
         Empleado empleado = new Empleado(informacionPersonal, informacionContacto, cargoInicial);
 
         // Persistir
-        return repositorioEmpleado.guardar(empleado);
+        Empleado guardado = repositorioEmpleado.guardar(empleado);
+        contadoresPlantilla.incrementar(departamentoDe(guardado), guardado.getEstado());
+        indiceAutocompletado.agregar(guardado.getId(), guardado.getInformacionPersonal());
+        return guardado;
+    }
+
+    /**
+     * Crea un lote de empleados. Cada solicitud construye (y con ello valida) un
+     * empleado; las inválidas y las que tienen documento duplicado se reportan
+     * en su resultado sin afectar al resto
+     */
+    public List<ResultadoCreacion> crearEmpleados(List<Supplier<Empleado>> solicitudes) {
+        if (solicitudes.size() > maximoLote) {
+            throw new IllegalArgumentException(
+                    "El lote excede el máximo de " + maximoLote + " empleados");
+        }
+
+        int total = solicitudes.size();
+        Empleado[] validos = new Empleado[total];
+        ResultadoCreacion[] resultados = new ResultadoCreacion[total];
+
+        // Validar cada solicitud es barato: se hace en el hilo de la petición
+        for (int i = 0; i < total; i++) {
+            try {
+                validos[i] = solicitudes.get(i).get();
+            } catch (IllegalArgumentException e) {
+                resultados[i] = ResultadoCreacion.fallido(i, e.getMessage());
+            }
+        }
+
+        List<Empleado> aGuardar = new ArrayList<>(total);
+        List<Integer> posiciones = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            if (validos[i] != null) {
+                aGuardar.add(validos[i]);
+                posiciones.add(i);
+            }
+        }
+
+        if (!aGuardar.isEmpty()) {
+            for (ResultadoCreacion resultado : repositorioEmpleado.guardarTodos(aGuardar)) {
+                Empleado guardado = aGuardar.get(resultado.getIndice());
+                int posicion = posiciones.get(resultado.getIndice());
+                resultados[posicion] = resultado.conIndice(posicion);
+                if (resultado.esExitoso()) {
+                    contadoresPlantilla.incrementar(departamentoDe(guardado), guardado.getEstado());
+                    indiceAutocompletado.agregar(resultado.getId(), guardado.getInformacionPersonal());
+                }
+            }
+        }
+        return Arrays.asList(resultados);
     }
 
     /**
@@ -50,6 +132,47 @@ public class ServicioEmpleado {
         return repositorioEmpleado.buscarPorId(id);
     }
 
+    /**
+     * Busca un empleado por su ID en la versión que indica su marca de
+     * actualización, aunque haya una copia anterior en caché
+     */
+    public Optional<Empleado> buscarEmpleadoVigente(String id, MarcaActualizacion marca) {
+        return repositorioEmpleado.buscarPorIdVigente(id, marca);
+    }
+
+    /**
+     * Busca empleados por nombre, apellidos o email para sugerirlos mientras se
+     * escribe. Cada palabra del texto debe ser el inicio de una palabra del
+     * empleado; no distingue mayúsculas ni acentos
+     */
+    public List<Empleado> buscarEmpleados(String texto, int limite) {
+        int limiteValido = validarLimite(limite);
+        if (texto == null || texto.isBlank()) {
+            throw new IllegalArgumentException("El texto de búsqueda es requerido");
+        }
+        return repositorioEmpleado.buscarPorTexto(texto, limiteValido);
+    }
+
+    /**
+     * Sugiere empleados por su nombre completo desde el índice en memoria, sin
+     * consultar la base de datos. Mismas reglas de coincidencia y relevancia
+     * que {@link #buscarEmpleados(String, int)}, sin el email. Mientras el
+     * índice se construye responde la búsqueda en MongoDB
+     */
+    public List<SugerenciaEmpleado> autocompletar(String texto, int limite) {
+        int limiteValido = validarLimite(limite);
+        if (texto == null || texto.isBlank()) {
+            throw new IllegalArgumentException("El texto de búsqueda es requerido");
+        }
+        if (!indiceAutocompletado.estaListo()) {
+            return repositorioEmpleado.buscarPorTexto(texto, limiteValido).stream()
+                    .map(empleado -> new SugerenciaEmpleado(empleado.getId(),
+                            empleado.getInformacionPersonal().getNombreCompleto()))
+                    .collect(Collectors.toList());
+        }
+        return indiceAutocompletado.buscar(texto, limiteValido);
+    }
+
     /**
      * Busca un empleado por su documento de identidad
      */
@@ -58,115 +181,277 @@ public class ServicioEmpleado {
     }
 
     /**
-     * Obtiene todos los empleados
+     * Busca un empleado por su ID leyendo solo los campos indicados
      */
-    public List<Empleado> obtenerTodosLosEmpleados() {
-        return repositorioEmpleado.obtenerTodos();
+    public Optional<VistaEmpleado> buscarVistaPorId(String id, Set<CampoEmpleado> campos) {
+        return repositorioEmpleado.buscarPorId(id, campos);
     }
 
     /**
-     * Obtiene empleados por estado
+     * Busca un empleado por su documento de identidad leyendo solo los campos
+     * indicados
      */
-    public List<Empleado> obtenerEmpleadosPorEstado(EstadoEmpleado estado) {
-        return repositorioEmpleado.buscarPorEstado(estado);
+    public Optional<VistaEmpleado> buscarVistaPorDocumento(String documentoIdentidad, Set<CampoEmpleado> campos) {
+        return repositorioEmpleado.buscarPorDocumentoIdentidad(documentoIdentidad, campos);
     }
 
     /**
-     * Obtiene empleados por departamento
+     * Obtiene una página de empleados que cumplen el filtro, leyendo solo los
+     * campos indicados
      */
-    public List<Empleado> obtenerEmpleadosPorDepartamento(String departamento) {
-        return repositorioEmpleado.buscarPorDepartamento(departamento);
+    public Pagina<VistaEmpleado> obtenerVistas(FiltroEmpleados filtro, String despuesDe, int limite,
+            Set<CampoEmpleado> campos) {
+        return repositorioEmpleado.buscarPagina(filtro, despuesDe, validarLimite(limite), campos);
     }
 
     /**
-     * Actualiza la información personal de un empleado
+     * Obtiene una página de empleados
      */
-    @Transactional
-    public Empleado actualizarInformacionPersonal(String id, InformacionPersonal nuevaInformacion) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public Pagina<Empleado> obtenerEmpleados(String despuesDe, int limite) {
+        return repositorioEmpleado.buscarPagina(FiltroEmpleados.todos(), despuesDe, validarLimite(limite));
+    }
 
-        empleado.actualizarInformacionPersonal(nuevaInformacion);
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Obtiene una página de empleados por estado
+     */
+    public Pagina<Empleado> obtenerEmpleadosPorEstado(EstadoEmpleado estado, String despuesDe, int limite) {
+        return repositorioEmpleado.buscarPagina(FiltroEmpleados.porEstado(estado), despuesDe, validarLimite(limite));
     }
 
     /**
-     * Actualiza la información de contacto de un empleado
+     * Obtiene una página de empleados por departamento
      */
-    @Transactional
-    public Empleado actualizarInformacionContacto(String id, InformacionContacto nuevaInformacion) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public Pagina<Empleado> obtenerEmpleadosPorDepartamento(String departamento, String despuesDe, int limite) {
+        return repositorioEmpleado.buscarPagina(
+                FiltroEmpleados.porDepartamento(departamento), despuesDe, validarLimite(limite));
+    }
 
-        empleado.actualizarInformacionContacto(nuevaInformacion);
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Obtiene una página de empleados que cumplen todos los criterios del
+     * filtro. Con un rango la página sale ordenada por el campo del rango y
+     * luego por ID; sin rangos, por ID
+     */
+    public Pagina<Empleado> obtenerEmpleadosFiltrados(FiltroEmpleados filtro, String despuesDe, int limite) {
+        return repositorioEmpleado.buscarPagina(filtro, despuesDe, validarLimite(limite));
     }
 
     /**
-     * Cambia el cargo de un empleado
+     * Busca la marca de actualización de un empleado, sin cargarlo
      */
-    @Transactional
-    public Empleado cambiarCargo(String id, InformacionLaboral nuevoCargo) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public Optional<MarcaActualizacion> buscarMarcaActualizacion(String id) {
+        return repositorioEmpleado.buscarMarcaActualizacion(id);
+    }
 
-        empleado.cambiarCargo(nuevoCargo);
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Obtiene las marcas de actualización de una página de empleados, sin
+     * cargarlos
+     */
+    public Pagina<MarcaActualizacion> obtenerMarcasPagina(FiltroEmpleados filtro, String despuesDe, int limite) {
+        return repositorioEmpleado.buscarMarcasPagina(filtro, despuesDe, validarLimite(limite));
     }
 
     /**
-     * Cambia el estado de un empleado
+     * Obtiene la cantidad de empleados y el resumen salarial por departamento y
+     * estado de los empleados que cumplen el filtro
      */
-    @Transactional
-    public Empleado cambiarEstado(String id, EstadoEmpleado nuevoEstado) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public List<EstadisticaPlantilla> obtenerEstadisticas(FiltroEmpleados filtro) {
+        return repositorioEmpleado.calcularEstadisticas(filtro);
+    }
 
-        empleado.cambiarEstado(nuevoEstado);
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Recorre los empleados que cumplen el filtro para exportarlos.
+     * El stream debe cerrarse al terminar
+     */
+    public Stream<Empleado> exportarEmpleados(FiltroEmpleados filtro) {
+        return repositorioEmpleado.recorrer(filtro);
     }
 
     /**
-     * Desactiva un empleado
+     * Recorre los empleados que cumplen el filtro para exportar solo los campos
+     * indicados. El stream debe cerrarse al terminar
      */
-    @Transactional
-    public Empleado desactivarEmpleado(String id) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public Stream<VistaEmpleado> exportarVistas(FiltroEmpleados filtro, Set<CampoEmpleado> campos) {
+        return repositorioEmpleado.recorrer(filtro, campos);
+    }
 
-        empleado.desactivar();
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Actualiza la información personal de un empleado. Con versionEsperada
+     * solo se aplica si el empleado sigue en esa versión
+     */
+    public Empleado actualizarInformacionPersonal(String id, InformacionPersonal nuevaInformacion,
+            Long versionEsperada) {
+        validarRequerido(nuevaInformacion, "Información personal");
+        Empleado actualizado = repositorioEmpleado.actualizarInformacionPersonal(id, nuevaInformacion, versionEsperada)
+                .orElseThrow(() -> empleadoNoEncontrado(id));
+        indiceAutocompletado.agregar(id, actualizado.getInformacionPersonal());
+        return actualizado;
     }
 
     /**
-     * Reactiva un empleado
+     * Actualiza la información de contacto de un empleado. Con versionEsperada
+     * solo se aplica si el empleado sigue en esa versión
      */
-    @Transactional
-    public Empleado reactivarEmpleado(String id) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    public Empleado actualizarInformacionContacto(String id, InformacionContacto nuevaInformacion,
+            Long versionEsperada) {
+        validarRequerido(nuevaInformacion, "Información de contacto");
+        return repositorioEmpleado.actualizarInformacionContacto(id, nuevaInformacion, versionEsperada)
+                .orElseThrow(() -> empleadoNoEncontrado(id));
+    }
 
-        empleado.reactivar();
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Cambia el cargo de un empleado con una única escritura atómica, sin leerlo
+     * antes. Con versionEsperada solo se aplica si el empleado sigue en esa
+     * versión.
+     * La escritura deja el cargo finalizado pendiente en el empleado; luego se
+     * agrega al historial y se confirma. Si eso falla el cambio ya está hecho y
+     * se responde igual: el cargo pendiente lo registra
+     * {@link #completarHistorialPendiente()}
+     */
+    public Empleado cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        validarRequerido(nuevoCargo, "Nuevo cargo");
+        CambioCargo cambio = repositorioEmpleado.cambiarCargo(id, nuevoCargo, versionEsperada)
+                .orElseThrow(() -> empleadoNoEncontrado(id));
+
+        Empleado actualizado = cambio.getEmpleado();
+        contadoresPlantilla.mover(cambio.getCargoFinalizado().getDepartamento(), actualizado.getEstado(),
+                departamentoDe(actualizado), actualizado.getEstado());
+        try {
+            registrarEnHistorial(id, cambio.getCargoFinalizado());
+        } catch (RuntimeException e) {
+            LOG.warnf(e, "El cargo finalizado del empleado %s queda pendiente de pasar al historial", id);
+        }
+        return actualizado;
     }
 
     /**
-     * Pone un empleado en licencia
+     * Agrega al historial los cargos finalizados que quedaron pendientes porque
+     * su registro falló tras el cambio de cargo. Registrar es idempotente, así
+     * que repetirlo tras una confirmación fallida no duplica el cargo
      */
-    @Transactional
-    public Empleado ponerEmpleadoEnLicencia(String id) {
-        Empleado empleado = repositorioEmpleado.buscarPorId(id)
-                .orElseThrow(() -> new IllegalArgumentException("Empleado no encontrado con ID: " + id));
+    @Scheduled(every = "${empleados.historial.recuperacion}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void completarHistorialPendiente() {
+        for (CargoPendienteHistorial pendiente
+                : repositorioEmpleado.buscarCargosPendientesDeHistorial(LOTE_HISTORIAL_PENDIENTE)) {
+            try {
+                registrarEnHistorial(pendiente.getEmpleadoId(), pendiente.getCargo());
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "No se pudo completar el historial del empleado %s", pendiente.getEmpleadoId());
+            }
+        }
+    }
 
-        empleado.ponerEnLicencia();
-        return repositorioEmpleado.actualizar(empleado);
+    /**
+     * Obtiene una página del historial de cargos de un empleado, del más
+     * reciente al más antiguo, o Optional.empty() si el empleado no existe
+     */
+    public Optional<Pagina<InformacionLaboral>> obtenerHistorialCargos(String id, String despuesDe, int limite) {
+        int limiteValido = validarLimite(limite);
+        if (repositorioEmpleado.buscarMarcaActualizacion(id).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(repositorioHistorialCargos.buscarPagina(id, despuesDe, limiteValido));
+    }
+
+    /**
+     * Cambia el estado de un empleado. Con versionEsperada solo se aplica si el
+     * empleado sigue en esa versión
+     */
+    public Empleado cambiarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        validarRequerido(nuevoEstado, "Estado");
+        // El estado anterior sale de la misma escritura, sin leer el empleado antes
+        CambioEstado cambio = repositorioEmpleado.actualizarEstado(id, nuevoEstado, versionEsperada)
+                .orElseThrow(() -> empleadoNoEncontrado(id));
+        Empleado actualizado = cambio.getEmpleado();
+        contadoresPlantilla.mover(departamentoDe(actualizado), cambio.getEstadoAnterior(),
+                departamentoDe(actualizado), actualizado.getEstado());
+        return actualizado;
+    }
+
+    /**
+     * Cambia el estado de todos los empleados que cumplen el filtro en una sola
+     * operación. Exige al menos un criterio para no alterar a toda la plantilla
+     * por accidente
+     */
+    public ResultadoActualizacionMasiva cambiarEstadoMasivo(FiltroEmpleados filtro, EstadoEmpleado nuevoEstado) {
+        validarRequerido(nuevoEstado, "Estado");
+        if (filtro == null || filtro.estaVacio()) {
+            throw new IllegalArgumentException("El cambio masivo requiere al menos un criterio de filtro");
+        }
+        ResultadoActualizacionMasiva resultado = repositorioEmpleado.actualizarEstadoMasivo(filtro, nuevoEstado);
+        // Ajuste incremental con los estados anteriores contados antes de
+        // escribir; lo que cambie entre el conteo y la escritura lo corrige la
+        // reconciliación periódica
+        resultado.getCambiadosPorDepartamento().forEach((departamento, porEstado) -> porEstado.forEach(
+                (estadoAnterior, cantidad) -> contadoresPlantilla.cambiarEstado(
+                        departamento, estadoAnterior, nuevoEstado, cantidad)));
+        return resultado;
+    }
+
+    /**
+     * Desactiva un empleado
+     */
+    public Empleado desactivarEmpleado(String id, Long versionEsperada) {
+        return cambiarEstado(id, EstadoEmpleado.INACTIVO, versionEsperada);
+    }
+
+    /**
+     * Reactiva un empleado
+     */
+    public Empleado reactivarEmpleado(String id, Long versionEsperada) {
+        return cambiarEstado(id, EstadoEmpleado.ACTIVO, versionEsperada);
+    }
+
+    /**
+     * Pone un empleado en licencia
+     */
+    public Empleado ponerEmpleadoEnLicencia(String id, Long versionEsperada) {
+        return cambiarEstado(id, EstadoEmpleado.LICENCIA, versionEsperada);
     }
 
     /**
      * Elimina un empleado del sistema
      */
-    @Transactional
     public boolean eliminarEmpleado(String id) {
-        return repositorioEmpleado.eliminar(id);
+        Optional<EmpleadoEliminado> eliminado = repositorioEmpleado.eliminar(id);
+        eliminado.ifPresent(e -> {
+            repositorioHistorialCargos.eliminar(id);
+            contadoresPlantilla.decrementar(e.getDepartamento(), e.getEstado());
+            indiceAutocompletado.quitar(id);
+        });
+        return eliminado.isPresent();
+    }
+
+    /**
+     * Obtiene la cantidad de empleados por departamento y estado desde los
+     * contadores en memoria, sin consultar la base de datos
+     */
+    public ConteoPlantilla obtenerContadores() {
+        return contadoresPlantilla.obtener();
+    }
+
+    private void registrarEnHistorial(String id, InformacionLaboral cargoFinalizado) {
+        repositorioHistorialCargos.registrar(id, cargoFinalizado);
+        repositorioEmpleado.confirmarCargoEnHistorial(id, cargoFinalizado);
+    }
+
+    private void validarRequerido(Object valor, String nombreCampo) {
+        if (valor == null) {
+            throw new IllegalArgumentException(nombreCampo + " es requerido");
+        }
+    }
+
+    private String departamentoDe(Empleado empleado) {
+        return empleado.getCargoActual().getDepartamento();
+    }
+
+    private IllegalArgumentException empleadoNoEncontrado(String id) {
+        return new IllegalArgumentException("Empleado no encontrado con ID: " + id);
+    }
+
+    private int validarLimite(int limite) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("El límite debe ser mayor a cero");
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
     }
 }
@@ -0,0 +1,191 @@
+package devbitsve.aplicacion.servicio;
+
+import devbitsve.dominio.modelo.*;
+import devbitsve.dominio.puerto.RepositorioEmpleadoReactivo;
+import devbitsve.dominio.puerto.RepositorioHistorialCargosReactivo;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.Optional;
+
+/**
+ * Versión reactiva del servicio de aplicación de empleados.
+ * Orquesta los mismos casos de uso que {@link ServicioEmpleado} componiendo
+ * operaciones no bloqueantes, para que el event loop atienda otras peticiones
+ * mientras MongoDB responde. Mantiene al día los mismos contadores e índice de
+ * autocompletado, que se ajustan en memoria sin bloquear.
+ */
+@ApplicationScoped
+public class ServicioEmpleadoReactivo {
+
+    private static final Logger LOG = Logger.getLogger(ServicioEmpleadoReactivo.class);
+
+    @Inject
+    RepositorioEmpleadoReactivo repositorioEmpleado;
+
+    @Inject
+    RepositorioHistorialCargosReactivo repositorioHistorialCargos;
+
+    @Inject
+    ContadoresPlantilla contadoresPlantilla;
+
+    @Inject
+    IndiceAutocompletado indiceAutocompletado;
+
+    /**
+     * Crea un nuevo empleado en el sistema.
+     * La unicidad del documento de identidad la garantiza la persistencia al
+     * insertar, sin una consulta previa
+     */
+    public Uni<Empleado> crearEmpleado(
+            InformacionPersonal informacionPersonal,
+            InformacionContacto informacionContacto,
+            InformacionLaboral cargoInicial) {
+
+        Empleado empleado = new Empleado(informacionPersonal, informacionContacto, cargoInicial);
+        return repositorioEmpleado.guardar(empleado)
+                .invoke(guardado -> {
+                    contadoresPlantilla.incrementar(departamentoDe(guardado), guardado.getEstado());
+                    indiceAutocompletado.agregar(guardado.getId(), guardado.getInformacionPersonal());
+                });
+    }
+
+    /**
+     * Busca un empleado por su ID
+     */
+    public Uni<Optional<Empleado>> buscarEmpleadoPorId(String id) {
+        return repositorioEmpleado.buscarPorId(id);
+    }
+
+    /**
+     * Busca un empleado por su documento de identidad
+     */
+    public Uni<Optional<Empleado>> buscarEmpleadoPorDocumento(String documentoIdentidad) {
+        return repositorioEmpleado.buscarPorDocumentoIdentidad(documentoIdentidad);
+    }
+
+    /**
+     * Obtiene una página de empleados que cumplen el filtro
+     */
+    public Uni<Pagina<Empleado>> obtenerEmpleados(FiltroEmpleados filtro, String despuesDe, int limite) {
+        if (limite < 1) {
+            return Uni.createFrom().failure(new IllegalArgumentException("El límite debe ser mayor a cero"));
+        }
+        return repositorioEmpleado.buscarPagina(filtro, despuesDe,
+                Math.min(limite, ServicioEmpleado.LIMITE_MAXIMO));
+    }
+
+    /**
+     * Recorre los empleados que cumplen el filtro para exportarlos
+     */
+    public Multi<Empleado> exportarEmpleados(FiltroEmpleados filtro) {
+        return repositorioEmpleado.recorrer(filtro);
+    }
+
+    /**
+     * Actualiza la información personal de un empleado con una única escritura
+     * atómica, sin leerlo antes. Con versionEsperada solo se aplica si el
+     * empleado sigue en esa versión
+     */
+    public Uni<Empleado> actualizarInformacionPersonal(String id, InformacionPersonal nuevaInformacion,
+            Long versionEsperada) {
+        if (nuevaInformacion == null) {
+            return requerido("Información personal");
+        }
+        return repositorioEmpleado.actualizarInformacionPersonal(id, nuevaInformacion, versionEsperada)
+                .map(actualizado -> actualizado.orElseThrow(() -> empleadoNoEncontrado(id)))
+                .invoke(actualizado -> indiceAutocompletado.agregar(id, actualizado.getInformacionPersonal()));
+    }
+
+    /**
+     * Actualiza la información de contacto de un empleado con una única
+     * escritura atómica, sin leerlo antes. Con versionEsperada solo se aplica si
+     * el empleado sigue en esa versión
+     */
+    public Uni<Empleado> actualizarInformacionContacto(String id, InformacionContacto nuevaInformacion,
+            Long versionEsperada) {
+        if (nuevaInformacion == null) {
+            return requerido("Información de contacto");
+        }
+        return repositorioEmpleado.actualizarInformacionContacto(id, nuevaInformacion, versionEsperada)
+                .map(actualizado -> actualizado.orElseThrow(() -> empleadoNoEncontrado(id)));
+    }
+
+    /**
+     * Cambia el cargo de un empleado con una única escritura atómica, sin leerlo
+     * antes. Con versionEsperada solo se aplica si el empleado sigue en esa
+     * versión.
+     * La escritura deja el cargo finalizado pendiente en el empleado; luego se
+     * agrega al historial y se confirma. Si eso falla el cambio ya está hecho y
+     * se responde igual: el cargo pendiente lo registra
+     * {@link ServicioEmpleado#completarHistorialPendiente()}
+     */
+    public Uni<Empleado> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        if (nuevoCargo == null) {
+            return requerido("Nuevo cargo");
+        }
+        return repositorioEmpleado.cambiarCargo(id, nuevoCargo, versionEsperada)
+                .map(cambio -> cambio.orElseThrow(() -> empleadoNoEncontrado(id)))
+                .invoke(cambio -> contadoresPlantilla.mover(
+                        cambio.getCargoFinalizado().getDepartamento(), cambio.getEmpleado().getEstado(),
+                        departamentoDe(cambio.getEmpleado()), cambio.getEmpleado().getEstado()))
+                .call(cambio -> registrarEnHistorial(id, cambio.getCargoFinalizado())
+                        .onFailure().invoke(e -> LOG.warnf(e,
+                                "El cargo finalizado del empleado %s queda pendiente de pasar al historial", id))
+                        .onFailure().recoverWithNull())
+                .map(CambioCargo::getEmpleado);
+    }
+
+    /**
+     * Cambia el estado de un empleado con una única escritura atómica, sin
+     * leerlo antes. Con versionEsperada solo se aplica si el empleado sigue en
+     * esa versión
+     */
+    public Uni<Empleado> cambiarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        if (nuevoEstado == null) {
+            return requerido("Estado");
+        }
+        // El estado anterior sale de la misma escritura, sin leer el empleado antes
+        return repositorioEmpleado.actualizarEstado(id, nuevoEstado, versionEsperada)
+                .map(cambio -> cambio.orElseThrow(() -> empleadoNoEncontrado(id)))
+                .invoke(cambio -> contadoresPlantilla.mover(
+                        departamentoDe(cambio.getEmpleado()), cambio.getEstadoAnterior(),
+                        departamentoDe(cambio.getEmpleado()), nuevoEstado))
+                .map(CambioEstado::getEmpleado);
+    }
+
+    /**
+     * Elimina un empleado del sistema
+     */
+    public Uni<Boolean> eliminarEmpleado(String id) {
+        return repositorioEmpleado.eliminar(id)
+                .call(eliminado -> eliminado.isPresent()
+                        ? repositorioHistorialCargos.eliminar(id)
+                        : Uni.createFrom().voidItem())
+                .invoke(eliminado -> eliminado.ifPresent(e -> {
+                    contadoresPlantilla.decrementar(e.getDepartamento(), e.getEstado());
+                    indiceAutocompletado.quitar(id);
+                }))
+                .map(Optional::isPresent);
+    }
+
+    private Uni<Void> registrarEnHistorial(String id, InformacionLaboral cargoFinalizado) {
+        return repositorioHistorialCargos.registrar(id, cargoFinalizado)
+                .call(() -> repositorioEmpleado.confirmarCargoEnHistorial(id, cargoFinalizado));
+    }
+
+    private String departamentoDe(Empleado empleado) {
+        return empleado.getCargoActual().getDepartamento();
+    }
+
+    private <T> Uni<T> requerido(String nombreCampo) {
+        return Uni.createFrom().failure(new IllegalArgumentException(nombreCampo + " es requerido"));
+    }
+
+    private IllegalArgumentException empleadoNoEncontrado(String id) {
+        return new IllegalArgumentException("Empleado no encontrado con ID: " + id);
+    }
+}
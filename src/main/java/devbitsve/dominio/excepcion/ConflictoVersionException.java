@@ -0,0 +1,25 @@
+package devbitsve.dominio.excepcion;
+
+/**
+ * Se lanza cuando se intenta modificar un empleado a partir de una versión que
+ * ya no es la vigente: otro escritor lo modificó después de que se leyera.
+ */
+public class ConflictoVersionException extends RuntimeException {
+
+    private final String id;
+    private final long versionEsperada;
+
+    public ConflictoVersionException(String id, long versionEsperada) {
+        super("El empleado " + id + " fue modificado por otra operación (versión esperada: " + versionEsperada + ")");
+        this.id = id;
+        this.versionEsperada = versionEsperada;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getVersionEsperada() {
+        return versionEsperada;
+    }
+}
@@ -0,0 +1,20 @@
+package devbitsve.dominio.excepcion;
+
+/**
+ * Se lanza cuando el documento de identidad de un empleado ya pertenece a otro.
+ * Es un IllegalArgumentException para que quien solo distingue datos inválidos
+ * siga tratándolo como tal.
+ */
+public class DocumentoDuplicadoException extends IllegalArgumentException {
+
+    private final String documentoIdentidad;
+
+    public DocumentoDuplicadoException(String documentoIdentidad) {
+        super("Ya existe un empleado con el documento de identidad: " + documentoIdentidad);
+        this.documentoIdentidad = documentoIdentidad;
+    }
+
+    public String getDocumentoIdentidad() {
+        return documentoIdentidad;
+    }
+}
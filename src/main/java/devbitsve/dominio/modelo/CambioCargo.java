@@ -0,0 +1,38 @@
+package devbitsve.dominio.modelo;
+
+/**
+ * Value Object que representa un cambio de cargo ya aplicado: el empleado con
+ * su nuevo cargo actual y el cargo que se finalizó, que pasa al historial.
+ */
+public class CambioCargo {
+
+    private final Empleado empleado;
+    private final InformacionLaboral cargoFinalizado;
+
+    public CambioCargo(Empleado empleado, InformacionLaboral cargoFinalizado) {
+        this.empleado = empleado;
+        this.cargoFinalizado = cargoFinalizado;
+    }
+
+    /**
+     * Empleado tras el cambio
+     */
+    public Empleado getEmpleado() {
+        return empleado;
+    }
+
+    /**
+     * Cargo anterior, con su fecha de fin
+     */
+    public InformacionLaboral getCargoFinalizado() {
+        return cargoFinalizado;
+    }
+
+    @Override
+    public String toString() {
+        return "CambioCargo{" +
+                "empleado=" + empleado +
+                ", cargoFinalizado=" + cargoFinalizado +
+                '}';
+    }
+}
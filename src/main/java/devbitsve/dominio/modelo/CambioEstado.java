@@ -0,0 +1,38 @@
+package devbitsve.dominio.modelo;
+
+/**
+ * Value Object que representa un cambio de estado ya aplicado: el empleado con
+ * su nuevo estado y el estado que tenía justo antes de la escritura.
+ */
+public class CambioEstado {
+
+    private final Empleado empleado;
+    private final EstadoEmpleado estadoAnterior;
+
+    public CambioEstado(Empleado empleado, EstadoEmpleado estadoAnterior) {
+        this.empleado = empleado;
+        this.estadoAnterior = estadoAnterior;
+    }
+
+    /**
+     * Empleado tras el cambio
+     */
+    public Empleado getEmpleado() {
+        return empleado;
+    }
+
+    /**
+     * Estado que tenía el empleado al aplicarse el cambio
+     */
+    public EstadoEmpleado getEstadoAnterior() {
+        return estadoAnterior;
+    }
+
+    @Override
+    public String toString() {
+        return "CambioEstado{" +
+                "empleado=" + empleado +
+                ", estadoAnterior=" + estadoAnterior +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de un empleado que se pueden pedir por separado en una lectura
+ * parcial, identificados por su ruta (por ejemplo "cargoActual.departamento").
+ * Cada valor es una hoja; los grupos ("informacionPersonal", "cargoActual",
+ * ...) se expanden en sus hojas.
+ */
+public enum CampoEmpleado {
+
+    NOMBRE("informacionPersonal.nombre"),
+    APELLIDOS("informacionPersonal.apellidos"),
+    DOCUMENTO_IDENTIDAD("informacionPersonal.documentoIdentidad"),
+    GENERO("informacionPersonal.genero"),
+    FECHA_NACIMIENTO("informacionPersonal.fechaNacimiento"),
+    EMAIL("informacionContacto.email"),
+    TELEFONO("informacionContacto.telefono"),
+    DIRECCION("informacionContacto.direccion"),
+    CARGO("cargoActual.cargo"),
+    DEPARTAMENTO("cargoActual.departamento"),
+    SALARIO("cargoActual.salario"),
+    FECHA_INICIO("cargoActual.fechaInicio"),
+    FECHA_FIN("cargoActual.fechaFin"),
+    CANTIDAD_CARGOS_HISTORIAL("cantidadCargosHistorial"),
+    ESTADO("estado"),
+    FECHA_CREACION("fechaCreacion"),
+    FECHA_ACTUALIZACION("fechaActualizacion");
+
+    private final String ruta;
+
+    CampoEmpleado(String ruta) {
+        this.ruta = ruta;
+    }
+
+    /**
+     * Ruta del campo, separada por puntos
+     */
+    public String getRuta() {
+        return ruta;
+    }
+
+    /**
+     * Convierte rutas de campos o de grupos en el conjunto de campos hoja
+     * 
+     * @throws IllegalArgumentException si alguna ruta no corresponde a un campo
+     */
+    public static Set<CampoEmpleado> desde(Collection<String> rutas) {
+        Set<CampoEmpleado> campos = EnumSet.noneOf(CampoEmpleado.class);
+        for (String ruta : rutas) {
+            String buscada = ruta.trim();
+            if (buscada.isEmpty() || buscada.equals("id")) {
+                // El ID siempre se incluye
+                continue;
+            }
+
+            boolean encontrado = false;
+            for (CampoEmpleado campo : values()) {
+                if (campo.ruta.equals(buscada) || campo.ruta.startsWith(buscada + ".")) {
+                    campos.add(campo);
+                    encontrado = true;
+                }
+            }
+            if (!encontrado) {
+                throw new IllegalArgumentException("Campo desconocido: " + buscada);
+            }
+        }
+        return campos;
+    }
+}
@@ -0,0 +1,35 @@
+package devbitsve.dominio.modelo;
+
+/**
+ * Value Object que representa un cargo finalizado que ya no es el actual del
+ * empleado pero todavía no se agregó a su historial.
+ */
+public class CargoPendienteHistorial {
+
+    private final String empleadoId;
+    private final InformacionLaboral cargo;
+
+    public CargoPendienteHistorial(String empleadoId, InformacionLaboral cargo) {
+        this.empleadoId = empleadoId;
+        this.cargo = cargo;
+    }
+
+    public String getEmpleadoId() {
+        return empleadoId;
+    }
+
+    /**
+     * Cargo finalizado, con su fecha de fin
+     */
+    public InformacionLaboral getCargo() {
+        return cargo;
+    }
+
+    @Override
+    public String toString() {
+        return "CargoPendienteHistorial{" +
+                "empleadoId='" + empleadoId + '\'' +
+                ", cargo=" + cargo +
+                '}';
+    }
+}
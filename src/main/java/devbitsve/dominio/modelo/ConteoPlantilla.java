@@ -0,0 +1,64 @@
+package devbitsve.dominio.modelo;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Value Object con la cantidad de empleados por departamento y estado en un
+ * instante, junto con la fecha de la última reconciliación con la base de
+ * datos.
+ */
+public class ConteoPlantilla {
+
+    private final Map<String, Map<EstadoEmpleado, Long>> porDepartamento;
+    private final long total;
+    private final LocalDateTime ultimaReconciliacion;
+
+    public ConteoPlantilla(
+            Map<String, Map<EstadoEmpleado, Long>> porDepartamento,
+            long total,
+            LocalDateTime ultimaReconciliacion) {
+        this.porDepartamento = Map.copyOf(porDepartamento);
+        this.total = total;
+        this.ultimaReconciliacion = ultimaReconciliacion;
+    }
+
+    public Map<String, Map<EstadoEmpleado, Long>> getPorDepartamento() {
+        return porDepartamento;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public LocalDateTime getUltimaReconciliacion() {
+        return ultimaReconciliacion;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ConteoPlantilla that = (ConteoPlantilla) o;
+        return total == that.total &&
+                Objects.equals(porDepartamento, that.porDepartamento) &&
+                Objects.equals(ultimaReconciliacion, that.ultimaReconciliacion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(porDepartamento, total, ultimaReconciliacion);
+    }
+
+    @Override
+    public String toString() {
+        return "ConteoPlantilla{" +
+                "porDepartamento=" + porDepartamento +
+                ", total=" + total +
+                ", ultimaReconciliacion=" + ultimaReconciliacion +
+                '}';
+    }
+}
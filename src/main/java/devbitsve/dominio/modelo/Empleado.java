@@ -1,15 +1,15 @@
 package devbitsve.dominio.modelo;
 
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 
 /**
  * Entidad raíz del agregado Empleado.
- * Representa un empleado en el sistema con toda su información personal,
- * laboral e historial.
+ * Representa un empleado en el sistema con toda su información personal y
+ * laboral. Los cargos anteriores no forman parte del agregado: se registran
+ * aparte (ver RepositorioHistorialCargos) y aquí solo se lleva su cantidad.
  */
 public class Empleado {
 
@@ -17,10 +17,11 @@ public class Empleado {
     private InformacionPersonal informacionPersonal;
     private InformacionContacto informacionContacto;
     private InformacionLaboral cargoActual;
-    private List<InformacionLaboral> historialCargos;
+    private int cantidadCargosHistorial;
     private EstadoEmpleado estado;
     private LocalDateTime fechaCreacion;
     private LocalDateTime fechaActualizacion;
+    private long version; // Aumenta con cada escritura; 0 en empleados nuevos
 
     // Constructor para crear un nuevo empleado
     public Empleado(
@@ -31,7 +32,6 @@ public class Empleado {
         this.informacionPersonal = validarRequerido(informacionPersonal, "Información personal");
         this.informacionContacto = validarRequerido(informacionContacto, "Información de contacto");
         this.cargoActual = validarRequerido(cargoActual, "Cargo actual");
-        this.historialCargos = new ArrayList<>();
         this.estado = EstadoEmpleado.ACTIVO;
         this.fechaCreacion = LocalDateTime.now();
         this.fechaActualizacion = LocalDateTime.now();
@@ -43,19 +43,21 @@ public class Empleado {
             InformacionPersonal informacionPersonal,
             InformacionContacto informacionContacto,
             InformacionLaboral cargoActual,
-            List<InformacionLaboral> historialCargos,
+            int cantidadCargosHistorial,
             EstadoEmpleado estado,
             LocalDateTime fechaCreacion,
-            LocalDateTime fechaActualizacion) {
+            LocalDateTime fechaActualizacion,
+            long version) {
 
         this.id = id;
         this.informacionPersonal = informacionPersonal;
         this.informacionContacto = informacionContacto;
         this.cargoActual = cargoActual;
-        this.historialCargos = historialCargos != null ? new ArrayList<>(historialCargos) : new ArrayList<>();
+        this.cantidadCargosHistorial = cantidadCargosHistorial;
         this.estado = estado != null ? estado : EstadoEmpleado.ACTIVO;
         this.fechaCreacion = fechaCreacion;
         this.fechaActualizacion = fechaActualizacion;
+        this.version = version;
     }
 
     private <T> T validarRequerido(T valor, String nombreCampo) {
@@ -66,22 +68,36 @@ public class Empleado {
     }
 
     /**
-     * Cambia el cargo del empleado, moviendo el cargo actual al historial
+     * Verifica que el empleado tenga la versión esperada por quien lo modifica.
+     * Con null no se exige ninguna versión
+     */
+    public void verificarVersion(Long versionEsperada) {
+        if (versionEsperada != null && versionEsperada != version) {
+            throw new ConflictoVersionException(id, versionEsperada);
+        }
+    }
+
+    /**
+     * Cambia el cargo del empleado, finalizando el cargo actual
+     *
+     * @return El cargo finalizado, que debe registrarse en el historial, o null
+     *         si el empleado no tenía cargo
      */
-    public void cambiarCargo(InformacionLaboral nuevoCargo) {
+    public InformacionLaboral cambiarCargo(InformacionLaboral nuevoCargo) {
         if (nuevoCargo == null) {
             throw new IllegalArgumentException("Nuevo cargo es requerido");
         }
 
-        // Finalizar el cargo actual y moverlo al historial
+        // Finalizar el cargo actual; pasa al historial
+        InformacionLaboral cargoFinalizado = null;
         if (this.cargoActual != null) {
-            InformacionLaboral cargoFinalizado = this.cargoActual.finalizarCargo(
-                    nuevoCargo.getFechaInicio().minusDays(1));
-            this.historialCargos.add(cargoFinalizado);
+            cargoFinalizado = this.cargoActual.finalizarCargo(nuevoCargo.getFechaInicio().minusDays(1));
+            this.cantidadCargosHistorial++;
         }
 
         this.cargoActual = nuevoCargo;
         this.fechaActualizacion = LocalDateTime.now();
+        return cargoFinalizado;
     }
 
     /**
@@ -160,8 +176,8 @@ public class Empleado {
         return cargoActual;
     }
 
-    public List<InformacionLaboral> getHistorialCargos() {
-        return Collections.unmodifiableList(historialCargos);
+    public int getCantidadCargosHistorial() {
+        return cantidadCargosHistorial;
     }
 
     public EstadoEmpleado getEstado() {
@@ -176,6 +192,10 @@ public class Empleado {
         return fechaActualizacion;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,39 @@
+package devbitsve.dominio.modelo;
+
+/**
+ * Value Object que representa un empleado ya eliminado: el departamento y el
+ * estado que tenía justo antes de la eliminación.
+ */
+public class EmpleadoEliminado {
+
+    private final String id;
+    private final String departamento;
+    private final EstadoEmpleado estado;
+
+    public EmpleadoEliminado(String id, String departamento, EstadoEmpleado estado) {
+        this.id = id;
+        this.departamento = departamento;
+        this.estado = estado;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDepartamento() {
+        return departamento;
+    }
+
+    public EstadoEmpleado getEstado() {
+        return estado;
+    }
+
+    @Override
+    public String toString() {
+        return "EmpleadoEliminado{" +
+                "id='" + id + '\'' +
+                ", departamento='" + departamento + '\'' +
+                ", estado=" + estado +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+package devbitsve.dominio.modelo;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Value Object con la cantidad de empleados y el resumen de sus salarios para
+ * una combinación de departamento y estado.
+ */
+public class EstadisticaPlantilla {
+
+    private final String departamento;
+    private final EstadoEmpleado estado;
+    private final long cantidadEmpleados;
+    private final BigDecimal salarioTotal;
+    private final BigDecimal salarioPromedio;
+    private final BigDecimal salarioMinimo;
+    private final BigDecimal salarioMaximo;
+
+    public EstadisticaPlantilla(
+            String departamento,
+            EstadoEmpleado estado,
+            long cantidadEmpleados,
+            BigDecimal salarioTotal,
+            BigDecimal salarioPromedio,
+            BigDecimal salarioMinimo,
+            BigDecimal salarioMaximo) {
+        this.departamento = departamento;
+        this.estado = estado;
+        this.cantidadEmpleados = cantidadEmpleados;
+        this.salarioTotal = salarioTotal;
+        this.salarioPromedio = salarioPromedio;
+        this.salarioMinimo = salarioMinimo;
+        this.salarioMaximo = salarioMaximo;
+    }
+
+    public String getDepartamento() {
+        return departamento;
+    }
+
+    public EstadoEmpleado getEstado() {
+        return estado;
+    }
+
+    public long getCantidadEmpleados() {
+        return cantidadEmpleados;
+    }
+
+    public BigDecimal getSalarioTotal() {
+        return salarioTotal;
+    }
+
+    public BigDecimal getSalarioPromedio() {
+        return salarioPromedio;
+    }
+
+    public BigDecimal getSalarioMinimo() {
+        return salarioMinimo;
+    }
+
+    public BigDecimal getSalarioMaximo() {
+        return salarioMaximo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EstadisticaPlantilla that = (EstadisticaPlantilla) o;
+        return cantidadEmpleados == that.cantidadEmpleados &&
+                Objects.equals(departamento, that.departamento) &&
+                estado == that.estado &&
+                Objects.equals(salarioTotal, that.salarioTotal) &&
+                Objects.equals(salarioPromedio, that.salarioPromedio) &&
+                Objects.equals(salarioMinimo, that.salarioMinimo) &&
+                Objects.equals(salarioMaximo, that.salarioMaximo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(departamento, estado, cantidadEmpleados, salarioTotal, salarioPromedio, salarioMinimo,
+                salarioMaximo);
+    }
+
+    @Override
+    public String toString() {
+        return "EstadisticaPlantilla{" +
+                "departamento='" + departamento + '\'' +
+                ", estado=" + estado +
+                ", cantidadEmpleados=" + cantidadEmpleados +
+                ", salarioTotal=" + salarioTotal +
+                '}';
+    }
+}
@@ -0,0 +1,261 @@
+package devbitsve.dominio.modelo;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Value Object que representa los criterios para filtrar empleados.
+ * Los criterios nulos no se aplican; un filtro vacío selecciona a todos.
+ * Los rangos (salario, fecha de inicio del cargo actual y fecha de nacimiento)
+ * incluyen sus extremos y pueden tener uno solo.
+ */
+public class FiltroEmpleados {
+
+    private final Set<String> ids;
+    private final EstadoEmpleado estado;
+    private final String departamento;
+    private final String cargo;
+    private final BigDecimal salarioMinimo;
+    private final BigDecimal salarioMaximo;
+    private final LocalDate fechaInicioDesde;
+    private final LocalDate fechaInicioHasta;
+    private final LocalDate fechaNacimientoDesde;
+    private final LocalDate fechaNacimientoHasta;
+
+    private FiltroEmpleados(
+            Set<String> ids,
+            EstadoEmpleado estado,
+            String departamento,
+            String cargo,
+            BigDecimal salarioMinimo,
+            BigDecimal salarioMaximo,
+            LocalDate fechaInicioDesde,
+            LocalDate fechaInicioHasta,
+            LocalDate fechaNacimientoDesde,
+            LocalDate fechaNacimientoHasta) {
+        this.ids = ids;
+        this.estado = estado;
+        this.departamento = departamento;
+        this.cargo = cargo;
+        this.salarioMinimo = salarioMinimo;
+        this.salarioMaximo = salarioMaximo;
+        this.fechaInicioDesde = fechaInicioDesde;
+        this.fechaInicioHasta = fechaInicioHasta;
+        this.fechaNacimientoDesde = fechaNacimientoDesde;
+        this.fechaNacimientoHasta = fechaNacimientoHasta;
+    }
+
+    private FiltroEmpleados(EstadoEmpleado estado, String departamento) {
+        this(Collections.emptySet(), estado, departamento, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Filtro que selecciona a todos los empleados
+     */
+    public static FiltroEmpleados todos() {
+        return new FiltroEmpleados(null, null);
+    }
+
+    /**
+     * Filtro por estado del empleado
+     */
+    public static FiltroEmpleados porEstado(EstadoEmpleado estado) {
+        if (estado == null) {
+            throw new IllegalArgumentException("Estado es requerido");
+        }
+        return new FiltroEmpleados(estado, null);
+    }
+
+    /**
+     * Filtro por departamento del cargo actual
+     */
+    public static FiltroEmpleados porDepartamento(String departamento) {
+        if (departamento == null || departamento.trim().isEmpty()) {
+            throw new IllegalArgumentException("Departamento es requerido");
+        }
+        return new FiltroEmpleados(null, departamento.trim());
+    }
+
+    /**
+     * Filtro que combina estado y departamento; cualquiera de los dos puede ser
+     * nulo
+     */
+    public static FiltroEmpleados de(EstadoEmpleado estado, String departamento) {
+        return new FiltroEmpleados(estado, normalizarTexto(departamento));
+    }
+
+    /**
+     * Devuelve un filtro con los mismos criterios, restringido además a los
+     * IDs indicados
+     */
+    public FiltroEmpleados conIds(Collection<String> nuevosIds) {
+        Set<String> seleccion = nuevosIds == null || nuevosIds.isEmpty()
+                ? ids
+                : Collections.unmodifiableSet(new LinkedHashSet<>(nuevosIds));
+        return new FiltroEmpleados(seleccion, estado, departamento, cargo, salarioMinimo, salarioMaximo,
+                fechaInicioDesde, fechaInicioHasta, fechaNacimientoDesde, fechaNacimientoHasta);
+    }
+
+    /**
+     * Devuelve un filtro con los mismos criterios, restringido además al cargo
+     * actual indicado; null o vacío no lo restringe
+     */
+    public FiltroEmpleados conCargo(String nuevoCargo) {
+        return new FiltroEmpleados(ids, estado, departamento, normalizarTexto(nuevoCargo), salarioMinimo,
+                salarioMaximo, fechaInicioDesde, fechaInicioHasta, fechaNacimientoDesde, fechaNacimientoHasta);
+    }
+
+    /**
+     * Devuelve un filtro con los mismos criterios, restringido además a un
+     * rango de salario del cargo actual
+     *
+     * @throws IllegalArgumentException si el mínimo es mayor que el máximo
+     */
+    public FiltroEmpleados conSalario(BigDecimal minimo, BigDecimal maximo) {
+        if (minimo != null && maximo != null && minimo.compareTo(maximo) > 0) {
+            throw new IllegalArgumentException("El salario mínimo no puede ser mayor que el máximo");
+        }
+        return new FiltroEmpleados(ids, estado, departamento, cargo, minimo, maximo,
+                fechaInicioDesde, fechaInicioHasta, fechaNacimientoDesde, fechaNacimientoHasta);
+    }
+
+    /**
+     * Devuelve un filtro con los mismos criterios, restringido además a un
+     * rango de fecha de inicio del cargo actual
+     *
+     * @throws IllegalArgumentException si el rango termina antes de empezar
+     */
+    public FiltroEmpleados conFechaInicio(LocalDate desde, LocalDate hasta) {
+        validarRango(desde, hasta, "fecha de inicio");
+        return new FiltroEmpleados(ids, estado, departamento, cargo, salarioMinimo, salarioMaximo,
+                desde, hasta, fechaNacimientoDesde, fechaNacimientoHasta);
+    }
+
+    /**
+     * Devuelve un filtro con los mismos criterios, restringido además a un
+     * rango de fecha de nacimiento
+     *
+     * @throws IllegalArgumentException si el rango termina antes de empezar
+     */
+    public FiltroEmpleados conFechaNacimiento(LocalDate desde, LocalDate hasta) {
+        validarRango(desde, hasta, "fecha de nacimiento");
+        return new FiltroEmpleados(ids, estado, departamento, cargo, salarioMinimo, salarioMaximo,
+                fechaInicioDesde, fechaInicioHasta, desde, hasta);
+    }
+
+    /**
+     * Indica si el filtro no tiene ningún criterio
+     */
+    public boolean estaVacio() {
+        return ids.isEmpty() && estado == null && departamento == null && cargo == null
+                && !tieneRangoSalario() && !tieneRangoFechaInicio() && !tieneRangoFechaNacimiento();
+    }
+
+    public boolean tieneRangoSalario() {
+        return salarioMinimo != null || salarioMaximo != null;
+    }
+
+    public boolean tieneRangoFechaInicio() {
+        return fechaInicioDesde != null || fechaInicioHasta != null;
+    }
+
+    public boolean tieneRangoFechaNacimiento() {
+        return fechaNacimientoDesde != null || fechaNacimientoHasta != null;
+    }
+
+    public Set<String> getIds() {
+        return ids;
+    }
+
+    public EstadoEmpleado getEstado() {
+        return estado;
+    }
+
+    public String getDepartamento() {
+        return departamento;
+    }
+
+    public String getCargo() {
+        return cargo;
+    }
+
+    public BigDecimal getSalarioMinimo() {
+        return salarioMinimo;
+    }
+
+    public BigDecimal getSalarioMaximo() {
+        return salarioMaximo;
+    }
+
+    public LocalDate getFechaInicioDesde() {
+        return fechaInicioDesde;
+    }
+
+    public LocalDate getFechaInicioHasta() {
+        return fechaInicioHasta;
+    }
+
+    public LocalDate getFechaNacimientoDesde() {
+        return fechaNacimientoDesde;
+    }
+
+    public LocalDate getFechaNacimientoHasta() {
+        return fechaNacimientoHasta;
+    }
+
+    private static String normalizarTexto(String valor) {
+        return valor == null || valor.trim().isEmpty() ? null : valor.trim();
+    }
+
+    private static void validarRango(LocalDate desde, LocalDate hasta, String nombreRango) {
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new IllegalArgumentException("El rango de " + nombreRango + " termina antes de empezar");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        FiltroEmpleados that = (FiltroEmpleados) o;
+        return Objects.equals(ids, that.ids) &&
+                estado == that.estado &&
+                Objects.equals(departamento, that.departamento) &&
+                Objects.equals(cargo, that.cargo) &&
+                Objects.equals(salarioMinimo, that.salarioMinimo) &&
+                Objects.equals(salarioMaximo, that.salarioMaximo) &&
+                Objects.equals(fechaInicioDesde, that.fechaInicioDesde) &&
+                Objects.equals(fechaInicioHasta, that.fechaInicioHasta) &&
+                Objects.equals(fechaNacimientoDesde, that.fechaNacimientoDesde) &&
+                Objects.equals(fechaNacimientoHasta, that.fechaNacimientoHasta);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ids, estado, departamento, cargo, salarioMinimo, salarioMaximo,
+                fechaInicioDesde, fechaInicioHasta, fechaNacimientoDesde, fechaNacimientoHasta);
+    }
+
+    @Override
+    public String toString() {
+        return "FiltroEmpleados{" +
+                "ids=" + ids +
+                ", estado=" + estado +
+                ", departamento='" + departamento + '\'' +
+                ", cargo='" + cargo + '\'' +
+                ", salarioMinimo=" + salarioMinimo +
+                ", salarioMaximo=" + salarioMaximo +
+                ", fechaInicioDesde=" + fechaInicioDesde +
+                ", fechaInicioHasta=" + fechaInicioHasta +
+                ", fechaNacimientoDesde=" + fechaNacimientoDesde +
+                ", fechaNacimientoHasta=" + fechaNacimientoHasta +
+                '}';
+    }
+}
@@ -0,0 +1,81 @@
+package devbitsve.dominio.modelo;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Value Object con lo mínimo para saber si un empleado cambió: su ID, la
+ * fecha de su última actualización y su versión.
+ * Permite validar copias en manos de los clientes sin cargar el empleado.
+ */
+public class MarcaActualizacion {
+
+    private final String id;
+    private final LocalDateTime fechaActualizacion;
+    private final long version;
+
+    public MarcaActualizacion(String id, LocalDateTime fechaActualizacion, long version) {
+        this.id = Objects.requireNonNull(id, "El ID es requerido");
+        this.fechaActualizacion = fechaActualizacion;
+        this.version = version;
+    }
+
+    /**
+     * Marca del estado actual de un empleado
+     */
+    public static MarcaActualizacion de(Empleado empleado) {
+        return new MarcaActualizacion(empleado.getId(), empleado.getFechaActualizacion(), empleado.getVersion());
+    }
+
+    /**
+     * Indica si ambas marcas corresponden a la misma escritura. Las fechas se
+     * comparan en milisegundos, la precisión con que las guarda MongoDB
+     */
+    public boolean coincideCon(MarcaActualizacion otra) {
+        return version == otra.version && id.equals(otra.id)
+                && Objects.equals(enMilisegundos(fechaActualizacion), enMilisegundos(otra.fechaActualizacion));
+    }
+
+    private static LocalDateTime enMilisegundos(LocalDateTime fecha) {
+        return fecha != null ? fecha.truncatedTo(ChronoUnit.MILLIS) : null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        MarcaActualizacion that = (MarcaActualizacion) o;
+        return version == that.version &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(fechaActualizacion, that.fechaActualizacion);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, fechaActualizacion, version);
+    }
+
+    @Override
+    public String toString() {
+        return "MarcaActualizacion{" +
+                "id='" + id + '\'' +
+                ", fechaActualizacion=" + fechaActualizacion +
+                ", version=" + version +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Value Object que representa una página de resultados obtenida con
+ * paginación por cursor.
+ * El cursor es opaco para el dominio: solo la persistencia sabe interpretarlo.
+ */
+public class Pagina<T> {
+
+    private final List<T> elementos;
+    private final String siguienteCursor; // null si es la última página
+
+    public Pagina(List<T> elementos, String siguienteCursor) {
+        this.elementos = elementos != null ? List.copyOf(elementos) : Collections.emptyList();
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    /**
+     * Indica si existe una página siguiente
+     */
+    public boolean tieneSiguiente() {
+        return siguienteCursor != null;
+    }
+
+    /**
+     * Transforma los elementos de la página conservando el cursor
+     */
+    public <R> Pagina<R> map(Function<T, R> transformacion) {
+        return new Pagina<>(
+                elementos.stream().map(transformacion).collect(Collectors.toList()),
+                siguienteCursor);
+    }
+
+    public List<T> getElementos() {
+        return elementos;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        Pagina<?> pagina = (Pagina<?>) o;
+        return Objects.equals(elementos, pagina.elementos) &&
+                Objects.equals(siguienteCursor, pagina.siguienteCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(elementos, siguienteCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "Pagina{" +
+                "elementos=" + elementos.size() +
+                ", siguienteCursor='" + siguienteCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Map;
+
+/**
+ * Value Object que representa el resultado de una actualización aplicada a
+ * todos los empleados que cumplen un filtro.
+ */
+public class ResultadoActualizacionMasiva {
+
+    private final long coincidentes;
+    private final long modificados;
+    private final Map<String, Map<EstadoEmpleado, Long>> cambiadosPorDepartamento;
+
+    public ResultadoActualizacionMasiva(long coincidentes, long modificados,
+            Map<String, Map<EstadoEmpleado, Long>> cambiadosPorDepartamento) {
+        this.coincidentes = coincidentes;
+        this.modificados = modificados;
+        this.cambiadosPorDepartamento = Map.copyOf(cambiadosPorDepartamento);
+    }
+
+    /**
+     * Empleados que cumplían el filtro
+     */
+    public long getCoincidentes() {
+        return coincidentes;
+    }
+
+    /**
+     * Empleados que realmente cambiaron (los que ya tenían el valor no cuentan)
+     */
+    public long getModificados() {
+        return modificados;
+    }
+
+    /**
+     * Empleados que tenían otro estado, por departamento y estado anterior,
+     * contados justo antes de la actualización
+     */
+    public Map<String, Map<EstadoEmpleado, Long>> getCambiadosPorDepartamento() {
+        return cambiadosPorDepartamento;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoActualizacionMasiva{" +
+                "coincidentes=" + coincidentes +
+                ", modificados=" + modificados +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Objects;
+
+/**
+ * Value Object que representa el resultado de crear un empleado dentro de un
+ * lote: el ID asignado si se creó o el motivo si no se pudo crear.
+ */
+public class ResultadoCreacion {
+
+    private final int indice;
+    private final String id;
+    private final String error;
+
+    private ResultadoCreacion(int indice, String id, String error) {
+        this.indice = indice;
+        this.id = id;
+        this.error = error;
+    }
+
+    /**
+     * Resultado de un empleado creado con el ID indicado
+     */
+    public static ResultadoCreacion exitoso(int indice, String id) {
+        return new ResultadoCreacion(indice, id, null);
+    }
+
+    /**
+     * Resultado de un empleado que no se pudo crear
+     */
+    public static ResultadoCreacion fallido(int indice, String error) {
+        return new ResultadoCreacion(indice, null, error);
+    }
+
+    /**
+     * Devuelve el mismo resultado asociado a otra posición del lote
+     */
+    public ResultadoCreacion conIndice(int nuevoIndice) {
+        return new ResultadoCreacion(nuevoIndice, id, error);
+    }
+
+    public boolean esExitoso() {
+        return error == null;
+    }
+
+    /**
+     * Posición del empleado en el lote recibido
+     */
+    public int getIndice() {
+        return indice;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ResultadoCreacion that = (ResultadoCreacion) o;
+        return indice == that.indice &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indice, id, error);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoCreacion{" +
+                "indice=" + indice +
+                ", id='" + id + '\'' +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Objects;
+
+/**
+ * Value Object con lo mínimo para sugerir un empleado mientras se escribe su
+ * nombre: su ID y su nombre completo.
+ */
+public class SugerenciaEmpleado {
+
+    private final String id;
+    private final String nombreCompleto;
+
+    public SugerenciaEmpleado(String id, String nombreCompleto) {
+        this.id = id;
+        this.nombreCompleto = nombreCompleto;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getNombreCompleto() {
+        return nombreCompleto;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SugerenciaEmpleado that = (SugerenciaEmpleado) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(nombreCompleto, that.nombreCompleto);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, nombreCompleto);
+    }
+
+    @Override
+    public String toString() {
+        return "SugerenciaEmpleado{" +
+                "id='" + id + '\'' +
+                ", nombreCompleto='" + nombreCompleto + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+package devbitsve.dominio.modelo;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Reglas de la búsqueda de empleados por texto: cómo se normaliza un texto en
+ * palabras (minúsculas, sin acentos ni signos) y cuán relevante es un empleado
+ * para una consulta. Las comparten la búsqueda en la base de datos y el índice
+ * de autocompletado en memoria, para que ambos respondan lo mismo.
+ */
+public final class TerminosBusqueda {
+
+    /**
+     * Palabras de la consulta que se tienen en cuenta; el resto se ignora
+     */
+    public static final int MAXIMO_TERMINOS_CONSULTA = 5;
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private TerminosBusqueda() {
+    }
+
+    /**
+     * Normaliza los textos y los separa en palabras: "José  Pérez-Núñez" da
+     * [jose, perez, nunez]. Las palabras repetidas se conservan una vez
+     */
+    public static List<String> toTerminos(String... textos) {
+        return Arrays.stream(textos)
+                .filter(texto -> texto != null)
+                .flatMap(texto -> Arrays.stream(SEPARADORES.split(normalizar(texto))))
+                .filter(termino -> !termino.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Palabras de una consulta, normalizadas igual que las de los empleados
+     */
+    public static List<String> toTerminosConsulta(String consulta) {
+        return toTerminos(consulta).stream()
+                .limit(MAXIMO_TERMINOS_CONSULTA)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Relevancia de un empleado para la consulta: por cada palabra, una
+     * coincidencia exacta en el nombre vale más que un prefijo y ambas más que
+     * el email; suma además si las palabras siguen el orden del nombre
+     *
+     * @param nombre   Palabras del nombre y los apellidos del empleado
+     * @param email    Palabras de la parte local de su email
+     * @param consulta Palabras de la consulta
+     */
+    public static int toRelevancia(List<String> nombre, List<String> email, List<String> consulta) {
+        int relevancia = 0;
+        for (String termino : consulta) {
+            if (nombre.contains(termino)) {
+                relevancia += 4;
+            } else if (nombre.stream().anyMatch(clave -> clave.startsWith(termino))) {
+                relevancia += 2;
+            } else if (email.stream().anyMatch(clave -> clave.startsWith(termino))) {
+                relevancia += 1;
+            }
+        }
+
+        boolean enOrden = consulta.size() <= nombre.size();
+        for (int i = 0; enOrden && i < consulta.size(); i++) {
+            enOrden = nombre.get(i).startsWith(consulta.get(i));
+        }
+        return enOrden ? relevancia + 1 : relevancia;
+    }
+
+    private static String normalizar(String texto) {
+        String sinAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("");
+        return sinAcentos.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package devbitsve.dominio.modelo;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Modelo de lectura con solo algunos campos de un empleado.
+ * A diferencia de {@link Empleado}, no exige que estén todos los datos: se
+ * construye con los campos pedidos y su marca de actualización, que permite
+ * validar la copia del cliente igual que con el empleado completo.
+ */
+public class VistaEmpleado {
+
+    private final MarcaActualizacion marca;
+    private final Map<CampoEmpleado, Object> valores;
+
+    public VistaEmpleado(MarcaActualizacion marca, Map<CampoEmpleado, Object> valores) {
+        this.marca = Objects.requireNonNull(marca, "La marca de actualización es requerida");
+        this.valores = valores.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(valores));
+    }
+
+    public String getId() {
+        return marca.getId();
+    }
+
+    public MarcaActualizacion getMarca() {
+        return marca;
+    }
+
+    /**
+     * Valores de los campos pedidos, en el orden de declaración de
+     * {@link CampoEmpleado}. Un campo pedido puede tener valor null
+     */
+    public Map<CampoEmpleado, Object> getValores() {
+        return valores;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        VistaEmpleado that = (VistaEmpleado) o;
+        return Objects.equals(marca, that.marca) &&
+                Objects.equals(valores, that.valores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(marca, valores);
+    }
+
+    @Override
+    public String toString() {
+        return "VistaEmpleado{" +
+                "id='" + getId() + '\'' +
+                ", campos=" + valores.keySet() +
+                '}';
+    }
+}
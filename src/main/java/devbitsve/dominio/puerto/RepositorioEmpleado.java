@@ -1,16 +1,37 @@
 package devbitsve.dominio.puerto;
 
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.excepcion.DocumentoDuplicadoException;
+import devbitsve.dominio.modelo.CambioCargo;
+import devbitsve.dominio.modelo.CambioEstado;
+import devbitsve.dominio.modelo.CampoEmpleado;
+import devbitsve.dominio.modelo.CargoPendienteHistorial;
 import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EmpleadoEliminado;
+import devbitsve.dominio.modelo.EstadisticaPlantilla;
 import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.dominio.modelo.ResultadoActualizacionMasiva;
+import devbitsve.dominio.modelo.ResultadoCreacion;
+import devbitsve.dominio.modelo.VistaEmpleado;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Puerto (interface) del repositorio de empleados.
  * Define el contrato para la persistencia de empleados sin conocer la
  * implementación.
  * Sigue el principio de inversión de dependencias de la arquitectura hexagonal.
+ * Cada escritura incrementa la versión del empleado, lo que permite
+ * condicionar las modificaciones a la versión leída (control optimista).
  */
 public interface RepositorioEmpleado {
 
@@ -19,17 +40,130 @@ public interface RepositorioEmpleado {
      * 
      * @param empleado El empleado a guardar
      * @return El empleado guardado con su ID asignado
+     * @throws IllegalArgumentException si ya existe un empleado con el mismo
+     *                                  documento de identidad
      */
     Empleado guardar(Empleado empleado);
 
     /**
-     * Actualiza un empleado existente
+     * Guarda un lote de empleados nuevos. Un empleado que no se puede guardar
+     * (por ejemplo, por documento duplicado) no impide guardar el resto
+     * 
+     * @param empleados Los empleados a guardar
+     * @return Un resultado por empleado, en el mismo orden y con el índice de su
+     *         posición en la lista recibida
+     */
+    List<ResultadoCreacion> guardarTodos(List<Empleado> empleados);
+
+    /**
+     * Actualiza un empleado existente, siempre que nadie lo haya modificado
+     * desde que se leyó (su versión sigue siendo la del empleado recibido)
      * 
      * @param empleado El empleado a actualizar
-     * @return El empleado actualizado
+     * @return El empleado actualizado, con su nueva versión
+     * @throws ConflictoVersionException si el empleado tiene otra versión
+     * @throws IllegalArgumentException  si el empleado no existe
      */
     Empleado actualizar(Empleado empleado);
 
+    /**
+     * Cambia el estado de un empleado en una sola operación atómica, escribiendo
+     * únicamente los campos modificados. El estado anterior sale de la misma
+     * operación, sin leer el empleado antes
+     * 
+     * @param id              El ID del empleado
+     * @param nuevoEstado     El nuevo estado
+     * @param versionEsperada Versión que debe tener el empleado, o null para no
+     *                        exigir ninguna
+     * @return Optional con el empleado ya actualizado y su estado anterior,
+     *         Optional.empty() si no existe
+     * @throws ConflictoVersionException si el empleado tiene otra versión
+     */
+    Optional<CambioEstado> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada);
+
+    /**
+     * Reemplaza la información personal de un empleado en una sola operación
+     * atómica, escribiendo únicamente los campos modificados
+     * 
+     * @param id                  El ID del empleado
+     * @param informacionPersonal La nueva información personal
+     * @param versionEsperada     Versión que debe tener el empleado, o null para
+     *                            no exigir ninguna
+     * @return Optional con el empleado ya actualizado, Optional.empty() si no
+     *         existe
+     * @throws DocumentoDuplicadoException si el nuevo documento de identidad
+     *                                     ya pertenece a otro empleado
+     * @throws ConflictoVersionException   si el empleado tiene otra versión
+     */
+    Optional<Empleado> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada);
+
+    /**
+     * Reemplaza la información de contacto de un empleado en una sola operación
+     * atómica, escribiendo únicamente los campos modificados
+     * 
+     * @param id                  El ID del empleado
+     * @param informacionContacto La nueva información de contacto
+     * @param versionEsperada     Versión que debe tener el empleado, o null para
+     *                            no exigir ninguna
+     * @return Optional con el empleado ya actualizado, Optional.empty() si no
+     *         existe
+     * @throws ConflictoVersionException si el empleado tiene otra versión
+     */
+    Optional<Empleado> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada);
+
+    /**
+     * Cambia el cargo actual de un empleado en una sola operación atómica, sin
+     * leer ni reescribir el resto del empleado. Solo se aplica si el cargo
+     * actual empezó antes que el nuevo, de modo que al finalizarlo su fecha de
+     * fin (el día anterior al inicio del nuevo) no quede antes de su inicio.
+     * En la misma operación el cargo finalizado queda pendiente de pasar al
+     * historial, hasta que se confirme con {@link #confirmarCargoEnHistorial}
+     * 
+     * @param id              El ID del empleado
+     * @param nuevoCargo      El nuevo cargo
+     * @param versionEsperada Versión que debe tener el empleado, o null para no
+     *                        exigir ninguna
+     * @return Optional con el empleado actualizado y el cargo finalizado,
+     *         Optional.empty() si no existe
+     * @throws IllegalArgumentException  si el nuevo cargo no empieza después del
+     *                                   inicio del cargo actual
+     * @throws ConflictoVersionException si el empleado tiene otra versión
+     */
+    Optional<CambioCargo> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada);
+
+    /**
+     * Quita un cargo finalizado de los pendientes del empleado, una vez
+     * agregado a su historial. No cambia la versión del empleado
+     * 
+     * @param id    El ID del empleado
+     * @param cargo El cargo finalizado ya registrado en el historial
+     */
+    void confirmarCargoEnHistorial(String id, InformacionLaboral cargo);
+
+    /**
+     * Busca cargos finalizados que quedaron pendientes de pasar al historial,
+     * porque su registro falló después del cambio de cargo
+     * 
+     * @param limite Número máximo de empleados a revisar
+     * @return Los cargos pendientes de esos empleados, del más antiguo al más
+     *         reciente por empleado
+     */
+    List<CargoPendienteHistorial> buscarCargosPendientesDeHistorial(int limite);
+
+    /**
+     * Cambia el estado de todos los empleados que cumplen el filtro con una única
+     * operación en el servidor. La fecha de actualización y la versión solo
+     * cambian en los empleados cuyo estado cambia
+     * 
+     * @param filtro      Criterios que deben cumplir los empleados
+     * @param nuevoEstado El nuevo estado
+     * @return Cantidad de empleados que cumplían el filtro y de modificados
+     * @throws IllegalArgumentException si algún ID del filtro no es válido
+     */
+    ResultadoActualizacionMasiva actualizarEstadoMasivo(FiltroEmpleados filtro, EstadoEmpleado nuevoEstado);
+
     /**
      * Busca un empleado por su ID
      * 
@@ -38,6 +172,17 @@ public interface RepositorioEmpleado {
      */
     Optional<Empleado> buscarPorId(String id);
 
+    /**
+     * Busca un empleado por su ID exigiendo que corresponda a la marca de
+     * actualización indicada: una copia guardada de una versión anterior se
+     * descarta y se vuelve a leer
+     *
+     * @param id    El ID del empleado
+     * @param marca Marca vigente, leída de la base de datos
+     * @return Optional con el empleado si existe, Optional.empty() si no
+     */
+    Optional<Empleado> buscarPorIdVigente(String id, MarcaActualizacion marca);
+
     /**
      * Busca un empleado por su documento de identidad
      * 
@@ -47,35 +192,126 @@ public interface RepositorioEmpleado {
     Optional<Empleado> buscarPorDocumentoIdentidad(String documentoIdentidad);
 
     /**
-     * Busca empleados por estado
+     * Busca un empleado por su ID leyendo solo los campos indicados
+     * 
+     * @param id     El ID del empleado
+     * @param campos Campos a leer
+     * @return Optional con la vista del empleado si existe, Optional.empty() si no
+     */
+    Optional<VistaEmpleado> buscarPorId(String id, Set<CampoEmpleado> campos);
+
+    /**
+     * Busca un empleado por su documento de identidad leyendo solo los campos
+     * indicados
+     * 
+     * @param documentoIdentidad El documento de identidad
+     * @param campos             Campos a leer
+     * @return Optional con la vista del empleado si existe, Optional.empty() si no
+     */
+    Optional<VistaEmpleado> buscarPorDocumentoIdentidad(String documentoIdentidad, Set<CampoEmpleado> campos);
+
+    /**
+     * Busca la marca de actualización de un empleado leyendo solo su ID, su
+     * fecha de actualización y su versión
+     * 
+     * @param id El ID del empleado
+     * @return Optional con la marca si el empleado existe, Optional.empty() si no
+     */
+    Optional<MarcaActualizacion> buscarMarcaActualizacion(String id);
+
+    /**
+     * Busca empleados cuyo nombre, apellidos o email contienen palabras que
+     * empiezan por las del texto, sin distinguir mayúsculas ni acentos
+     * 
+     * @param texto  Texto a buscar; cada palabra debe ser prefijo de una palabra
+     *               del empleado
+     * @param limite Número máximo de empleados a devolver
+     * @return Empleados encontrados, de mayor a menor relevancia (lista vacía si
+     *         el texto no tiene letras ni dígitos)
+     */
+    List<Empleado> buscarPorTexto(String texto, int limite);
+
+    /**
+     * Busca una página de empleados usando paginación por cursor, ordenada por
+     * ID o, si el filtro tiene un rango, por el campo del rango y luego por ID.
+     * El costo de cada página no depende de su posición en el listado.
+     * 
+     * @param filtro    Criterios que deben cumplir los empleados
+     * @param despuesDe Cursor devuelto por la página anterior, o null para la
+     *                  primera página
+     * @param limite    Número máximo de empleados de la página
+     * @return Página con los empleados y el cursor de la siguiente página
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    Pagina<Empleado> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite);
+
+    /**
+     * Busca la misma página que {@link #buscarPagina(FiltroEmpleados, String, int)}
+     * leyendo solo los campos indicados de cada empleado
+     * 
+     * @param filtro    Criterios que deben cumplir los empleados
+     * @param despuesDe Cursor devuelto por la página anterior, o null para la
+     *                  primera página
+     * @param limite    Número máximo de empleados de la página
+     * @param campos    Campos a leer
+     * @return Página con las vistas y el cursor de la siguiente página
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    Pagina<VistaEmpleado> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite, Set<CampoEmpleado> campos);
+
+    /**
+     * Busca las marcas de actualización de la misma página que devolvería
+     * {@link #buscarPagina(FiltroEmpleados, String, int)}, sin leer el resto de cada documento
+     * 
+     * @param filtro    Criterios que deben cumplir los empleados
+     * @param despuesDe Cursor devuelto por la página anterior, o null para la
+     *                  primera página
+     * @param limite    Número máximo de empleados de la página
+     * @return Página con las marcas y el cursor de la siguiente página
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    Pagina<MarcaActualizacion> buscarMarcasPagina(FiltroEmpleados filtro, String despuesDe, int limite);
+
+    /**
+     * Calcula la cantidad de empleados y el total, promedio, mínimo y máximo de
+     * sus salarios por departamento y estado, en la base de datos y sin traer
+     * los empleados
      * 
-     * @param estado El estado a buscar
-     * @return Lista de empleados con ese estado
+     * @param filtro Criterios que deben cumplir los empleados
+     * @return Una estadística por combinación de departamento y estado
+     *         presente, ordenadas por departamento y estado
+     * @throws IllegalArgumentException si algún ID del filtro no es válido
      */
-    List<Empleado> buscarPorEstado(EstadoEmpleado estado);
+    List<EstadisticaPlantilla> calcularEstadisticas(FiltroEmpleados filtro);
 
     /**
-     * Busca empleados por departamento
+     * Recorre los empleados que cumplen el filtro leyéndolos bajo demanda desde
+     * la base de datos, sin cargar el resultado completo en memoria.
+     * El stream mantiene recursos abiertos y debe cerrarse al terminar.
      * 
-     * @param departamento El nombre del departamento
-     * @return Lista de empleados en ese departamento
+     * @param filtro Criterios que deben cumplir los empleados
+     * @return Stream perezoso de empleados
      */
-    List<Empleado> buscarPorDepartamento(String departamento);
+    Stream<Empleado> recorrer(FiltroEmpleados filtro);
 
     /**
-     * Obtiene todos los empleados
+     * Igual que {@link #recorrer(FiltroEmpleados)}, pero leyendo solo los campos
+     * indicados de cada empleado
      * 
-     * @return Lista de todos los empleados
+     * @param filtro Criterios que deben cumplir los empleados
+     * @param campos Campos a leer
+     * @return Stream perezoso de vistas, que debe cerrarse al terminar
      */
-    List<Empleado> obtenerTodos();
+    Stream<VistaEmpleado> recorrer(FiltroEmpleados filtro, Set<CampoEmpleado> campos);
 
     /**
-     * Elimina un empleado por su ID
+     * Elimina un empleado por su ID en una sola operación atómica, que devuelve
+     * su departamento y estado justo antes de eliminarlo
      * 
      * @param id El ID del empleado a eliminar
-     * @return true si se eliminó, false si no existía
+     * @return Optional con el empleado eliminado, Optional.empty() si no existía
      */
-    boolean eliminar(String id);
+    Optional<EmpleadoEliminado> eliminar(String id);
 
     /**
      * Verifica si existe un empleado con el documento de identidad dado
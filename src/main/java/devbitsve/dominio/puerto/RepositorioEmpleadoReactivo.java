@@ -0,0 +1,162 @@
+package devbitsve.dominio.puerto;
+
+import devbitsve.dominio.modelo.CambioCargo;
+import devbitsve.dominio.modelo.CambioEstado;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EmpleadoEliminado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.Pagina;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import java.util.Optional;
+
+/**
+ * Puerto (interface) reactivo del repositorio de empleados.
+ * Ofrece el mismo contrato que {@link RepositorioEmpleado} pero sin bloquear el
+ * hilo que lo invoca: cada operación devuelve un {@link Uni} o un {@link Multi}
+ * que se completa cuando responde la base de datos.
+ */
+public interface RepositorioEmpleadoReactivo {
+
+    /**
+     * Guarda un nuevo empleado
+     * 
+     * @param empleado El empleado a guardar
+     * @return El empleado guardado con su ID asignado
+     */
+    Uni<Empleado> guardar(Empleado empleado);
+
+    /**
+     * Cambia el estado de un empleado en una sola operación atómica, escribiendo
+     * únicamente los campos modificados. El estado anterior sale de la misma
+     * operación, sin leer el empleado antes
+     * 
+     * @param id              El ID del empleado
+     * @param nuevoEstado     El nuevo estado
+     * @param versionEsperada Versión que debe tener el empleado, o null para no
+     *                        exigir ninguna
+     * @return Optional con el empleado ya actualizado y su estado anterior,
+     *         Optional.empty() si no existe, o un fallo con
+     *         ConflictoVersionException si el empleado tiene otra versión
+     */
+    Uni<Optional<CambioEstado>> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada);
+
+    /**
+     * Reemplaza la información personal de un empleado en una sola operación
+     * atómica, escribiendo únicamente los campos modificados
+     * 
+     * @param id                  El ID del empleado
+     * @param informacionPersonal La nueva información personal
+     * @param versionEsperada     Versión que debe tener el empleado, o null para
+     *                            no exigir ninguna
+     * @return Optional con el empleado ya actualizado, Optional.empty() si no
+     *         existe, o un fallo con DocumentoDuplicadoException si el nuevo
+     *         documento de identidad ya pertenece a otro empleado o con
+     *         ConflictoVersionException si el empleado tiene otra versión
+     */
+    Uni<Optional<Empleado>> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada);
+
+    /**
+     * Reemplaza la información de contacto de un empleado en una sola operación
+     * atómica, escribiendo únicamente los campos modificados
+     * 
+     * @param id                  El ID del empleado
+     * @param informacionContacto La nueva información de contacto
+     * @param versionEsperada     Versión que debe tener el empleado, o null para
+     *                            no exigir ninguna
+     * @return Optional con el empleado ya actualizado, Optional.empty() si no
+     *         existe, o un fallo con ConflictoVersionException si el empleado
+     *         tiene otra versión
+     */
+    Uni<Optional<Empleado>> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada);
+
+    /**
+     * Cambia el cargo actual de un empleado en una sola operación atómica, sin
+     * leer ni reescribir el resto del empleado. Solo se aplica si el cargo
+     * actual empezó antes que el nuevo. En la misma operación el cargo
+     * finalizado queda pendiente de pasar al historial, hasta que se confirme
+     * con {@link #confirmarCargoEnHistorial}
+     * 
+     * @param id              El ID del empleado
+     * @param nuevoCargo      El nuevo cargo
+     * @param versionEsperada Versión que debe tener el empleado, o null para no
+     *                        exigir ninguna
+     * @return Optional con el empleado actualizado y el cargo finalizado,
+     *         Optional.empty() si no existe, o un fallo con
+     *         IllegalArgumentException si el nuevo cargo no empieza después del
+     *         inicio del cargo actual o con ConflictoVersionException si el
+     *         empleado tiene otra versión
+     */
+    Uni<Optional<CambioCargo>> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada);
+
+    /**
+     * Quita un cargo finalizado de los pendientes del empleado, una vez
+     * agregado a su historial. No cambia la versión del empleado
+     * 
+     * @param id    El ID del empleado
+     * @param cargo El cargo finalizado ya registrado en el historial
+     */
+    Uni<Void> confirmarCargoEnHistorial(String id, InformacionLaboral cargo);
+
+    /**
+     * Busca un empleado por su ID
+     * 
+     * @param id El ID del empleado
+     * @return Optional con el empleado si existe, Optional.empty() si no
+     */
+    Uni<Optional<Empleado>> buscarPorId(String id);
+
+    /**
+     * Busca un empleado por su documento de identidad
+     * 
+     * @param documentoIdentidad El documento de identidad
+     * @return Optional con el empleado si existe, Optional.empty() si no
+     */
+    Uni<Optional<Empleado>> buscarPorDocumentoIdentidad(String documentoIdentidad);
+
+    /**
+     * Busca una página de empleados usando paginación por cursor, ordenada por
+     * ID o, si el filtro tiene un rango, por el campo del rango y luego por ID,
+     * igual que {@link RepositorioEmpleado#buscarPagina(FiltroEmpleados, String, int)}
+     * 
+     * @param filtro    Criterios que deben cumplir los empleados
+     * @param despuesDe Cursor devuelto por la página anterior, o null para la
+     *                  primera página
+     * @param limite    Número máximo de empleados de la página
+     * @return Página con los empleados y el cursor de la siguiente página
+     */
+    Uni<Pagina<Empleado>> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite);
+
+    /**
+     * Recorre los empleados que cumplen el filtro a medida que el consumidor
+     * los solicita
+     * 
+     * @param filtro Criterios que deben cumplir los empleados
+     * @return Flujo de empleados
+     */
+    Multi<Empleado> recorrer(FiltroEmpleados filtro);
+
+    /**
+     * Elimina un empleado por su ID en una sola operación atómica, que devuelve
+     * su departamento y estado justo antes de eliminarlo
+     * 
+     * @param id El ID del empleado a eliminar
+     * @return Optional con el empleado eliminado, Optional.empty() si no existía
+     */
+    Uni<Optional<EmpleadoEliminado>> eliminar(String id);
+
+    /**
+     * Verifica si existe un empleado con el documento de identidad dado
+     * 
+     * @param documentoIdentidad El documento de identidad
+     * @return true si existe, false si no
+     */
+    Uni<Boolean> existePorDocumentoIdentidad(String documentoIdentidad);
+}
@@ -0,0 +1,40 @@
+package devbitsve.dominio.puerto;
+
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.Pagina;
+
+/**
+ * Puerto (interface) del historial de cargos de los empleados.
+ * El historial crece con cada cambio de cargo, por eso se guarda fuera del
+ * empleado: leer o modificar un empleado no carga sus cargos anteriores.
+ */
+public interface RepositorioHistorialCargos {
+
+    /**
+     * Agrega un cargo finalizado al historial de un empleado
+     * 
+     * @param empleadoId El ID del empleado
+     * @param cargo      El cargo finalizado
+     */
+    void registrar(String empleadoId, InformacionLaboral cargo);
+
+    /**
+     * Busca una página del historial de un empleado, del cargo más reciente al
+     * más antiguo
+     * 
+     * @param empleadoId El ID del empleado
+     * @param despuesDe  Cursor devuelto por la página anterior, o null para la
+     *                   primera página
+     * @param limite     Número máximo de cargos de la página
+     * @return Página con los cargos y el cursor de la siguiente página
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    Pagina<InformacionLaboral> buscarPagina(String empleadoId, String despuesDe, int limite);
+
+    /**
+     * Elimina el historial de un empleado
+     * 
+     * @param empleadoId El ID del empleado
+     */
+    void eliminar(String empleadoId);
+}
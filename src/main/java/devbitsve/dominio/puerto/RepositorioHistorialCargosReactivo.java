@@ -0,0 +1,29 @@
+package devbitsve.dominio.puerto;
+
+import devbitsve.dominio.modelo.InformacionLaboral;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Versión reactiva del puerto del historial de cargos.
+ * Cubre las escrituras que acompañan a los casos de uso de
+ * {@link RepositorioEmpleadoReactivo}.
+ */
+public interface RepositorioHistorialCargosReactivo {
+
+    /**
+     * Agrega un cargo finalizado al historial de un empleado
+     * 
+     * @param empleadoId El ID del empleado
+     * @param cargo      El cargo finalizado
+     * @return Uni que completa cuando el cargo quedó registrado
+     */
+    Uni<Void> registrar(String empleadoId, InformacionLaboral cargo);
+
+    /**
+     * Elimina el historial de un empleado
+     * 
+     * @param empleadoId El ID del empleado
+     * @return Uni que completa cuando el historial fue eliminado
+     */
+    Uni<Void> eliminar(String empleadoId);
+}
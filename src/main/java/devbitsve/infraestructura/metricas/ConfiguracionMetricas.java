@@ -0,0 +1,45 @@
+package devbitsve.infraestructura.metricas;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Publica histogramas (buckets de Prometheus) para las latencias de cada capa,
+ * de modo que los percentiles se puedan agregar entre instancias en los
+ * dashboards: HTTP por ruta y código, casos de uso y repositorio, y comandos
+ * de MongoDB.
+ */
+@Singleton
+public class ConfiguracionMetricas {
+
+    private static final Set<String> TIMERS_CON_HISTOGRAMA = Set.of(
+            "http.server.requests",
+            InterceptorMedicion.TIMER,
+            "mongodb.driver.commands");
+
+    @Produces
+    @Singleton
+    MeterFilter histogramasDeLatencia() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!TIMERS_CON_HISTOGRAMA.contains(id.getName())) {
+                    return config;
+                }
+                // Buckets entre 1 ms y 10 s: fuera de ese rango no aportan resolución útil
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
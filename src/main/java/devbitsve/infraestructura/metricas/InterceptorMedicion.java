@@ -0,0 +1,144 @@
+package devbitsve.infraestructura.metricas;
+
+import devbitsve.dominio.modelo.Pagina;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Registra cada invocación de un bean {@link Medido} en el timer
+ * empleados.operacion (etiquetas capa, clase, metodo y excepcion). En los
+ * repositorios registra además cuántos documentos devolvió cada método en
+ * empleados.repositorio.documentos: cada uno se leyó de MongoDB y se mapeó al
+ * dominio.
+ *
+ * <p>Si el bean implementa un puerto del dominio solo se miden los métodos del
+ * puerto, no los que agrega Panache. Los métodos que devuelven un Stream se
+ * miden hasta entregarlo, no hasta consumirlo.
+ */
+@Medido("")
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 10)
+public class InterceptorMedicion {
+
+    static final String TIMER = "empleados.operacion";
+    static final String DOCUMENTOS = "empleados.repositorio.documentos";
+    static final String CAPA_REPOSITORIO = "repositorio";
+
+    private static final String SIN_EXCEPCION = "none";
+
+    @Inject
+    MeterRegistry registroMetricas;
+
+    private final Map<Method, Optional<Medicion>> mediciones = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object medir(InvocationContext contexto) throws Exception {
+        Optional<Medicion> medicion = mediciones.computeIfAbsent(contexto.getMethod(), this::crearMedicion);
+        if (medicion.isEmpty()) {
+            return contexto.proceed();
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            Object resultado = contexto.proceed();
+            medicion.get().registrar(System.nanoTime() - inicio, resultado);
+            return resultado;
+        } catch (Exception e) {
+            medicion.get().registrarFallo(registroMetricas, System.nanoTime() - inicio, e);
+            throw e;
+        }
+    }
+
+    private Optional<Medicion> crearMedicion(Method metodo) {
+        if (!MetodosMedidos.esMedible(metodo)) {
+            return Optional.empty();
+        }
+        String capa = MetodosMedidos.capa(metodo);
+        Tags etiquetas = Tags.of(
+                "capa", capa,
+                "clase", metodo.getDeclaringClass().getSimpleName(),
+                "metodo", metodo.getName());
+        Timer exito = Timer.builder(TIMER)
+                .description("Duración de los casos de uso y de las operaciones del repositorio")
+                .tags(etiquetas)
+                .tag("excepcion", SIN_EXCEPCION)
+                .register(registroMetricas);
+        DistributionSummary documentos = CAPA_REPOSITORIO.equals(capa)
+                ? DistributionSummary.builder(DOCUMENTOS)
+                        .description("Documentos leídos de MongoDB y mapeados al dominio por operación")
+                        .tags(etiquetas)
+                        .register(registroMetricas)
+                : null;
+        return Optional.of(new Medicion(etiquetas, exito, documentos));
+    }
+
+    /**
+     * Medidores de un método, creados una vez
+     */
+    private static final class Medicion {
+
+        private final Tags etiquetas;
+        private final Timer exito;
+        private final DistributionSummary documentos;
+
+        Medicion(Tags etiquetas, Timer exito, DistributionSummary documentos) {
+            this.etiquetas = etiquetas;
+            this.exito = exito;
+            this.documentos = documentos;
+        }
+
+        void registrar(long duracionNanos, Object resultado) {
+            exito.record(duracionNanos, TimeUnit.NANOSECONDS);
+            if (documentos != null) {
+                long cantidad = contarDocumentos(resultado);
+                if (cantidad >= 0) {
+                    documentos.record(cantidad);
+                }
+            }
+        }
+
+        void registrarFallo(MeterRegistry registro, long duracionNanos, Exception excepcion) {
+            Timer.builder(TIMER)
+                    .tags(etiquetas)
+                    .tag("excepcion", excepcion.getClass().getSimpleName())
+                    .register(registro)
+                    .record(duracionNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Documentos representados por el resultado, o -1 si no aplica
+         * (conteos, booleanos, streams sin consumir)
+         */
+        private static long contarDocumentos(Object resultado) {
+            if (resultado instanceof Collection<?> coleccion) {
+                return coleccion.size();
+            }
+            if (resultado instanceof Pagina<?> pagina) {
+                return pagina.getElementos().size();
+            }
+            if (resultado instanceof Optional<?> opcional) {
+                return opcional.isPresent() ? 1 : 0;
+            }
+            if (resultado == null || resultado instanceof Boolean || resultado instanceof Number
+                    || resultado instanceof BaseStream<?, ?>) {
+                return -1;
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package devbitsve.infraestructura.metricas;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mide la duración de los métodos públicos del bean en el timer
+ * empleados.operacion, etiquetado con la capa indicada, la clase y el método
+ * ({@link InterceptorMedicion}), y abre un span por invocación con el mismo
+ * nombre ({@link devbitsve.infraestructura.trazas.InterceptorTrazas}).
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Medido {
+
+    /**
+     * Capa a la que pertenece el bean: servicio, repositorio...
+     */
+    @Nonbinding
+    String value();
+}
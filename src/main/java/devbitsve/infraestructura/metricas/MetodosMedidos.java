@@ -0,0 +1,51 @@
+package devbitsve.infraestructura.metricas;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Qué métodos de un bean {@link Medido} se miden y a qué capa pertenecen.
+ * Lo comparten las métricas y las trazas, para que ambas cubran los mismos
+ * métodos.
+ */
+public final class MetodosMedidos {
+
+    private static final String PAQUETE_PUERTOS = "devbitsve.dominio.puerto";
+
+    private MetodosMedidos() {
+    }
+
+    /**
+     * Un método se mide si el bean no implementa puertos del dominio o si el
+     * método pertenece a alguno de ellos: de un repositorio Panache solo
+     * interesan los métodos del puerto, no los que agrega Panache
+     */
+    public static boolean esMedible(Method metodo) {
+        Class<?>[] puertos = Arrays.stream(metodo.getDeclaringClass().getInterfaces())
+                .filter(interfaz -> interfaz.getPackageName().startsWith(PAQUETE_PUERTOS))
+                .toArray(Class<?>[]::new);
+        if (puertos.length == 0) {
+            return metodo.getDeclaringClass().getPackageName().startsWith("devbitsve");
+        }
+        for (Class<?> puerto : puertos) {
+            try {
+                puerto.getMethod(metodo.getName(), metodo.getParameterTypes());
+                return true;
+            } catch (NoSuchMethodException e) {
+                // No pertenece a este puerto
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Capa declarada en {@link Medido}, en el método o en su clase
+     */
+    public static String capa(Method metodo) {
+        Medido medido = metodo.getAnnotation(Medido.class);
+        if (medido == null) {
+            medido = metodo.getDeclaringClass().getAnnotation(Medido.class);
+        }
+        return medido != null ? medido.value() : "";
+    }
+}
@@ -0,0 +1,70 @@
+package devbitsve.infraestructura.metricas;
+
+import com.mongodb.client.MongoClient;
+import devbitsve.infraestructura.persistencia.indice.IndicesEmpleado;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.Startup;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cantidad de documentos de cada colección, publicada como gauge
+ * empleados.coleccion.documentos. Se consulta a MongoDB periódicamente y no al
+ * leer la métrica, para que /q/metrics nunca espere a la base.
+ */
+@Startup
+@ApplicationScoped
+public class MetricasColecciones {
+
+    private static final Logger LOG = Logger.getLogger(MetricasColecciones.class);
+
+    private static final List<String> COLECCIONES = List.of(
+            IndicesEmpleado.COLECCION_EMPLEADOS, IndicesEmpleado.COLECCION_HISTORIAL_CARGOS);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    MeterRegistry registroMetricas;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    private final Map<String, AtomicLong> documentos = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void iniciar() {
+        for (String coleccion : COLECCIONES) {
+            AtomicLong cantidad = new AtomicLong();
+            documentos.put(coleccion, cantidad);
+            Gauge.builder("empleados.coleccion.documentos", cantidad, AtomicLong::get)
+                    .description("Documentos en la colección (estimado por MongoDB)")
+                    .tag("coleccion", coleccion)
+                    .register(registroMetricas);
+        }
+    }
+
+    @Scheduled(every = "${empleados.metricas.colecciones}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void actualizar() {
+        for (String coleccion : COLECCIONES) {
+            try {
+                // Lee los metadatos de la colección, sin recorrerla
+                documentos.get(coleccion).set(mongoClient.getDatabase(baseDatos)
+                        .getCollection(coleccion)
+                        .estimatedDocumentCount());
+            } catch (RuntimeException e) {
+                LOG.warnf(e, "No se pudo contar la colección %s", coleccion);
+            }
+        }
+    }
+}
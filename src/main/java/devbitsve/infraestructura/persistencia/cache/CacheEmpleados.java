@@ -0,0 +1,123 @@
+package devbitsve.infraestructura.persistencia.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devbitsve.dominio.modelo.Empleado;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria de empleados por ID, con un índice secundario de documento
+ * de identidad a ID.
+ * Está acotada por tamaño y por tiempo desde la última escritura, y publica
+ * sus aciertos, fallos y desalojos en Micrometer.
+ * Empleado es mutable, por eso se guardan y entregan copias.
+ */
+@ApplicationScoped
+public class CacheEmpleados {
+
+    @Inject
+    MeterRegistry registroMetricas;
+
+    @ConfigProperty(name = "empleados.cache.tamano-maximo", defaultValue = "10000")
+    long tamanoMaximo;
+
+    @ConfigProperty(name = "empleados.cache.expiracion", defaultValue = "PT1M")
+    Duration expiracion;
+
+    private Cache<String, Empleado> porId;
+    private Cache<String, String> idPorDocumento;
+
+    @PostConstruct
+    void iniciar() {
+        porId = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build();
+        idPorDocumento = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(registroMetricas, porId, "empleados-por-id");
+        CaffeineCacheMetrics.monitor(registroMetricas, idPorDocumento, "empleados-id-por-documento");
+    }
+
+    /**
+     * Devuelve el empleado en caché o lo carga con la función indicada. Mientras
+     * se carga una clave, las escrituras sobre esa misma clave esperan, así una
+     * lectura lenta no pisa una actualización más reciente
+     */
+    public Optional<Empleado> obtener(String id, Function<String, Optional<Empleado>> cargador) {
+        Empleado empleado = porId.get(id, clave -> cargador.apply(clave).map(this::copiar).orElse(null));
+        if (empleado != null) {
+            idPorDocumento.put(empleado.getInformacionPersonal().getDocumentoIdentidad(), id);
+        }
+        return Optional.ofNullable(empleado).map(this::copiar);
+    }
+
+    /**
+     * ID del empleado con el documento indicado, si está en caché
+     */
+    public Optional<String> obtenerIdPorDocumento(String documentoIdentidad) {
+        return Optional.ofNullable(idPorDocumento.getIfPresent(documentoIdentidad));
+    }
+
+    /**
+     * Guarda (o reemplaza) el estado más reciente de un empleado
+     */
+    public void guardar(Empleado empleado) {
+        Empleado anterior = porId.getIfPresent(empleado.getId());
+        String documento = empleado.getInformacionPersonal().getDocumentoIdentidad();
+        if (anterior != null && !anterior.getInformacionPersonal().getDocumentoIdentidad().equals(documento)) {
+            idPorDocumento.invalidate(anterior.getInformacionPersonal().getDocumentoIdentidad());
+        }
+
+        porId.put(empleado.getId(), copiar(empleado));
+        idPorDocumento.put(documento, empleado.getId());
+    }
+
+    /**
+     * Descarta un empleado de la caché
+     */
+    public void invalidar(String id) {
+        Empleado anterior = porId.getIfPresent(id);
+        porId.invalidate(id);
+        if (anterior != null) {
+            idPorDocumento.invalidate(anterior.getInformacionPersonal().getDocumentoIdentidad());
+        }
+    }
+
+    /**
+     * Descarta todos los empleados, para cambios que afectan a un conjunto no
+     * determinado de ellos
+     */
+    public void invalidarTodo() {
+        porId.invalidateAll();
+        idPorDocumento.invalidateAll();
+    }
+
+    private Empleado copiar(Empleado empleado) {
+        // Los value objects son inmutables; basta con copiar el agregado
+        return new Empleado(
+                empleado.getId(),
+                empleado.getInformacionPersonal(),
+                empleado.getInformacionContacto(),
+                empleado.getCargoActual(),
+                empleado.getCantidadCargosHistorial(),
+                empleado.getEstado(),
+                empleado.getFechaCreacion(),
+                empleado.getFechaActualizacion(),
+                empleado.getVersion());
+    }
+}
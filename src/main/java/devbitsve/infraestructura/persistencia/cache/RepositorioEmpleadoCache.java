@@ -0,0 +1,142 @@
+package devbitsve.infraestructura.persistencia.cache;
+
+import devbitsve.dominio.modelo.*;
+import devbitsve.dominio.puerto.RepositorioEmpleado;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decorador del puerto RepositorioEmpleado que resuelve las búsquedas por ID y
+ * por documento desde {@link CacheEmpleados}.
+ * Toda operación de escritura que pasa por el puerto refresca o invalida la
+ * caché; el resto de operaciones se delegan sin cambios.
+ */
+@Decorator
+@Priority(10)
+public abstract class RepositorioEmpleadoCache implements RepositorioEmpleado {
+
+    @Inject
+    @Delegate
+    @Any
+    RepositorioEmpleado delegado;
+
+    @Inject
+    CacheEmpleados cache;
+
+    @Override
+    public Empleado guardar(Empleado empleado) {
+        Empleado guardado = delegado.guardar(empleado);
+        cache.guardar(guardado);
+        return guardado;
+    }
+
+    @Override
+    public Empleado actualizar(Empleado empleado) {
+        try {
+            Empleado actualizado = delegado.actualizar(empleado);
+            cache.guardar(actualizado);
+            return actualizado;
+        } catch (RuntimeException e) {
+            cache.invalidar(empleado.getId());
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<CambioEstado> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        return refrescar(id, () -> delegado.actualizarEstado(id, nuevoEstado, versionEsperada), CambioEstado::getEmpleado);
+    }
+
+    @Override
+    public Optional<Empleado> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada) {
+        return refrescar(id, () -> delegado.actualizarInformacionPersonal(id, informacionPersonal, versionEsperada));
+    }
+
+    @Override
+    public Optional<Empleado> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada) {
+        return refrescar(id, () -> delegado.actualizarInformacionContacto(id, informacionContacto, versionEsperada));
+    }
+
+    @Override
+    public Optional<CambioCargo> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        return refrescar(id, () -> delegado.cambiarCargo(id, nuevoCargo, versionEsperada), CambioCargo::getEmpleado);
+    }
+
+    @Override
+    public ResultadoActualizacionMasiva actualizarEstadoMasivo(FiltroEmpleados filtro, EstadoEmpleado nuevoEstado) {
+        try {
+            return delegado.actualizarEstadoMasivo(filtro, nuevoEstado);
+        } finally {
+            cache.invalidarTodo();
+        }
+    }
+
+    @Override
+    public Optional<Empleado> buscarPorId(String id) {
+        return cache.obtener(id, delegado::buscarPorId);
+    }
+
+    @Override
+    public Optional<Empleado> buscarPorIdVigente(String id, MarcaActualizacion marca) {
+        Optional<Empleado> enCache = buscarPorId(id);
+        if (enCache.isEmpty() || marca.coincideCon(MarcaActualizacion.de(enCache.get()))) {
+            return enCache;
+        }
+        // Otra réplica lo modificó después de guardarse la copia
+        cache.invalidar(id);
+        return buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Empleado> buscarPorDocumentoIdentidad(String documentoIdentidad) {
+        Optional<Empleado> enCache = cache.obtenerIdPorDocumento(documentoIdentidad)
+                .flatMap(this::buscarPorId)
+                // El documento pudo cambiar después de guardarse la asociación
+                .filter(empleado -> documentoIdentidad.equals(
+                        empleado.getInformacionPersonal().getDocumentoIdentidad()));
+        if (enCache.isPresent()) {
+            return enCache;
+        }
+
+        Optional<Empleado> encontrado = delegado.buscarPorDocumentoIdentidad(documentoIdentidad);
+        encontrado.ifPresent(cache::guardar);
+        return encontrado;
+    }
+
+    @Override
+    public Optional<EmpleadoEliminado> eliminar(String id) {
+        try {
+            return delegado.eliminar(id);
+        } finally {
+            cache.invalidar(id);
+        }
+    }
+
+    private Optional<Empleado> refrescar(String id, Supplier<Optional<Empleado>> operacion) {
+        return refrescar(id, operacion, Function.identity());
+    }
+
+    /**
+     * Ejecuta una escritura y guarda en la caché el empleado resultante, o
+     * invalida la entrada si no lo hay o la escritura falla
+     */
+    private <T> Optional<T> refrescar(String id, Supplier<Optional<T>> operacion, Function<T, Empleado> empleado) {
+        try {
+            Optional<T> resultado = operacion.get();
+            resultado.map(empleado).ifPresentOrElse(cache::guardar, () -> cache.invalidar(id));
+            return resultado;
+        } catch (RuntimeException e) {
+            cache.invalidar(id);
+            throw e;
+        }
+    }
+}
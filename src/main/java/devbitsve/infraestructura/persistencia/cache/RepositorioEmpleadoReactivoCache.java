@@ -0,0 +1,78 @@
+package devbitsve.infraestructura.persistencia.cache;
+
+import devbitsve.dominio.modelo.*;
+import devbitsve.dominio.puerto.RepositorioEmpleadoReactivo;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Decorador del puerto RepositorioEmpleadoReactivo que mantiene coherente
+ * {@link CacheEmpleados} con las escrituras reactivas: cada una refresca o
+ * invalida la entrada del empleado, igual que {@link RepositorioEmpleadoCache}.
+ * Las lecturas reactivas se delegan sin cambios, porque la caché carga los
+ * empleados que faltan de forma bloqueante.
+ */
+@Decorator
+@Priority(10)
+public abstract class RepositorioEmpleadoReactivoCache implements RepositorioEmpleadoReactivo {
+
+    @Inject
+    @Delegate
+    @Any
+    RepositorioEmpleadoReactivo delegado;
+
+    @Inject
+    CacheEmpleados cache;
+
+    @Override
+    public Uni<Empleado> guardar(Empleado empleado) {
+        return delegado.guardar(empleado).invoke(cache::guardar);
+    }
+
+    @Override
+    public Uni<Optional<CambioEstado>> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        return refrescar(id, delegado.actualizarEstado(id, nuevoEstado, versionEsperada), CambioEstado::getEmpleado);
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada) {
+        return refrescar(id, delegado.actualizarInformacionPersonal(id, informacionPersonal, versionEsperada),
+                Function.identity());
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada) {
+        return refrescar(id, delegado.actualizarInformacionContacto(id, informacionContacto, versionEsperada),
+                Function.identity());
+    }
+
+    @Override
+    public Uni<Optional<CambioCargo>> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        return refrescar(id, delegado.cambiarCargo(id, nuevoCargo, versionEsperada), CambioCargo::getEmpleado);
+    }
+
+    @Override
+    public Uni<Optional<EmpleadoEliminado>> eliminar(String id) {
+        return delegado.eliminar(id).onTermination().invoke(() -> cache.invalidar(id));
+    }
+
+    /**
+     * Guarda en la caché el empleado resultante de una escritura, o invalida la
+     * entrada si no lo hay o la escritura falla
+     */
+    private <T> Uni<Optional<T>> refrescar(String id, Uni<Optional<T>> operacion, Function<T, Empleado> empleado) {
+        return operacion
+                .invoke(resultado -> resultado.map(empleado)
+                        .ifPresentOrElse(cache::guardar, () -> cache.invalidar(id)))
+                .onFailure().invoke(() -> cache.invalidar(id));
+    }
+}
@@ -0,0 +1,92 @@
+package devbitsve.infraestructura.persistencia.diagnostico;
+
+import java.time.LocalDateTime;
+
+/**
+ * Comando a MongoDB que superó el umbral de consultas lentas, con el origen
+ * en la aplicación y el plan con el que se ejecutó.
+ */
+public class ConsultaLenta {
+
+    private final LocalDateTime momento;
+    private final String comando;
+    private final String coleccion;
+    private final long duracionMs;
+    private final String casoDeUso;
+    private final String metodoRepositorio;
+    private final String forma;
+    private final PlanConsulta plan;
+
+    public ConsultaLenta(LocalDateTime momento, String comando, String coleccion, long duracionMs,
+                         String casoDeUso, String metodoRepositorio, String forma, PlanConsulta plan) {
+        this.momento = momento;
+        this.comando = comando;
+        this.coleccion = coleccion;
+        this.duracionMs = duracionMs;
+        this.casoDeUso = casoDeUso;
+        this.metodoRepositorio = metodoRepositorio;
+        this.forma = forma;
+        this.plan = plan;
+    }
+
+    public LocalDateTime getMomento() {
+        return momento;
+    }
+
+    /**
+     * Nombre del comando: find, aggregate, count, findAndModify...
+     */
+    public String getComando() {
+        return comando;
+    }
+
+    public String getColeccion() {
+        return coleccion;
+    }
+
+    public long getDuracionMs() {
+        return duracionMs;
+    }
+
+    /**
+     * Método del servicio de aplicación que originó la consulta, o null si se
+     * emitió fuera de un caso de uso o desde otro hilo
+     */
+    public String getCasoDeUso() {
+        return casoDeUso;
+    }
+
+    /**
+     * Método del repositorio que emitió la consulta, o null si se desconoce
+     */
+    public String getMetodoRepositorio() {
+        return metodoRepositorio;
+    }
+
+    /**
+     * Comando sin valores (ver {@link devbitsve.infraestructura.trazas.FormaComando})
+     */
+    public String getForma() {
+        return forma;
+    }
+
+    /**
+     * Plan de ejecución, o null si no se pudo obtener
+     */
+    public PlanConsulta getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsultaLenta{" +
+                "comando='" + comando + '\'' +
+                ", coleccion='" + coleccion + '\'' +
+                ", duracionMs=" + duracionMs +
+                ", casoDeUso='" + casoDeUso + '\'' +
+                ", metodoRepositorio='" + metodoRepositorio + '\'' +
+                ", forma='" + forma + '\'' +
+                ", plan=" + plan +
+                '}';
+    }
+}
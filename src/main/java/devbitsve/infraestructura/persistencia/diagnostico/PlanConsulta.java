@@ -0,0 +1,142 @@
+package devbitsve.infraestructura.persistencia.diagnostico;
+
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resumen del explain (executionStats) de una consulta: cómo se recorrió la
+ * colección y cuánto trabajo hizo MongoDB para devolver el resultado.
+ */
+public class PlanConsulta {
+
+    private final String recorrido;
+    private final List<String> indices;
+    private final long documentosExaminados;
+    private final long clavesExaminadas;
+    private final long documentosDevueltos;
+
+    public PlanConsulta(String recorrido, List<String> indices, long documentosExaminados,
+                        long clavesExaminadas, long documentosDevueltos) {
+        this.recorrido = recorrido;
+        this.indices = List.copyOf(indices);
+        this.documentosExaminados = documentosExaminados;
+        this.clavesExaminadas = clavesExaminadas;
+        this.documentosDevueltos = documentosDevueltos;
+    }
+
+    /**
+     * Resume la salida de explain. Las etapas del plan ganador se buscan en
+     * cualquier nivel, porque su ubicación cambia entre find, aggregate y los
+     * motores de ejecución de MongoDB
+     */
+    static PlanConsulta de(Document explicacion) {
+        Set<String> etapas = new LinkedHashSet<>();
+        Set<String> indices = new LinkedHashSet<>();
+        Document planificador = buscar(explicacion, "queryPlanner");
+        Document ganador = planificador != null ? planificador.get("winningPlan", Document.class) : null;
+        recorrer(ganador != null ? ganador : explicacion, etapas, indices);
+
+        Document estadisticas = buscar(explicacion, "executionStats");
+        return new PlanConsulta(
+                recorrido(etapas),
+                new ArrayList<>(indices),
+                numero(estadisticas, "totalDocsExamined"),
+                numero(estadisticas, "totalKeysExamined"),
+                numero(estadisticas, "nReturned"));
+    }
+
+    /**
+     * COLLSCAN si alguna etapa recorre la colección completa, IXSCAN si usa un
+     * índice y, si no, la etapa de acceso (IDHACK, COUNT_SCAN, EOF...)
+     */
+    private static String recorrido(Set<String> etapas) {
+        if (etapas.contains("COLLSCAN")) {
+            return "COLLSCAN";
+        }
+        if (etapas.stream().anyMatch(etapa -> etapa.endsWith("IXSCAN"))) {
+            return "IXSCAN";
+        }
+        List<String> todas = new ArrayList<>(etapas);
+        return todas.isEmpty() ? "DESCONOCIDO" : todas.get(todas.size() - 1);
+    }
+
+    private static void recorrer(Object valor, Set<String> etapas, Set<String> indices) {
+        if (valor instanceof Document documento) {
+            for (Map.Entry<String, Object> campo : documento.entrySet()) {
+                if ("stage".equals(campo.getKey()) && campo.getValue() instanceof String etapa) {
+                    etapas.add(etapa);
+                } else if ("indexName".equals(campo.getKey()) && campo.getValue() instanceof String indice) {
+                    indices.add(indice);
+                } else {
+                    recorrer(campo.getValue(), etapas, indices);
+                }
+            }
+        } else if (valor instanceof List<?> lista) {
+            lista.forEach(elemento -> recorrer(elemento, etapas, indices));
+        }
+    }
+
+    private static Document buscar(Object valor, String clave) {
+        if (valor instanceof Document documento) {
+            if (documento.get(clave) instanceof Document encontrado) {
+                return encontrado;
+            }
+            for (Object anidado : documento.values()) {
+                Document encontrado = buscar(anidado, clave);
+                if (encontrado != null) {
+                    return encontrado;
+                }
+            }
+        } else if (valor instanceof List<?> lista) {
+            for (Object elemento : lista) {
+                Document encontrado = buscar(elemento, clave);
+                if (encontrado != null) {
+                    return encontrado;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long numero(Document documento, String clave) {
+        return documento != null && documento.get(clave) instanceof Number valor ? valor.longValue() : 0;
+    }
+
+    /**
+     * COLLSCAN, IXSCAN o la etapa de acceso del plan ganador
+     */
+    public String getRecorrido() {
+        return recorrido;
+    }
+
+    /**
+     * Índices usados por el plan ganador
+     */
+    public List<String> getIndices() {
+        return indices;
+    }
+
+    public long getDocumentosExaminados() {
+        return documentosExaminados;
+    }
+
+    public long getClavesExaminadas() {
+        return clavesExaminadas;
+    }
+
+    public long getDocumentosDevueltos() {
+        return documentosDevueltos;
+    }
+
+    @Override
+    public String toString() {
+        return recorrido + (indices.isEmpty() ? "" : " " + indices) +
+                ", " + documentosExaminados + " documentos y " + clavesExaminadas + " claves examinados" +
+                " para " + documentosDevueltos + " devueltos";
+    }
+}
@@ -0,0 +1,202 @@
+package devbitsve.infraestructura.persistencia.diagnostico;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import devbitsve.infraestructura.persistencia.indice.IndicesEmpleado;
+import devbitsve.infraestructura.trazas.FormaComando;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Registro de consultas lentas sobre las colecciones de empleados e historial.
+ * Escucha los comandos del driver y, cuando uno supera
+ * empleados.consultas-lentas.umbral, obtiene su plan con explain, lo registra
+ * en el log y lo guarda entre las últimas consultas lentas, que se consultan
+ * en /api/admin/consultas-lentas.
+ * El explain se ejecuta en un único hilo aparte con una cola acotada: no
+ * retrasa la petición y, si llegan más consultas lentas de las que alcanza a
+ * explicar, las restantes se guardan sin plan en lugar de cargar más la base.
+ */
+@ApplicationScoped
+public class RegistroConsultasLentas implements CommandListener {
+
+    private static final Logger LOG = Logger.getLogger(RegistroConsultasLentas.class);
+
+    /**
+     * Comandos de lectura o escritura con filtro, que explain admite
+     */
+    private static final Set<String> COMANDOS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+    private static final Set<String> COLECCIONES = Set.of(
+            IndicesEmpleado.COLECCION_EMPLEADOS, IndicesEmpleado.COLECCION_HISTORIAL_CARGOS);
+
+    /**
+     * Campos que agrega el driver y que explain no acepta dentro del comando
+     */
+    private static final Set<String> CAMPOS_DRIVER = Set.of("lsid", "txnNumber", "autocommit", "startTransaction");
+
+    private static final String PAQUETE_CASOS_DE_USO = "devbitsve.aplicacion.";
+    private static final String PAQUETE_REPOSITORIOS = "devbitsve.infraestructura.persistencia.repositorio.";
+
+    @Inject
+    MongoClient mongoClient;
+
+    @ConfigProperty(name = "empleados.consultas-lentas.umbral", defaultValue = "100ms")
+    Duration umbral;
+
+    /**
+     * Cantidad de consultas lentas que se conservan; al llegar a ella la
+     * nueva reemplaza a la más antigua
+     */
+    @ConfigProperty(name = "empleados.consultas-lentas.maximo", defaultValue = "100")
+    int maximo;
+
+    // Comandos en curso por requestId: el documento del evento solo es válido
+    // durante la notificación, por eso se copia
+    private final Map<Integer, BsonDocument> enCurso = new ConcurrentHashMap<>();
+    private final Deque<ConsultaLenta> recientes = new ArrayDeque<>();
+    private ThreadPoolExecutor explicaciones;
+
+    @PostConstruct
+    void iniciar() {
+        explicaciones = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maximo),
+                Thread.ofPlatform().name("explain-consultas-lentas").daemon().factory());
+    }
+
+    @PreDestroy
+    void detener() {
+        explicaciones.shutdownNow();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent evento) {
+        if (COMANDOS.contains(evento.getCommandName())
+                && COLECCIONES.contains(coleccion(evento.getCommand(), evento.getCommandName()))) {
+            enCurso.put(evento.getRequestId(), evento.getCommand().clone());
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent evento) {
+        finalizar(evento.getRequestId(), evento.getDatabaseName(), evento.getCommandName(),
+                evento.getElapsedTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent evento) {
+        finalizar(evento.getRequestId(), evento.getDatabaseName(), evento.getCommandName(),
+                evento.getElapsedTime(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Últimas consultas lentas, de la más lenta a la más rápida
+     */
+    public List<ConsultaLenta> obtenerConsultasLentas() {
+        synchronized (recientes) {
+            return recientes.stream()
+                    .sorted(Comparator.comparingLong(ConsultaLenta::getDuracionMs).reversed())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void finalizar(int idPeticion, String baseDatos, String nombreComando, long duracionMs) {
+        BsonDocument comando = enCurso.remove(idPeticion);
+        if (comando == null || duracionMs < umbral.toMillis()) {
+            return;
+        }
+
+        // El driver síncrono notifica en el hilo que emitió el comando, así que
+        // la pila todavía muestra el caso de uso y el repositorio
+        String casoDeUso = llamador(PAQUETE_CASOS_DE_USO).orElse(null);
+        String metodoRepositorio = llamador(PAQUETE_REPOSITORIOS).orElse(null);
+        LocalDateTime momento = LocalDateTime.now();
+        String coleccion = coleccion(comando, nombreComando);
+        String forma = FormaComando.de(comando);
+
+        try {
+            explicaciones.execute(() -> registrar(new ConsultaLenta(momento, nombreComando, coleccion, duracionMs,
+                    casoDeUso, metodoRepositorio, forma, explicar(baseDatos, comando))));
+        } catch (RejectedExecutionException e) {
+            registrar(new ConsultaLenta(momento, nombreComando, coleccion, duracionMs,
+                    casoDeUso, metodoRepositorio, forma, null));
+        }
+    }
+
+    private PlanConsulta explicar(String baseDatos, BsonDocument comando) {
+        BsonDocument explicable = new BsonDocument();
+        comando.forEach((clave, valor) -> {
+            if (!clave.startsWith("$") && !CAMPOS_DRIVER.contains(clave)) {
+                explicable.put(clave, valor);
+            }
+        });
+        try {
+            Document explicacion = mongoClient.getDatabase(baseDatos).runCommand(new BsonDocument("explain", explicable)
+                    .append("verbosity", new BsonString("executionStats")));
+            return PlanConsulta.de(explicacion);
+        } catch (MongoException e) {
+            LOG.debugf(e, "No se pudo obtener el plan de %s", FormaComando.de(comando));
+            return null;
+        }
+    }
+
+    private void registrar(ConsultaLenta consulta) {
+        LOG.warnf("Consulta lenta: %s %s en %d ms desde %s (%s); plan %s; forma %s",
+                consulta.getComando(), consulta.getColeccion(), consulta.getDuracionMs(),
+                consulta.getCasoDeUso(), consulta.getMetodoRepositorio(),
+                consulta.getPlan() != null ? consulta.getPlan() : "no disponible", consulta.getForma());
+        synchronized (recientes) {
+            if (recientes.size() >= maximo) {
+                recientes.removeFirst();
+            }
+            recientes.addLast(consulta);
+        }
+    }
+
+    private static String coleccion(BsonDocument comando, String nombreComando) {
+        BsonValue coleccion = comando.get(nombreComando);
+        return coleccion != null && coleccion.isString() ? coleccion.asString().getValue() : null;
+    }
+
+    /**
+     * Primer método de la pila en el paquete indicado, sin contar las
+     * subclases y proxies que genera ArC ni las lambdas
+     */
+    private static Optional<String> llamador(String paquete) {
+        return StackWalker.getInstance().walk(marcos -> marcos
+                .filter(marco -> marco.getClassName().startsWith(paquete))
+                .filter(marco -> !marco.getClassName().contains("_") && !marco.getMethodName().startsWith("lambda$"))
+                .map(marco -> marco.getClassName().substring(marco.getClassName().lastIndexOf('.') + 1)
+                        + "." + marco.getMethodName())
+                .findFirst());
+    }
+}
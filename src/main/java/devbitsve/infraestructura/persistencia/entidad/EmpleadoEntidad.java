@@ -6,7 +6,6 @@ import org.bson.types.ObjectId;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,16 +32,28 @@ public class EmpleadoEntidad {
     // Cargo Actual
     public InformacionLaboralEntidad cargoActual;
 
-    // Historial de Cargos
-    public List<InformacionLaboralEntidad> historialCargos = new ArrayList<>();
+    // Cantidad de cargos anteriores (el historial está en la colección historial_cargos)
+    public int cantidadCargosHistorial;
+
+    // Cargos finalizados que aún no se agregaron a historial_cargos: se guardan
+    // aquí al cambiar de cargo y se quitan una vez registrados
+    public List<InformacionLaboralEntidad> historialPendiente;
 
     // Estado
     public String estado;
 
+    // Claves de búsqueda normalizadas (BusquedaMapper): una por palabra del
+    // nombre y los apellidos, y de la parte local del email
+    public List<String> terminosNombre;
+    public List<String> terminosEmail;
+
     // Auditoría
     public LocalDateTime fechaCreacion;
     public LocalDateTime fechaActualizacion;
 
+    // Control de concurrencia optimista (ausente en documentos anteriores: 0)
+    public long version;
+
     /**
      * Clase embebida que representa la información laboral en MongoDB
      */
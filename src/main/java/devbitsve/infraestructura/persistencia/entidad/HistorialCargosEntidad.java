@@ -0,0 +1,28 @@
+package devbitsve.infraestructura.persistencia.entidad;
+
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad.InformacionLaboralEntidad;
+import io.quarkus.mongodb.panache.common.MongoEntity;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entidad de MongoDB que agrupa los cargos anteriores de un empleado
+ * finalizados en un mismo período (patrón bucket): un documento por empleado y
+ * año, en lugar de un documento por cargo o una lista sin límite dentro del
+ * empleado.
+ */
+@MongoEntity(collection = "historial_cargos")
+public class HistorialCargosEntidad {
+
+    public ObjectId id;
+
+    public ObjectId empleadoId;
+
+    // Año de finalización de los cargos del bucket
+    public int periodo;
+
+    // Cargos en el orden en que se registraron
+    public List<InformacionLaboralEntidad> cargos = new ArrayList<>();
+}
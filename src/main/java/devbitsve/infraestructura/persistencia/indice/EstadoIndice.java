@@ -0,0 +1,31 @@
+package devbitsve.infraestructura.persistencia.indice;
+
+/**
+ * Enum que representa el estado de construcción de un índice requerido.
+ */
+public enum EstadoIndice {
+    /**
+     * Aún no se ha intentado crear
+     */
+    PENDIENTE,
+
+    /**
+     * Se está construyendo en MongoDB
+     */
+    CONSTRUYENDO,
+
+    /**
+     * Existe en la colección
+     */
+    LISTO,
+
+    /**
+     * Existía o se esperaba que existiera, pero no aparece en la colección
+     */
+    FALTANTE,
+
+    /**
+     * MongoDB rechazó su creación
+     */
+    ERROR
+}
@@ -0,0 +1,41 @@
+package devbitsve.infraestructura.persistencia.indice;
+
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import org.bson.conversions.Bson;
+
+import java.util.Objects;
+
+/**
+ * Definición de un índice que debe existir en una colección de MongoDB.
+ * El nombre es obligatorio porque es lo que se usa para verificar su
+ * existencia.
+ */
+public class IndiceRequerido {
+
+    private final String coleccion;
+    private final IndexModel modelo;
+
+    public IndiceRequerido(String coleccion, Bson claves, IndexOptions opciones) {
+        this.coleccion = Objects.requireNonNull(coleccion, "Colección es requerida");
+        Objects.requireNonNull(opciones.getName(), "El índice debe tener nombre");
+        this.modelo = new IndexModel(claves, opciones);
+    }
+
+    public String getColeccion() {
+        return coleccion;
+    }
+
+    public String getNombre() {
+        return modelo.getOptions().getName();
+    }
+
+    public IndexModel getModelo() {
+        return modelo;
+    }
+
+    @Override
+    public String toString() {
+        return coleccion + "." + getNombre();
+    }
+}
@@ -0,0 +1,90 @@
+package devbitsve.infraestructura.persistencia.indice;
+
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import devbitsve.infraestructura.persistencia.mapper.BusquedaMapper;
+import devbitsve.infraestructura.persistencia.mapper.EmpleadoMapper;
+import devbitsve.infraestructura.persistencia.mapper.OrdenEmpleados;
+import devbitsve.infraestructura.persistencia.migracion.MigracionHistorialCargos;
+
+import java.util.List;
+
+/**
+ * Catálogo de los índices que necesitan las consultas sobre empleados.
+ * Los listados paginan por _id (índice implícito de MongoDB), por eso los
+ * índices de filtro terminan en _id: la igualdad se resuelve con el prefijo y
+ * el orden y el cursor con el sufijo, sin ordenar en memoria. Los filtros por
+ * rango ordenan por el campo del rango y luego por _id ({@link OrdenEmpleados}).
+ * Incluye los índices del historial de cargos, que se guarda en su propia
+ * colección.
+ */
+public final class IndicesEmpleado {
+
+    public static final String COLECCION_EMPLEADOS = "empleados";
+    public static final String COLECCION_HISTORIAL_CARGOS = "historial_cargos";
+
+    private IndicesEmpleado() {
+    }
+
+    /**
+     * Índices que deben existir para que la aplicación esté lista
+     */
+    public static List<IndiceRequerido> requeridos() {
+        return List.of(
+                // Unicidad y búsqueda por documento de identidad
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending("documentoIdentidad"),
+                        new IndexOptions().name("documentoIdentidad_unico").unique(true)),
+                // Listados y exportación por estado
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending("estado", "_id"),
+                        new IndexOptions().name("estado_id")),
+                // Listados y exportación por departamento
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending("cargoActual.departamento", "_id"),
+                        new IndexOptions().name("departamento_id")),
+                // Exportación combinando estado y departamento
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending("estado", "cargoActual.departamento", "_id"),
+                        new IndexOptions().name("estado_departamento_id")),
+                // Filtro por cargo
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending("cargoActual.cargo", "_id"),
+                        new IndexOptions().name("cargo_id")),
+                // Filtros por rango: el rango acota el recorrido y el índice
+                // entrega los empleados en el orden del listado (campo y _id)
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(OrdenEmpleados.SALARIO.getCampo(), "_id"),
+                        new IndexOptions().name(OrdenEmpleados.SALARIO.getIndice())),
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(OrdenEmpleados.FECHA_INICIO.getCampo(), "_id"),
+                        new IndexOptions().name(OrdenEmpleados.FECHA_INICIO.getIndice())),
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(OrdenEmpleados.FECHA_NACIMIENTO.getCampo(), "_id"),
+                        new IndexOptions().name(OrdenEmpleados.FECHA_NACIMIENTO.getIndice())),
+                // Búsqueda por prefijo de nombre y apellidos (multikey: una entrada
+                // por palabra)
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(BusquedaMapper.CAMPO_TERMINOS_NOMBRE),
+                        new IndexOptions().name("terminosNombre")),
+                // Búsqueda por prefijo de la parte local del email
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(BusquedaMapper.CAMPO_TERMINOS_EMAIL),
+                        new IndexOptions().name("terminosEmail")),
+                // Empleados con cargos finalizados pendientes de pasar al
+                // historial (disperso: solo los tienen tras un registro fallido)
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(EmpleadoMapper.CAMPO_HISTORIAL_PENDIENTE + ".fechaInicio"),
+                        new IndexOptions().name("historialPendiente").sparse(true)),
+                // Empleados con historial embebido aún sin migrar (disperso: deja
+                // de tener entradas cuando termina MigracionHistorialCargos)
+                new IndiceRequerido(COLECCION_EMPLEADOS,
+                        Indexes.ascending(MigracionHistorialCargos.CAMPO_EMBEBIDO + ".fechaInicio"),
+                        new IndexOptions().name("historialCargosEmbebido").sparse(true)),
+                // Un bucket por empleado y período; el historial se pagina del
+                // período más reciente al más antiguo
+                new IndiceRequerido(COLECCION_HISTORIAL_CARGOS,
+                        Indexes.compoundIndex(Indexes.ascending("empleadoId"), Indexes.descending("periodo")),
+                        new IndexOptions().name("empleadoId_periodo_unico").unique(true)));
+    }
+}
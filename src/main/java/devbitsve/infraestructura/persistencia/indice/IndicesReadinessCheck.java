@@ -0,0 +1,37 @@
+package devbitsve.infraestructura.persistencia.indice;
+
+import com.mongodb.MongoException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import java.util.Map;
+
+/**
+ * Chequeo de preparación (/q/health/ready) que mantiene la aplicación fuera
+ * de servicio mientras falte algún índice requerido, para no atender
+ * consultas que recorrerían la colección completa.
+ */
+@Readiness
+@ApplicationScoped
+public class IndicesReadinessCheck implements HealthCheck {
+
+    @Inject
+    RegistroIndices registroIndices;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder respuesta = HealthCheckResponse.named("indices-mongodb");
+        try {
+            Map<String, EstadoIndice> estados = registroIndices.verificar();
+            estados.forEach((indice, estado) -> respuesta.withData(indice, estado.name()));
+            boolean listos = estados.values().stream().allMatch(estado -> estado == EstadoIndice.LISTO);
+            return respuesta.status(listos).build();
+        } catch (MongoException e) {
+            return respuesta.down().withData("error", e.getMessage()).build();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package devbitsve.infraestructura.persistencia.indice;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registro de los índices requeridos por la aplicación.
+ * Los crea al arrancar (createIndexes es idempotente si la definición no
+ * cambió), lleva el estado de construcción de cada uno y permite verificar
+ * contra MongoDB si alguno falta.
+ */
+@ApplicationScoped
+public class RegistroIndices {
+
+    private static final Logger LOG = Logger.getLogger(RegistroIndices.class);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    /**
+     * Si es true los índices se construyen en un hilo aparte y la aplicación
+     * arranca sin esperar; mientras tanto no se reporta lista
+     */
+    @ConfigProperty(name = "empleados.indices.crear-en-segundo-plano", defaultValue = "true")
+    boolean crearEnSegundoPlano;
+
+    private final List<IndiceRequerido> requeridos = IndicesEmpleado.requeridos();
+    private final Map<IndiceRequerido, EstadoIndice> estados = new ConcurrentHashMap<>();
+
+    void alIniciar(@Observes StartupEvent evento) {
+        requeridos.forEach(indice -> estados.put(indice, EstadoIndice.PENDIENTE));
+
+        if (crearEnSegundoPlano) {
+            Thread.ofVirtual().name("creacion-indices").start(this::crearIndices);
+        } else {
+            crearIndices();
+        }
+    }
+
+    /**
+     * Crea los índices requeridos uno a uno para conocer el resultado de cada
+     * uno
+     */
+    void crearIndices() {
+        MongoDatabase database = mongoClient.getDatabase(baseDatos);
+        for (IndiceRequerido indice : requeridos) {
+            estados.put(indice, EstadoIndice.CONSTRUYENDO);
+            try {
+                database.getCollection(indice.getColeccion()).createIndexes(List.of(indice.getModelo()));
+                estados.put(indice, EstadoIndice.LISTO);
+                LOG.infof("Índice %s listo", indice);
+            } catch (MongoException e) {
+                estados.put(indice, EstadoIndice.ERROR);
+                LOG.errorf(e, "No se pudo crear el índice %s", indice);
+            }
+        }
+    }
+
+    /**
+     * Contrasta el estado registrado con los índices que realmente existen en
+     * MongoDB y devuelve el estado de cada índice requerido
+     */
+    public Map<String, EstadoIndice> verificar() {
+        MongoDatabase database = mongoClient.getDatabase(baseDatos);
+        Map<String, Set<String>> existentesPorColeccion = new HashMap<>();
+
+        Map<String, EstadoIndice> resultado = new LinkedHashMap<>();
+        for (IndiceRequerido indice : requeridos) {
+            Set<String> existentes = existentesPorColeccion.computeIfAbsent(indice.getColeccion(),
+                    coleccion -> database.getCollection(coleccion).listIndexes().into(new ArrayList<>()).stream()
+                            .map(definicion -> definicion.getString("name"))
+                            .collect(Collectors.toSet()));
+
+            EstadoIndice estado = estados.getOrDefault(indice, EstadoIndice.PENDIENTE);
+            if (existentes.contains(indice.getNombre())) {
+                estado = EstadoIndice.LISTO;
+            } else if (estado == EstadoIndice.LISTO) {
+                estado = EstadoIndice.FALTANTE;
+            }
+            estados.put(indice, estado);
+            resultado.put(indice.toString(), estado);
+        }
+        return resultado;
+    }
+}
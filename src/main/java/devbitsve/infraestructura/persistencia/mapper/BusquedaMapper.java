@@ -0,0 +1,88 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import com.mongodb.client.model.Filters;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.TerminosBusqueda;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import org.bson.conversions.Bson;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper de la búsqueda por nombre: construye las claves normalizadas que se
+ * guardan en el empleado (una por palabra, según {@link TerminosBusqueda}), el
+ * filtro por prefijo sobre ellas y la relevancia de cada resultado.
+ */
+public class BusquedaMapper {
+
+    public static final String CAMPO_TERMINOS_NOMBRE = "terminosNombre";
+    public static final String CAMPO_TERMINOS_EMAIL = "terminosEmail";
+
+    /**
+     * Ordena de mayor a menor relevancia y, a igual relevancia, por nombre
+     * normalizado e ID para que el orden sea estable
+     */
+    public static Comparator<EmpleadoEntidad> porRelevancia(List<String> terminos) {
+        return Comparator.<EmpleadoEntidad>comparingInt(entidad -> -toRelevancia(entidad, terminos))
+                .thenComparing(entidad -> String.join(" ", entidad.terminosNombre != null
+                        ? entidad.terminosNombre
+                        : List.of()))
+                .thenComparing(entidad -> entidad.id);
+    }
+
+    /**
+     * Claves de búsqueda del nombre y los apellidos
+     */
+    public static List<String> toTerminosNombre(InformacionPersonal infoPersonal) {
+        return toTerminosNombre(infoPersonal.getNombre(), infoPersonal.getApellidos());
+    }
+
+    public static List<String> toTerminosNombre(String nombre, String apellidos) {
+        return TerminosBusqueda.toTerminos(nombre, apellidos);
+    }
+
+    /**
+     * Claves de búsqueda del email: solo la parte local, porque el dominio es
+     * común a casi toda la plantilla y haría coincidir a todos
+     */
+    public static List<String> toTerminosEmail(InformacionContacto infoContacto) {
+        return toTerminosEmail(infoContacto.getEmail());
+    }
+
+    public static List<String> toTerminosEmail(String email) {
+        if (email == null) {
+            return List.of();
+        }
+        int arroba = email.indexOf('@');
+        return TerminosBusqueda.toTerminos(arroba >= 0 ? email.substring(0, arroba) : email);
+    }
+
+    /**
+     * Filtro que exige que cada palabra de la consulta sea prefijo de alguna
+     * clave del nombre, o de alguna del email. Las claves solo tienen letras y
+     * dígitos, así que cada expresión es un prefijo anclado que MongoDB
+     * resuelve como un rango del índice
+     */
+    public static Bson toFiltro(List<String> terminos) {
+        return Filters.or(
+                Filters.and(terminos.stream()
+                        .map(termino -> Filters.regex(CAMPO_TERMINOS_NOMBRE, "^" + termino))
+                        .collect(Collectors.toList())),
+                Filters.and(terminos.stream()
+                        .map(termino -> Filters.regex(CAMPO_TERMINOS_EMAIL, "^" + termino))
+                        .collect(Collectors.toList())));
+    }
+
+    /**
+     * Relevancia de un empleado para la consulta, según sus claves guardadas
+     */
+    public static int toRelevancia(EmpleadoEntidad entidad, List<String> terminos) {
+        return TerminosBusqueda.toRelevancia(
+                entidad.terminosNombre != null ? entidad.terminosNombre : List.of(),
+                entidad.terminosEmail != null ? entidad.terminosEmail : List.of(),
+                terminos);
+    }
+}
@@ -0,0 +1,101 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import org.bson.types.ObjectId;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Codifica y decodifica los cursores opacos de la paginación por clave.
+ * El cursor identifica el último _id entregado; la siguiente página se
+ * obtiene con una búsqueda por rango sobre el índice de _id. Si el listado se
+ * ordena por otro campo, el cursor lleva además el valor de ese campo. En el
+ * historial de cargos el cursor identifica el período y la posición del
+ * último cargo entregado.
+ */
+public class CursorPaginacion {
+
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODIFICADOR = Base64.getUrlDecoder();
+
+    private CursorPaginacion() {
+    }
+
+    /**
+     * Convierte el último ID de una página en un cursor opaco
+     */
+    public static String codificar(ObjectId ultimoId) {
+        return CODIFICADOR.encodeToString(ultimoId.toByteArray());
+    }
+
+    /**
+     * Recupera el ID a partir de un cursor generado por {@link #codificar}
+     */
+    public static ObjectId decodificar(String cursor) {
+        try {
+            return new ObjectId(DECODIFICADOR.decode(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor);
+        }
+    }
+
+    /**
+     * Convierte la posición del último cargo de una página del historial en un
+     * cursor opaco
+     */
+    public static String codificar(PosicionHistorial ultimo) {
+        return CODIFICADOR.encodeToString(ByteBuffer.allocate(Integer.BYTES * 2)
+                .putInt(ultimo.getPeriodo())
+                .putInt(ultimo.getPosicion())
+                .array());
+    }
+
+    /**
+     * Recupera la posición a partir de un cursor generado por
+     * {@link #codificar(PosicionHistorial)}
+     */
+    public static PosicionHistorial decodificarPosicion(String cursor) {
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(DECODIFICADOR.decode(cursor));
+            PosicionHistorial posicion = new PosicionHistorial(bytes.getInt(), bytes.getInt());
+            if (bytes.hasRemaining()) {
+                throw new IllegalArgumentException();
+            }
+            return posicion;
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor);
+        }
+    }
+
+    /**
+     * Convierte la posición del último empleado de una página ordenada por un
+     * campo en un cursor opaco
+     */
+    public static String codificar(PosicionOrden ultima) {
+        byte[] valor = ultima.getOrden().codificarValor(ultima.getValor());
+        return CODIFICADOR.encodeToString(ByteBuffer.allocate(1 + 12 + valor.length)
+                .put((byte) ultima.getOrden().ordinal())
+                .put(ultima.getId().toByteArray())
+                .put(valor)
+                .array());
+    }
+
+    /**
+     * Recupera la posición a partir de un cursor generado por
+     * {@link #codificar(PosicionOrden)} para el mismo orden
+     */
+    public static PosicionOrden decodificarPosicion(String cursor, OrdenEmpleados orden) {
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(DECODIFICADOR.decode(cursor));
+            if (bytes.get() != orden.ordinal()) {
+                throw new IllegalArgumentException();
+            }
+            byte[] id = new byte[12];
+            bytes.get(id);
+            return new PosicionOrden(orden, orden.decodificarValor(bytes), new ObjectId(id));
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new IllegalArgumentException("Cursor de paginación inválido: " + cursor);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package devbitsve.infraestructura.persistencia.mapper;
 
+import com.mongodb.client.model.Updates;
 import devbitsve.dominio.modelo.*;
 import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
 import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad.InformacionLaboralEntidad;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Mapper que convierte entre entidades de dominio y entidades de persistencia.
@@ -13,6 +16,11 @@ import java.util.stream.Collectors;
  */
 public class EmpleadoMapper {
 
+    /**
+     * Cargos finalizados que todavía no se agregaron al historial
+     */
+    public static final String CAMPO_HISTORIAL_PENDIENTE = "historialPendiente";
+
     /**
      * Convierte de entidad de dominio a entidad de MongoDB
      */
@@ -46,16 +54,19 @@ public class EmpleadoMapper {
         entidad.cargoActual = toInformacionLaboralEntidad(empleado.getCargoActual());
 
         // Historial de Cargos
-        entidad.historialCargos = empleado.getHistorialCargos().stream()
-                .map(EmpleadoMapper::toInformacionLaboralEntidad)
-                .collect(Collectors.toList());
+        entidad.cantidadCargosHistorial = empleado.getCantidadCargosHistorial();
 
         // Estado
         entidad.estado = empleado.getEstado().name();
 
+        // Claves de búsqueda
+        entidad.terminosNombre = BusquedaMapper.toTerminosNombre(infoPersonal);
+        entidad.terminosEmail = BusquedaMapper.toTerminosEmail(infoContacto);
+
         // Auditoría
         entidad.fechaCreacion = empleado.getFechaCreacion();
         entidad.fechaActualizacion = empleado.getFechaActualizacion();
+        entidad.version = empleado.getVersion();
 
         return entidad;
     }
@@ -85,11 +96,6 @@ public class EmpleadoMapper {
         // Cargo Actual
         InformacionLaboral cargoActual = toInformacionLaboral(entidad.cargoActual);
 
-        // Historial de Cargos
-        List<InformacionLaboral> historialCargos = entidad.historialCargos.stream()
-                .map(EmpleadoMapper::toInformacionLaboral)
-                .collect(Collectors.toList());
-
         // Estado
         EstadoEmpleado estado = EstadoEmpleado.valueOf(entidad.estado);
 
@@ -99,18 +105,83 @@ public class EmpleadoMapper {
                 infoPersonal,
                 infoContacto,
                 cargoActual,
-                historialCargos,
+                entidad.cantidadCargosHistorial,
                 estado,
                 entidad.fechaCreacion,
-                entidad.fechaActualizacion);
+                entidad.fechaActualizacion,
+                entidad.version);
 
         return empleado;
     }
 
+    /**
+     * Convierte la información personal en las asignaciones ($set) de los
+     * campos del documento que la almacenan y de sus claves de búsqueda
+     */
+    public static Bson toCambios(InformacionPersonal infoPersonal) {
+        return Updates.combine(
+                Updates.set("nombre", infoPersonal.getNombre()),
+                Updates.set("apellidos", infoPersonal.getApellidos()),
+                Updates.set("documentoIdentidad", infoPersonal.getDocumentoIdentidad()),
+                Updates.set("genero", infoPersonal.getGenero()),
+                Updates.set("fechaNacimiento", infoPersonal.getFechaNacimiento()),
+                Updates.set(BusquedaMapper.CAMPO_TERMINOS_NOMBRE, BusquedaMapper.toTerminosNombre(infoPersonal)));
+    }
+
+    /**
+     * Convierte la información de contacto en las asignaciones ($set) de los
+     * campos del documento que la almacenan y de sus claves de búsqueda
+     */
+    public static Bson toCambios(InformacionContacto infoContacto) {
+        return Updates.combine(
+                Updates.set("email", infoContacto.getEmail()),
+                Updates.set("telefono", infoContacto.getTelefono()),
+                Updates.set("direccion", infoContacto.getDireccion()),
+                Updates.set(BusquedaMapper.CAMPO_TERMINOS_EMAIL, BusquedaMapper.toTerminosEmail(infoContacto)));
+    }
+
+    /**
+     * Convierte el nuevo cargo en las etapas de un pipeline de actualización:
+     * la primera agrega el cargo actual, finalizado en fechaFin, a los cargos
+     * pendientes de pasar al historial; la segunda asigna el nuevo cargo e
+     * incrementa la cantidad de cargos del historial. Así el cargo finalizado
+     * se guarda en la misma escritura atómica que lo reemplaza
+     */
+    public static List<Bson> toCambios(InformacionLaboral nuevoCargo, LocalDate fechaFin) {
+        Document cargoFinalizado = new Document("$mergeObjects", List.of(
+                "$cargoActual",
+                new Document("fechaFin", fechaFin)));
+        Document pendientes = new Document("$concatArrays", List.of(
+                new Document("$ifNull", List.of("$" + CAMPO_HISTORIAL_PENDIENTE, List.of())),
+                List.of(cargoFinalizado)));
+        return List.of(
+                new Document("$set", new Document(CAMPO_HISTORIAL_PENDIENTE, pendientes)),
+                new Document("$set", new Document()
+                        // $literal: en un pipeline un texto que empieza por $ sería una ruta
+                        .append("cargoActual", new Document("$literal", toInformacionLaboralEntidad(nuevoCargo)))
+                        .append("cantidadCargosHistorial", new Document("$add", List.of(
+                                new Document("$ifNull", List.of("$cantidadCargosHistorial", 0)),
+                                1)))));
+    }
+
+    /**
+     * Cambio que quita de los cargos pendientes el que ya está en el historial
+     */
+    public static Bson toConfirmacionHistorial(InformacionLaboral cargo) {
+        return Updates.pull(CAMPO_HISTORIAL_PENDIENTE, new Document("fechaInicio", cargo.getFechaInicio()));
+    }
+
+    /**
+     * Convierte el estado en la asignación ($set) del campo que lo almacena
+     */
+    public static Bson toCambios(EstadoEmpleado estado) {
+        return Updates.set("estado", estado.name());
+    }
+
     /**
      * Convierte InformacionLaboral de dominio a entidad
      */
-    private static InformacionLaboralEntidad toInformacionLaboralEntidad(InformacionLaboral info) {
+    static InformacionLaboralEntidad toInformacionLaboralEntidad(InformacionLaboral info) {
         if (info == null) {
             return null;
         }
@@ -126,7 +197,7 @@ public class EmpleadoMapper {
     /**
      * Convierte InformacionLaboralEntidad a dominio
      */
-    private static InformacionLaboral toInformacionLaboral(InformacionLaboralEntidad entidad) {
+    static InformacionLaboral toInformacionLaboral(InformacionLaboralEntidad entidad) {
         if (entidad == null) {
             return null;
         }
@@ -0,0 +1,92 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import com.mongodb.client.model.Filters;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper que traduce los filtros del dominio a consultas de MongoDB.
+ */
+public class FiltroEmpleadosMapper {
+
+    private FiltroEmpleadosMapper() {
+    }
+
+    /**
+     * Convierte un filtro de dominio en la condición de búsqueda equivalente
+     */
+    public static Bson toBson(FiltroEmpleados filtro) {
+        return combinar(toCondiciones(filtro));
+    }
+
+    /**
+     * Convierte un filtro de dominio en una condición de búsqueda que además
+     * continúa después del cursor indicado, según el orden del filtro
+     * ({@link OrdenEmpleados#para(FiltroEmpleados)})
+     */
+    public static Bson toBson(FiltroEmpleados filtro, String despuesDe) {
+        List<Bson> condiciones = toCondiciones(filtro);
+        if (despuesDe != null && !despuesDe.isBlank()) {
+            condiciones.add(OrdenEmpleados.para(filtro).toCondicionDespuesDe(despuesDe));
+        }
+        return combinar(condiciones);
+    }
+
+    private static Bson combinar(List<Bson> condiciones) {
+        // $and no admite una lista vacía y con una sola condición no aporta nada
+        if (condiciones.isEmpty()) {
+            return Filters.empty();
+        }
+        if (condiciones.size() == 1) {
+            return condiciones.get(0);
+        }
+        return Filters.and(condiciones);
+    }
+
+    private static List<Bson> toCondiciones(FiltroEmpleados filtro) {
+        List<Bson> condiciones = new ArrayList<>();
+        if (filtro == null) {
+            return condiciones;
+        }
+
+        if (!filtro.getIds().isEmpty()) {
+            condiciones.add(Filters.in("_id", filtro.getIds().stream()
+                    .map(FiltroEmpleadosMapper::toObjectId)
+                    .collect(Collectors.toList())));
+        }
+        if (filtro.getEstado() != null) {
+            condiciones.add(Filters.eq("estado", filtro.getEstado().name()));
+        }
+        if (filtro.getDepartamento() != null) {
+            condiciones.add(Filters.eq("cargoActual.departamento", filtro.getDepartamento()));
+        }
+        if (filtro.getCargo() != null) {
+            condiciones.add(Filters.eq("cargoActual.cargo", filtro.getCargo()));
+        }
+        agregarRango(condiciones, "cargoActual.salario", filtro.getSalarioMinimo(), filtro.getSalarioMaximo());
+        agregarRango(condiciones, "cargoActual.fechaInicio", filtro.getFechaInicioDesde(), filtro.getFechaInicioHasta());
+        agregarRango(condiciones, "fechaNacimiento", filtro.getFechaNacimientoDesde(), filtro.getFechaNacimientoHasta());
+        return condiciones;
+    }
+
+    private static void agregarRango(List<Bson> condiciones, String campo, Object desde, Object hasta) {
+        if (desde != null) {
+            condiciones.add(Filters.gte(campo, desde));
+        }
+        if (hasta != null) {
+            condiciones.add(Filters.lte(campo, hasta));
+        }
+    }
+
+    private static ObjectId toObjectId(String id) {
+        if (!ObjectId.isValid(id)) {
+            throw new IllegalArgumentException("ID de empleado inválido: " + id);
+        }
+        return new ObjectId(id);
+    }
+}
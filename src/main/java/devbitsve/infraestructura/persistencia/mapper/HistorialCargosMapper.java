@@ -0,0 +1,58 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad.InformacionLaboralEntidad;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDate;
+
+/**
+ * Mapper del historial de cargos: decide en qué bucket va cada cargo y
+ * construye las operaciones sobre la colección historial_cargos.
+ */
+public class HistorialCargosMapper {
+
+    /**
+     * Período (bucket) de un cargo finalizado: el año en que terminó
+     */
+    public static int toPeriodo(InformacionLaboral cargo) {
+        return toPeriodo(cargo.getFechaInicio(), cargo.getFechaFin());
+    }
+
+    /**
+     * Período a partir de las fechas del cargo; si no tiene fecha de fin se
+     * usa la de inicio
+     */
+    public static int toPeriodo(LocalDate fechaInicio, LocalDate fechaFin) {
+        return (fechaFin != null ? fechaFin : fechaInicio).getYear();
+    }
+
+    /**
+     * Filtro del bucket de un empleado en un período
+     */
+    public static Bson toFiltroBucket(ObjectId empleadoId, int periodo) {
+        return Filters.and(
+                Filters.eq("empleadoId", empleadoId),
+                Filters.eq("periodo", periodo));
+    }
+
+    /**
+     * Cambio que agrega el cargo al final de su bucket si no está ya
+     * ($addToSet), para que registrar de nuevo un cargo pendiente no lo
+     * duplique. El tamaño de la escritura no depende de cuántos cargos tenga
+     * ya el historial
+     */
+    public static Bson toRegistro(InformacionLaboral cargo) {
+        return Updates.addToSet("cargos", EmpleadoMapper.toInformacionLaboralEntidad(cargo));
+    }
+
+    /**
+     * Convierte un cargo guardado en un bucket a dominio
+     */
+    public static InformacionLaboral toDominio(InformacionLaboralEntidad entidad) {
+        return EmpleadoMapper.toInformacionLaboral(entidad);
+    }
+}
@@ -0,0 +1,138 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import org.bson.conversions.Bson;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Orden de los listados de empleados según el filtro.
+ * Sin rangos se ordena por _id y los índices de igualdad (que terminan en _id)
+ * entregan los empleados ya ordenados. Con un rango se ordena por el campo del
+ * rango y luego por _id, recorriendo en orden el índice que empieza por ese
+ * campo: el rango acota el recorrido y no hace falta ordenar en memoria. Si hay
+ * varios rangos, el primero en el orden de este enum guía la consulta y el
+ * resto se comprueba sobre cada documento.
+ */
+public enum OrdenEmpleados {
+
+    ID(null, null),
+    SALARIO("cargoActual.salario", "salario_id"),
+    FECHA_INICIO("cargoActual.fechaInicio", "fechaInicio_id"),
+    FECHA_NACIMIENTO("fechaNacimiento", "fechaNacimiento_id");
+
+    private final String campo;
+    private final String indice;
+
+    OrdenEmpleados(String campo, String indice) {
+        this.campo = campo;
+        this.indice = indice;
+    }
+
+    /**
+     * Orden que corresponde a los criterios del filtro
+     */
+    public static OrdenEmpleados para(FiltroEmpleados filtro) {
+        if (filtro == null) {
+            return ID;
+        }
+        if (filtro.tieneRangoSalario()) {
+            return SALARIO;
+        }
+        if (filtro.tieneRangoFechaInicio()) {
+            return FECHA_INICIO;
+        }
+        if (filtro.tieneRangoFechaNacimiento()) {
+            return FECHA_NACIMIENTO;
+        }
+        return ID;
+    }
+
+    /**
+     * Campo del documento por el que se ordena antes que por _id, o null
+     */
+    public String getCampo() {
+        return campo;
+    }
+
+    /**
+     * Índice que debe usar la consulta, o null para dejar que MongoDB elija
+     * entre los índices de igualdad
+     */
+    public String getIndice() {
+        return indice;
+    }
+
+    public Bson toOrden() {
+        return campo != null ? Sorts.ascending(campo, "_id") : Sorts.ascending("_id");
+    }
+
+    /**
+     * Agrega a la proyección el campo de orden, necesario para construir el
+     * cursor de la página siguiente
+     */
+    public Bson conProyeccion(Bson proyeccion) {
+        return campo != null ? Projections.fields(proyeccion, Projections.include(campo)) : proyeccion;
+    }
+
+    /**
+     * Condición que continúa después del empleado identificado por el cursor
+     *
+     * @throws IllegalArgumentException si el cursor no es válido para este orden
+     */
+    public Bson toCondicionDespuesDe(String cursor) {
+        if (campo == null) {
+            return Filters.gt("_id", CursorPaginacion.decodificar(cursor));
+        }
+        PosicionOrden ultima = CursorPaginacion.decodificarPosicion(cursor, this);
+        return Filters.or(
+                Filters.gt(campo, ultima.getValor()),
+                Filters.and(Filters.eq(campo, ultima.getValor()), Filters.gt("_id", ultima.getId())));
+    }
+
+    /**
+     * Cursor que apunta al empleado indicado, el último de una página
+     */
+    public String toCursor(EmpleadoEntidad ultimo) {
+        if (campo == null) {
+            return CursorPaginacion.codificar(ultimo.id);
+        }
+        return CursorPaginacion.codificar(new PosicionOrden(this, valorDe(ultimo), ultimo.id));
+    }
+
+    byte[] codificarValor(Object valor) {
+        if (valor instanceof BigDecimal decimal) {
+            return decimal.toPlainString().getBytes(StandardCharsets.US_ASCII);
+        }
+        return ByteBuffer.allocate(Long.BYTES).putLong(((LocalDate) valor).toEpochDay()).array();
+    }
+
+    Object decodificarValor(ByteBuffer bytes) {
+        if (this == SALARIO) {
+            byte[] texto = new byte[bytes.remaining()];
+            bytes.get(texto);
+            return new BigDecimal(new String(texto, StandardCharsets.US_ASCII));
+        }
+        LocalDate fecha = LocalDate.ofEpochDay(bytes.getLong());
+        if (bytes.hasRemaining()) {
+            throw new IllegalArgumentException();
+        }
+        return fecha;
+    }
+
+    private Object valorDe(EmpleadoEntidad entidad) {
+        return switch (this) {
+            case SALARIO -> entidad.cargoActual.salario;
+            case FECHA_INICIO -> entidad.cargoActual.fechaInicio;
+            case FECHA_NACIMIENTO -> entidad.fechaNacimiento;
+            case ID -> entidad.id;
+        };
+    }
+}
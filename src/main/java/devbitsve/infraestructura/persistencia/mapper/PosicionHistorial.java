@@ -0,0 +1,32 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+/**
+ * Posición de un cargo dentro del historial: el período de su bucket y su
+ * índice en la lista de cargos del bucket.
+ */
+public class PosicionHistorial {
+
+    private final int periodo;
+    private final int posicion;
+
+    public PosicionHistorial(int periodo, int posicion) {
+        this.periodo = periodo;
+        this.posicion = posicion;
+    }
+
+    /**
+     * Indica si esta posición va después de la otra al recorrer el historial
+     * del más reciente al más antiguo
+     */
+    public boolean esPosteriorA(PosicionHistorial otra) {
+        return periodo < otra.periodo || (periodo == otra.periodo && posicion < otra.posicion);
+    }
+
+    public int getPeriodo() {
+        return periodo;
+    }
+
+    public int getPosicion() {
+        return posicion;
+    }
+}
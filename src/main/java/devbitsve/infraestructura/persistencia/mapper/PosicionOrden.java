@@ -0,0 +1,32 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Posición de un empleado en un listado ordenado por un campo y luego por _id:
+ * el valor de ese campo y el _id del empleado.
+ */
+public class PosicionOrden {
+
+    private final OrdenEmpleados orden;
+    private final Object valor;
+    private final ObjectId id;
+
+    public PosicionOrden(OrdenEmpleados orden, Object valor, ObjectId id) {
+        this.orden = orden;
+        this.valor = valor;
+        this.id = id;
+    }
+
+    public OrdenEmpleados getOrden() {
+        return orden;
+    }
+
+    public Object getValor() {
+        return valor;
+    }
+
+    public ObjectId getId() {
+        return id;
+    }
+}
@@ -0,0 +1,103 @@
+package devbitsve.infraestructura.persistencia.mapper;
+
+import com.mongodb.client.model.Projections;
+import devbitsve.dominio.modelo.CampoEmpleado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.dominio.modelo.VistaEmpleado;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad.InformacionLaboralEntidad;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mapper de lecturas parciales: traduce los campos pedidos a una proyección de
+ * MongoDB y construye la vista solo con esos campos, sin pasar por el
+ * empleado completo.
+ */
+public class VistaEmpleadoMapper {
+
+    /**
+     * Campos del documento que siempre se leen: forman la marca de actualización
+     */
+    private static final List<String> CAMPOS_MARCA = List.of("fechaActualizacion", "version");
+
+    /**
+     * Convierte los campos pedidos en la proyección del documento. El _id se
+     * incluye siempre
+     */
+    public static Bson toProyeccion(Set<CampoEmpleado> campos) {
+        List<String> incluidos = new ArrayList<>(CAMPOS_MARCA);
+        for (CampoEmpleado campo : campos) {
+            incluidos.add(toCampoDocumento(campo));
+        }
+        return Projections.include(incluidos);
+    }
+
+    /**
+     * Construye la vista a partir de una entidad leída con la proyección de
+     * los mismos campos
+     */
+    public static VistaEmpleado toVista(EmpleadoEntidad entidad, Set<CampoEmpleado> campos) {
+        Map<CampoEmpleado, Object> valores = new EnumMap<>(CampoEmpleado.class);
+        for (CampoEmpleado campo : campos) {
+            valores.put(campo, toValor(entidad, campo));
+        }
+        return new VistaEmpleado(
+                new MarcaActualizacion(entidad.id.toHexString(), entidad.fechaActualizacion, entidad.version),
+                valores);
+    }
+
+    /**
+     * Nombre del campo en el documento de MongoDB
+     */
+    private static String toCampoDocumento(CampoEmpleado campo) {
+        return switch (campo) {
+            case NOMBRE -> "nombre";
+            case APELLIDOS -> "apellidos";
+            case DOCUMENTO_IDENTIDAD -> "documentoIdentidad";
+            case GENERO -> "genero";
+            case FECHA_NACIMIENTO -> "fechaNacimiento";
+            case EMAIL -> "email";
+            case TELEFONO -> "telefono";
+            case DIRECCION -> "direccion";
+            case CARGO -> "cargoActual.cargo";
+            case DEPARTAMENTO -> "cargoActual.departamento";
+            case SALARIO -> "cargoActual.salario";
+            case FECHA_INICIO -> "cargoActual.fechaInicio";
+            case FECHA_FIN -> "cargoActual.fechaFin";
+            case CANTIDAD_CARGOS_HISTORIAL -> "cantidadCargosHistorial";
+            case ESTADO -> "estado";
+            case FECHA_CREACION -> "fechaCreacion";
+            case FECHA_ACTUALIZACION -> "fechaActualizacion";
+        };
+    }
+
+    private static Object toValor(EmpleadoEntidad entidad, CampoEmpleado campo) {
+        InformacionLaboralEntidad cargo = entidad.cargoActual;
+        return switch (campo) {
+            case NOMBRE -> entidad.nombre;
+            case APELLIDOS -> entidad.apellidos;
+            case DOCUMENTO_IDENTIDAD -> entidad.documentoIdentidad;
+            case GENERO -> entidad.genero;
+            case FECHA_NACIMIENTO -> entidad.fechaNacimiento;
+            case EMAIL -> entidad.email;
+            case TELEFONO -> entidad.telefono;
+            case DIRECCION -> entidad.direccion;
+            case CARGO -> cargo != null ? cargo.cargo : null;
+            case DEPARTAMENTO -> cargo != null ? cargo.departamento : null;
+            case SALARIO -> cargo != null ? cargo.salario : null;
+            case FECHA_INICIO -> cargo != null ? cargo.fechaInicio : null;
+            case FECHA_FIN -> cargo != null ? cargo.fechaFin : null;
+            case CANTIDAD_CARGOS_HISTORIAL -> entidad.cantidadCargosHistorial;
+            case ESTADO -> entidad.estado != null ? EstadoEmpleado.valueOf(entidad.estado) : null;
+            case FECHA_CREACION -> entidad.fechaCreacion;
+            case FECHA_ACTUALIZACION -> entidad.fechaActualizacion;
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package devbitsve.infraestructura.persistencia.migracion;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Documento de control por migración en la colección migraciones. Hace de
+ * bloqueo entre instancias, con una concesión que expira por si la instancia
+ * que migra se detiene, y de marca de migración completada.
+ */
+@ApplicationScoped
+public class BloqueoMigracion {
+
+    public static final String COLECCION_MIGRACIONES = "migraciones";
+
+    private static final String CAMPO_ESTADO = "estado";
+    private static final String CAMPO_EXPIRA = "expira";
+    private static final String EN_CURSO = "EN_CURSO";
+    private static final String COMPLETADA = "COMPLETADA";
+
+    private static final Duration CONCESION = Duration.ofMinutes(10);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    /**
+     * Toma el bloqueo de la migración si no está completada ni en curso en
+     * otra instancia con la concesión vigente
+     *
+     * @return true si esta instancia debe ejecutar la migración
+     */
+    public boolean tomar(String migracion) {
+        Date ahora = new Date();
+        try {
+            // Con upsert: si el documento existe pero no cumple el filtro, el
+            // insert choca con su _id y otra instancia ya lo tiene
+            migraciones().findOneAndUpdate(
+                    Filters.and(
+                            Filters.eq("_id", migracion),
+                            Filters.ne(CAMPO_ESTADO, COMPLETADA),
+                            Filters.lt(CAMPO_EXPIRA, ahora)),
+                    Updates.combine(
+                            Updates.set(CAMPO_ESTADO, EN_CURSO),
+                            Updates.set(CAMPO_EXPIRA, new Date(ahora.getTime() + CONCESION.toMillis()))),
+                    new FindOneAndUpdateOptions().upsert(true));
+            return true;
+        } catch (MongoException e) {
+            if (ErrorCategory.fromErrorCode(e.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Indica si la migración ya se completó en alguna instancia
+     */
+    public boolean completada(String migracion) {
+        return migraciones()
+                .find(Filters.and(Filters.eq("_id", migracion), Filters.eq(CAMPO_ESTADO, COMPLETADA)))
+                .limit(1)
+                .first() != null;
+    }
+
+    /**
+     * Marca la migración como completada; ninguna instancia vuelve a ejecutarla
+     */
+    public void completar(String migracion) {
+        migraciones().updateOne(
+                Filters.eq("_id", migracion),
+                Updates.combine(Updates.set(CAMPO_ESTADO, COMPLETADA), Updates.unset(CAMPO_EXPIRA)),
+                new UpdateOptions().upsert(true));
+    }
+
+    /**
+     * Libera el bloqueo tras un fallo para que otra instancia pueda reintentar
+     */
+    public void liberar(String migracion) {
+        migraciones().updateOne(
+                Filters.and(Filters.eq("_id", migracion), Filters.eq(CAMPO_ESTADO, EN_CURSO)),
+                Updates.set(CAMPO_EXPIRA, new Date(0)));
+    }
+
+    private MongoCollection<Document> migraciones() {
+        return mongoClient.getDatabase(baseDatos).getCollection(COLECCION_MIGRACIONES);
+    }
+}
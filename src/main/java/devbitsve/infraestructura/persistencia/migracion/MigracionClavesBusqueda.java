@@ -0,0 +1,126 @@
+package devbitsve.infraestructura.persistencia.migracion;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Updates;
+import devbitsve.infraestructura.persistencia.indice.IndicesEmpleado;
+import devbitsve.infraestructura.persistencia.mapper.BusquedaMapper;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Completa las claves de búsqueda de los empleados guardados antes de que
+ * existieran. Si se habilita, se ejecuta al arrancar en un hilo aparte, en una
+ * sola instancia a la vez ({@link BloqueoMigracion}), y solo toca los empleados
+ * que aún no las tienen; los nuevos y los modificados las reciben al escribirse.
+ */
+@ApplicationScoped
+public class MigracionClavesBusqueda {
+
+    private static final Logger LOG = Logger.getLogger(MigracionClavesBusqueda.class);
+
+    private static final String MIGRACION = "claves-busqueda";
+
+    /**
+     * Empleados sin claves: la igualdad con null también cubre el campo
+     * ausente y se resuelve con el índice terminosNombre
+     */
+    private static final Bson PENDIENTES = Filters.eq(BusquedaMapper.CAMPO_TERMINOS_NOMBRE, null);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    BloqueoMigracion bloqueo;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    /**
+     * Solo hace falta en bases con empleados guardados antes de que existieran
+     * las claves de búsqueda
+     */
+    @ConfigProperty(name = "empleados.busqueda.migrar-claves", defaultValue = "false")
+    boolean habilitada;
+
+    void alIniciar(@Observes StartupEvent evento) {
+        if (habilitada) {
+            Thread.ofVirtual().name("migracion-claves-busqueda").start(this::ejecutar);
+        }
+    }
+
+    /**
+     * Migra si ninguna instancia lo completó ni lo está haciendo; un fallo
+     * libera el bloqueo y la migración se retoma en el próximo arranque
+     */
+    void ejecutar() {
+        try {
+            if (bloqueo.completada(MIGRACION)) {
+                return;
+            }
+            if (!bloqueo.tomar(MIGRACION)) {
+                LOG.info("El cálculo de las claves de búsqueda se ejecuta en otra instancia");
+                return;
+            }
+            try {
+                migrar();
+                bloqueo.completar(MIGRACION);
+            } catch (MongoException e) {
+                bloqueo.liberar(MIGRACION);
+                throw e;
+            }
+        } catch (MongoException e) {
+            LOG.error("No se pudieron calcular las claves de búsqueda", e);
+        }
+    }
+
+    /**
+     * Calcula y guarda las claves de búsqueda de cada empleado pendiente
+     *
+     * @return Cantidad de empleados migrados
+     */
+    int migrar() {
+        MongoCollection<Document> empleados = mongoClient.getDatabase(baseDatos)
+                .getCollection(IndicesEmpleado.COLECCION_EMPLEADOS);
+
+        // Sondeo por el índice: en una base ya migrada no lee ningún empleado
+        if (empleados.find(PENDIENTES).projection(Projections.include("_id")).limit(1).first() == null) {
+            return 0;
+        }
+
+        int migrados = 0;
+        try (MongoCursor<Document> pendientes = empleados
+                .find(PENDIENTES)
+                .projection(Projections.include("nombre", "apellidos", "email"))
+                .cursor()) {
+            while (pendientes.hasNext()) {
+                Document empleado = pendientes.next();
+                // Condicionado a que sigan faltando: si el empleado se modificó
+                // mientras tanto, ya tiene las claves de sus datos vigentes
+                empleados.updateOne(
+                        Filters.and(Filters.eq("_id", empleado.getObjectId("_id")), PENDIENTES),
+                        Updates.combine(
+                                Updates.set(BusquedaMapper.CAMPO_TERMINOS_NOMBRE, BusquedaMapper.toTerminosNombre(
+                                        empleado.getString("nombre"), empleado.getString("apellidos"))),
+                                Updates.set(BusquedaMapper.CAMPO_TERMINOS_EMAIL,
+                                        BusquedaMapper.toTerminosEmail(empleado.getString("email")))));
+                migrados++;
+            }
+        }
+
+        if (migrados > 0) {
+            LOG.infof("Claves de búsqueda calculadas para %d empleados", migrados);
+        }
+        return migrados;
+    }
+}
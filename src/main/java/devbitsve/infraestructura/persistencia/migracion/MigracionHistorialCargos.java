@@ -0,0 +1,161 @@
+package devbitsve.infraestructura.persistencia.migracion;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import devbitsve.infraestructura.persistencia.indice.IndicesEmpleado;
+import devbitsve.infraestructura.persistencia.mapper.HistorialCargosMapper;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Migración del historial de cargos embebido en el documento del empleado a la
+ * colección historial_cargos. Si se habilita, se ejecuta al arrancar en un hilo
+ * aparte, en una sola instancia a la vez ({@link BloqueoMigracion}), y solo toca
+ * los empleados que aún tienen cargos embebidos.
+ */
+@ApplicationScoped
+public class MigracionHistorialCargos {
+
+    private static final Logger LOG = Logger.getLogger(MigracionHistorialCargos.class);
+
+    private static final String MIGRACION = "historial-cargos-embebido";
+
+    public static final String CAMPO_EMBEBIDO = "historialCargos";
+
+    /**
+     * Empleados con cargos embebidos, resuelto por el índice disperso
+     * historialCargosEmbebido
+     */
+    private static final Bson PENDIENTES = Filters.exists(CAMPO_EMBEBIDO + ".fechaInicio");
+
+    private static final UpdateOptions CREAR_SI_NO_EXISTE = new UpdateOptions().upsert(true);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    BloqueoMigracion bloqueo;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    /**
+     * Solo hace falta en bases con empleados guardados antes de que el
+     * historial tuviera su propia colección
+     */
+    @ConfigProperty(name = "empleados.historial.migrar-embebido", defaultValue = "false")
+    boolean habilitada;
+
+    void alIniciar(@Observes StartupEvent evento) {
+        if (habilitada) {
+            Thread.ofVirtual().name("migracion-historial-cargos").start(this::ejecutar);
+        }
+    }
+
+    /**
+     * Migra si ninguna instancia lo completó ni lo está haciendo; un fallo
+     * libera el bloqueo y la migración se retoma en el próximo arranque
+     */
+    void ejecutar() {
+        try {
+            if (bloqueo.completada(MIGRACION)) {
+                return;
+            }
+            if (!bloqueo.tomar(MIGRACION)) {
+                LOG.info("La migración del historial de cargos se ejecuta en otra instancia");
+                return;
+            }
+            try {
+                migrar();
+                bloqueo.completar(MIGRACION);
+            } catch (MongoException e) {
+                bloqueo.liberar(MIGRACION);
+                throw e;
+            }
+        } catch (MongoException e) {
+            LOG.error("No se pudo migrar el historial de cargos embebido", e);
+        }
+    }
+
+    /**
+     * Mueve el historial de cada empleado pendiente a sus buckets y luego lo
+     * quita del empleado, dejando solo la cantidad de cargos
+     *
+     * @return Cantidad de empleados migrados
+     */
+    int migrar() {
+        MongoDatabase database = mongoClient.getDatabase(baseDatos);
+        MongoCollection<Document> empleados = database.getCollection(IndicesEmpleado.COLECCION_EMPLEADOS);
+        MongoCollection<Document> historial = database.getCollection(IndicesEmpleado.COLECCION_HISTORIAL_CARGOS);
+
+        // Sondeo por el índice disperso: en una base ya migrada no lee ningún empleado
+        if (empleados.find(PENDIENTES).projection(Projections.include("_id")).limit(1).first() == null) {
+            return 0;
+        }
+
+        int migrados = 0;
+        try (MongoCursor<Document> pendientes = empleados
+                .find(PENDIENTES)
+                .projection(Projections.include(CAMPO_EMBEBIDO))
+                .cursor()) {
+            while (pendientes.hasNext()) {
+                Document empleado = pendientes.next();
+                ObjectId empleadoId = empleado.getObjectId("_id");
+                List<Document> cargos = empleado.getList(CAMPO_EMBEBIDO, Document.class, List.of());
+
+                // $addToSet en lugar de $push: si la migración se interrumpe antes de
+                // quitar el campo del empleado, repetirla no duplica cargos
+                Map<Integer, List<Document>> porPeriodo = cargos.stream()
+                        .collect(Collectors.groupingBy(this::toPeriodo));
+                porPeriodo.forEach((periodo, delPeriodo) -> historial.updateOne(
+                        HistorialCargosMapper.toFiltroBucket(empleadoId, periodo),
+                        Updates.addEachToSet("cargos", delPeriodo),
+                        CREAR_SI_NO_EXISTE));
+
+                empleados.updateOne(
+                        Filters.and(Filters.eq("_id", empleadoId), Filters.exists(CAMPO_EMBEBIDO)),
+                        Updates.combine(
+                                Updates.unset(CAMPO_EMBEBIDO),
+                                Updates.inc("cantidadCargosHistorial", cargos.size())));
+                migrados++;
+            }
+        }
+
+        if (migrados > 0) {
+            LOG.infof("Historial de cargos migrado a %s para %d empleados",
+                    IndicesEmpleado.COLECCION_HISTORIAL_CARGOS, migrados);
+        }
+        return migrados;
+    }
+
+    private int toPeriodo(Document cargo) {
+        return HistorialCargosMapper.toPeriodo(toFecha(cargo.getDate("fechaInicio")),
+                toFecha(cargo.getDate("fechaFin")));
+    }
+
+    private LocalDate toFecha(Date fecha) {
+        // Mismo criterio que el codec de LocalDate del driver, que guarda en UTC
+        return fecha != null ? LocalDate.ofInstant(fecha.toInstant(), ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+
+/**
+ * Filtros y cambios del control de concurrencia optimista: cada escritura
+ * incrementa el campo version y las escrituras condicionales solo aplican si
+ * el documento sigue en la versión esperada.
+ */
+final class ControlVersion {
+
+    static final String CAMPO = "version";
+
+    private ControlVersion() {
+    }
+
+    /**
+     * Filtro por ID y, si se indica, por versión. Los documentos anteriores al
+     * control de versiones no tienen el campo y cuentan como versión 0
+     */
+    static Bson filtro(ObjectId id, Long versionEsperada) {
+        if (versionEsperada == null) {
+            return Filters.eq("_id", id);
+        }
+
+        Bson version = versionEsperada == 0
+                ? Filters.or(Filters.eq(CAMPO, 0L), Filters.exists(CAMPO, false))
+                : Filters.eq(CAMPO, versionEsperada);
+        return Filters.and(Filters.eq("_id", id), version);
+    }
+
+    /**
+     * Cambio que incrementa la versión
+     */
+    static Bson incrementar() {
+        return Updates.inc(CAMPO, 1L);
+    }
+
+    /**
+     * Expresión de pipeline con la versión incrementada, tolerando documentos
+     * sin el campo
+     */
+    static Document versionIncrementada() {
+        return new Document("$add", List.of(
+                new Document("$ifNull", List.of("$" + CAMPO, 0L)),
+                1L));
+    }
+
+    /**
+     * Versión leída de un documento crudo (0 si no tiene el campo)
+     */
+    static long leer(Document documento) {
+        Object version = documento.get(CAMPO);
+        return version instanceof Number numero ? numero.longValue() : 0L;
+    }
+}
@@ -0,0 +1,30 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import devbitsve.dominio.excepcion.DocumentoDuplicadoException;
+
+/**
+ * Utilidades para interpretar los errores que devuelve el driver de MongoDB.
+ */
+final class ErroresMongo {
+
+    private ErroresMongo() {
+    }
+
+    /**
+     * Indica si el error se debe a la violación de un índice único. Cubre tanto
+     * los errores de escritura (insert) como los de comando (findAndModify)
+     */
+    static boolean esClaveDuplicada(Throwable error) {
+        return error instanceof MongoException mongoException
+                && ErrorCategory.fromErrorCode(mongoException.getCode()) == ErrorCategory.DUPLICATE_KEY;
+    }
+
+    /**
+     * Error de dominio para un documento de identidad ya registrado
+     */
+    static DocumentoDuplicadoException documentoDuplicado(String documentoIdentidad) {
+        return new DocumentoDuplicadoException(documentoIdentidad);
+    }
+}
@@ -0,0 +1,160 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.modelo.CambioCargo;
+import devbitsve.dominio.modelo.CambioEstado;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EmpleadoEliminado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import devbitsve.infraestructura.persistencia.mapper.EmpleadoMapper;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escrituras atómicas sobre un empleado que comparten el adaptador bloqueante y
+ * el reactivo: cada una se aplica con un único findOneAndUpdate (o
+ * findOneAndDelete) y el resultado se arma con el documento que devuelve
+ * MongoDB, sin leerlo antes ni después.
+ */
+final class EscriturasEmpleado {
+
+    static final FindOneAndUpdateOptions DEVOLVER_ACTUALIZADO = new FindOneAndUpdateOptions()
+            .returnDocument(ReturnDocument.AFTER);
+
+    static final FindOneAndUpdateOptions DEVOLVER_ANTERIOR = new FindOneAndUpdateOptions()
+            .returnDocument(ReturnDocument.BEFORE);
+
+    /**
+     * Lo que necesitan los contadores de plantilla del documento eliminado
+     */
+    static final Bson PROYECCION_PLANTILLA = Projections.include("estado", "cargoActual.departamento");
+
+    /**
+     * Lo que hace falta para explicar por qué no se aplicó un cambio de cargo
+     */
+    static final Bson PROYECCION_RECHAZO_CARGO = Projections.include("cargoActual.fechaInicio", ControlVersion.CAMPO);
+
+    private EscriturasEmpleado() {
+    }
+
+    /**
+     * Agrega a los cambios la fecha de actualización y el incremento de versión
+     */
+    static Bson conMarca(Bson cambios, LocalDateTime ahora) {
+        return Updates.combine(
+                cambios,
+                Updates.set("fechaActualizacion", ahora),
+                ControlVersion.incrementar());
+    }
+
+    /**
+     * Fecha de fin del cargo actual al empezar el nuevo: el día anterior
+     */
+    static LocalDate fechaFinCargoActual(InformacionLaboral nuevoCargo) {
+        return nuevoCargo.getFechaInicio().minusDays(1);
+    }
+
+    /**
+     * Filtro del cambio de cargo. Mismo límite que
+     * InformacionLaboral.finalizarCargo: el cargo actual debe haber empezado a
+     * más tardar el día en que terminará
+     */
+    static Bson filtroCambioCargo(ObjectId id, Long versionEsperada, LocalDate fechaFin) {
+        return Filters.and(
+                ControlVersion.filtro(id, versionEsperada),
+                Filters.lte("cargoActual.fechaInicio", fechaFin));
+    }
+
+    /**
+     * Pipeline del cambio de cargo: el cargo finalizado se toma del documento y
+     * queda pendiente de pasar al historial en la misma escritura
+     */
+    static List<Bson> cambiosCargo(InformacionLaboral nuevoCargo, LocalDate fechaFin, LocalDateTime ahora) {
+        List<Bson> cambios = new ArrayList<>(EmpleadoMapper.toCambios(nuevoCargo, fechaFin));
+        cambios.add(new Document("$set", new Document()
+                .append("fechaActualizacion", ahora)
+                .append(ControlVersion.CAMPO, ControlVersion.versionIncrementada())));
+        return cambios;
+    }
+
+    /**
+     * Cambio de estado a partir del documento anterior: el actual es el
+     * anterior con el estado, la fecha y la versión aplicados
+     */
+    static CambioEstado toCambioEstado(EmpleadoEntidad anterior, EstadoEmpleado nuevoEstado, LocalDateTime ahora) {
+        Empleado previo = EmpleadoMapper.toDominio(anterior);
+        Empleado actualizado = new Empleado(
+                previo.getId(),
+                previo.getInformacionPersonal(),
+                previo.getInformacionContacto(),
+                previo.getCargoActual(),
+                previo.getCantidadCargosHistorial(),
+                nuevoEstado,
+                previo.getFechaCreacion(),
+                ahora,
+                previo.getVersion() + 1);
+        return new CambioEstado(actualizado, previo.getEstado());
+    }
+
+    /**
+     * Cambio de cargo a partir del documento anterior, con el cargo que
+     * finalizó y quedó pendiente de pasar al historial
+     */
+    static CambioCargo toCambioCargo(EmpleadoEntidad anterior, InformacionLaboral nuevoCargo, LocalDate fechaFin,
+            LocalDateTime ahora) {
+        Empleado previo = EmpleadoMapper.toDominio(anterior);
+        Empleado actualizado = new Empleado(
+                previo.getId(),
+                previo.getInformacionPersonal(),
+                previo.getInformacionContacto(),
+                nuevoCargo,
+                previo.getCantidadCargosHistorial() + 1,
+                previo.getEstado(),
+                previo.getFechaCreacion(),
+                ahora,
+                previo.getVersion() + 1);
+        return new CambioCargo(actualizado, previo.getCargoActual().finalizarCargo(fechaFin));
+    }
+
+    /**
+     * Departamento y estado del empleado eliminado, leídos con
+     * {@link #PROYECCION_PLANTILLA}
+     */
+    static EmpleadoEliminado toEliminado(String id, EmpleadoEntidad eliminado) {
+        return new EmpleadoEliminado(
+                id,
+                eliminado.cargoActual != null ? eliminado.cargoActual.departamento : null,
+                EstadoEmpleado.valueOf(eliminado.estado));
+    }
+
+    /**
+     * Motivo por el que un cambio de cargo sobre un empleado existente no se
+     * aplicó: su versión no es la esperada, su cargo actual empieza después de
+     * la fecha de fin que tendría, o el cargo cambió entre el intento y la
+     * lectura de actual (leído con {@link #PROYECCION_RECHAZO_CARGO})
+     */
+    static RuntimeException rechazoCambioCargo(EmpleadoEntidad actual, Long versionEsperada, LocalDate fechaFin) {
+        String id = actual.id.toHexString();
+        if (versionEsperada != null && actual.version != versionEsperada) {
+            return new ConflictoVersionException(id, versionEsperada);
+        }
+        if (actual.cargoActual != null && actual.cargoActual.fechaInicio.isAfter(fechaFin)) {
+            return new IllegalArgumentException("El nuevo cargo debe comenzar después del inicio del cargo actual ("
+                    + actual.cargoActual.fechaInicio + ")");
+        }
+        return new ConflictoVersionException(id, actual.version);
+    }
+}
@@ -1,43 +1,315 @@
 package devbitsve.infraestructura.persistencia.repositorio;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.result.UpdateResult;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.modelo.CambioCargo;
+import devbitsve.dominio.modelo.CambioEstado;
+import devbitsve.dominio.modelo.CampoEmpleado;
+import devbitsve.dominio.modelo.CargoPendienteHistorial;
 import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EmpleadoEliminado;
+import devbitsve.dominio.modelo.EstadisticaPlantilla;
 import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.dominio.modelo.ResultadoActualizacionMasiva;
+import devbitsve.dominio.modelo.ResultadoCreacion;
+import devbitsve.dominio.modelo.TerminosBusqueda;
+import devbitsve.dominio.modelo.VistaEmpleado;
 import devbitsve.dominio.puerto.RepositorioEmpleado;
+import devbitsve.infraestructura.metricas.Medido;
 import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import devbitsve.infraestructura.persistencia.mapper.BusquedaMapper;
 import devbitsve.infraestructura.persistencia.mapper.EmpleadoMapper;
+import devbitsve.infraestructura.persistencia.mapper.FiltroEmpleadosMapper;
+import devbitsve.infraestructura.persistencia.mapper.HistorialCargosMapper;
+import devbitsve.infraestructura.persistencia.mapper.OrdenEmpleados;
+import devbitsve.infraestructura.persistencia.mapper.VistaEmpleadoMapper;
 import io.quarkus.mongodb.panache.PanacheMongoRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementación del repositorio de empleados usando MongoDB Panache.
  * Adaptador que implementa el puerto RepositorioEmpleado.
+ * Los índices que usan sus consultas se declaran en IndicesEmpleado.
  */
+@Medido("repositorio")
 @ApplicationScoped
 public class RepositorioEmpleadoMongo implements RepositorioEmpleado, PanacheMongoRepository<EmpleadoEntidad> {
 
+    /**
+     * Documentos que el cursor trae por cada viaje a MongoDB al recorrer
+     */
+    private static final int TAMANO_LOTE_CURSOR = 500;
+
+    /**
+     * Candidatos que se leen por cada resultado pedido en la búsqueda por
+     * texto, para ordenarlos por relevancia sin leer todas las coincidencias
+     */
+    private static final int CANDIDATOS_POR_RESULTADO = 4;
+
+    private static final Bson PROYECCION_MARCA = Projections.include("fechaActualizacion", ControlVersion.CAMPO);
+
+    /**
+     * Documentos por cada insertMany al guardar lotes
+     */
+    @ConfigProperty(name = "empleados.lote.tamano-bloque", defaultValue = "500")
+    int tamanoBloque;
+
     @Override
     public Empleado guardar(Empleado empleado) {
         EmpleadoEntidad entidad = EmpleadoMapper.toEntidad(empleado);
-        persist(entidad);
+        try {
+            persist(entidad);
+        } catch (MongoException e) {
+            if (ErroresMongo.esClaveDuplicada(e)) {
+                throw ErroresMongo.documentoDuplicado(entidad.documentoIdentidad);
+            }
+            throw e;
+        }
         return EmpleadoMapper.toDominio(entidad);
     }
 
+    @Override
+    public List<ResultadoCreacion> guardarTodos(List<Empleado> empleados) {
+        List<ResultadoCreacion> resultados = new ArrayList<>(empleados.size());
+        for (int inicio = 0; inicio < empleados.size(); inicio += tamanoBloque) {
+            int fin = Math.min(inicio + tamanoBloque, empleados.size());
+            resultados.addAll(insertarBloque(empleados.subList(inicio, fin), inicio));
+        }
+        return resultados;
+    }
+
+    /**
+     * Inserta un bloque con un único insertMany no ordenado: MongoDB intenta
+     * todos los documentos aunque alguno falle y reporta los errores por
+     * posición dentro del bloque
+     */
+    private List<ResultadoCreacion> insertarBloque(List<Empleado> bloque, int desplazamiento) {
+        List<EmpleadoEntidad> entidades = new ArrayList<>(bloque.size());
+        for (Empleado empleado : bloque) {
+            EmpleadoEntidad entidad = EmpleadoMapper.toEntidad(empleado);
+            // El ID se asigna aquí para conocerlo aunque el bloque falle parcialmente
+            entidad.id = new ObjectId();
+            entidades.add(entidad);
+        }
+
+        Map<Integer, String> errores = new HashMap<>();
+        try {
+            mongoCollection().insertMany(entidades, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                EmpleadoEntidad fallida = entidades.get(error.getIndex());
+                String mensaje = ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY
+                        ? ErroresMongo.documentoDuplicado(fallida.documentoIdentidad).getMessage()
+                        : error.getMessage();
+                errores.put(error.getIndex(), mensaje);
+            }
+        }
+
+        List<ResultadoCreacion> resultados = new ArrayList<>(entidades.size());
+        for (int i = 0; i < entidades.size(); i++) {
+            String error = errores.get(i);
+            resultados.add(error == null
+                    ? ResultadoCreacion.exitoso(desplazamiento + i, entidades.get(i).id.toHexString())
+                    : ResultadoCreacion.fallido(desplazamiento + i, error));
+        }
+        return resultados;
+    }
+
     @Override
     public Empleado actualizar(Empleado empleado) {
         if (empleado.getId() == null) {
             throw new IllegalArgumentException("El empleado debe tener un ID para actualizar");
         }
 
+        // Reemplazo condicionado a la versión leída: si otro escritor lo modificó
+        // entretanto, no coincide ningún documento y no se pisa su cambio
         EmpleadoEntidad entidad = EmpleadoMapper.toEntidad(empleado);
-        update(entidad);
+        entidad.version = empleado.getVersion() + 1;
+        UpdateResult resultado;
+        try {
+            resultado = mongoCollection().replaceOne(
+                    ControlVersion.filtro(entidad.id, empleado.getVersion()),
+                    entidad);
+        } catch (MongoException e) {
+            if (ErroresMongo.esClaveDuplicada(e)) {
+                throw ErroresMongo.documentoDuplicado(entidad.documentoIdentidad);
+            }
+            throw e;
+        }
+
+        if (resultado.getMatchedCount() == 0) {
+            if (buscarMarcaActualizacion(empleado.getId()).isPresent()) {
+                throw new ConflictoVersionException(empleado.getId(), empleado.getVersion());
+            }
+            throw new IllegalArgumentException("Empleado no encontrado con ID: " + empleado.getId());
+        }
         return EmpleadoMapper.toDominio(entidad);
     }
 
+    @Override
+    public Optional<CambioEstado> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+
+        // Se devuelve el documento anterior: de él salen el estado previo (para
+        // los contadores) y, con los cambios aplicados, el documento actual
+        LocalDateTime ahora = LocalDateTime.now();
+        EmpleadoEntidad anterior = mongoCollection().findOneAndUpdate(
+                ControlVersion.filtro(new ObjectId(id), versionEsperada),
+                EscriturasEmpleado.conMarca(EmpleadoMapper.toCambios(nuevoEstado), ahora),
+                EscriturasEmpleado.DEVOLVER_ANTERIOR);
+        if (anterior == null) {
+            if (versionEsperada != null && buscarMarcaActualizacion(id).isPresent()) {
+                throw new ConflictoVersionException(id, versionEsperada);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(EscriturasEmpleado.toCambioEstado(anterior, nuevoEstado, ahora));
+    }
+
+    @Override
+    public Optional<Empleado> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada) {
+        try {
+            return actualizarCampos(id, EmpleadoMapper.toCambios(informacionPersonal), versionEsperada);
+        } catch (MongoException e) {
+            if (ErroresMongo.esClaveDuplicada(e)) {
+                throw ErroresMongo.documentoDuplicado(informacionPersonal.getDocumentoIdentidad());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Empleado> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada) {
+        return actualizarCampos(id, EmpleadoMapper.toCambios(informacionContacto), versionEsperada);
+    }
+
+    @Override
+    public Optional<CambioCargo> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+
+        ObjectId objectId = new ObjectId(id);
+        LocalDate fechaFin = EscriturasEmpleado.fechaFinCargoActual(nuevoCargo);
+        LocalDateTime ahora = LocalDateTime.now();
+        EmpleadoEntidad anterior = mongoCollection().findOneAndUpdate(
+                EscriturasEmpleado.filtroCambioCargo(objectId, versionEsperada, fechaFin),
+                EscriturasEmpleado.cambiosCargo(nuevoCargo, fechaFin, ahora),
+                EscriturasEmpleado.DEVOLVER_ANTERIOR);
+        if (anterior == null) {
+            // Averigua por qué no se aplicó: si el empleado no existe no hay motivo
+            EmpleadoEntidad actual = mongoCollection()
+                    .find(Filters.eq("_id", objectId))
+                    .projection(EscriturasEmpleado.PROYECCION_RECHAZO_CARGO)
+                    .first();
+            if (actual == null) {
+                return Optional.empty();
+            }
+            throw EscriturasEmpleado.rechazoCambioCargo(actual, versionEsperada, fechaFin);
+        }
+
+        // El documento anterior más los cambios aplicados es el documento
+        // actual, sin volver a leerlo
+        return Optional.of(EscriturasEmpleado.toCambioCargo(anterior, nuevoCargo, fechaFin, ahora));
+    }
+
+    @Override
+    public void confirmarCargoEnHistorial(String id, InformacionLaboral cargo) {
+        if (ObjectId.isValid(id)) {
+            mongoCollection().updateOne(Filters.eq("_id", new ObjectId(id)),
+                    EmpleadoMapper.toConfirmacionHistorial(cargo));
+        }
+    }
+
+    @Override
+    public List<CargoPendienteHistorial> buscarCargosPendientesDeHistorial(int limite) {
+        // Usa el índice disperso de los cargos pendientes: solo lo tienen los
+        // empleados con algún cargo sin registrar
+        List<CargoPendienteHistorial> pendientes = new ArrayList<>();
+        for (EmpleadoEntidad entidad : mongoCollection()
+                .find(Filters.exists(EmpleadoMapper.CAMPO_HISTORIAL_PENDIENTE + ".fechaInicio"))
+                .projection(Projections.include(EmpleadoMapper.CAMPO_HISTORIAL_PENDIENTE))
+                .limit(limite)) {
+            for (EmpleadoEntidad.InformacionLaboralEntidad cargo : entidad.historialPendiente) {
+                pendientes.add(new CargoPendienteHistorial(entidad.id.toHexString(),
+                        HistorialCargosMapper.toDominio(cargo)));
+            }
+        }
+        return pendientes;
+    }
+
+    @Override
+    public ResultadoActualizacionMasiva actualizarEstadoMasivo(FiltroEmpleados filtro, EstadoEmpleado nuevoEstado) {
+        // Actualización con pipeline: la fecha y la versión solo se tocan si el
+        // estado cambia, así los empleados que ya tenían el estado cuentan como
+        // coincidentes pero no como modificados
+        Document sinCambio = new Document("$eq", List.of("$estado", nuevoEstado.name()));
+        Document cambios = new Document("$set", new Document()
+                .append("fechaActualizacion", new Document("$cond", List.of(
+                        sinCambio,
+                        "$fechaActualizacion",
+                        LocalDateTime.now())))
+                .append(ControlVersion.CAMPO, new Document("$cond", List.of(
+                        sinCambio,
+                        "$" + ControlVersion.CAMPO,
+                        ControlVersion.versionIncrementada())))
+                .append("estado", nuevoEstado.name()));
+
+        // Antes de escribir se agrupan los que van a cambiar por departamento y
+        // estado, así los contadores se ajustan sin agregar toda la colección
+        Bson seleccion = FiltroEmpleadosMapper.toBson(filtro);
+        Map<String, Map<EstadoEmpleado, Long>> cambiados = contarPorDepartamentoYEstado(
+                Filters.and(seleccion, Filters.ne("estado", nuevoEstado.name())));
+        UpdateResult resultado = mongoCollection().updateMany(seleccion, List.of(cambios));
+        return new ResultadoActualizacionMasiva(resultado.getMatchedCount(), resultado.getModifiedCount(), cambiados);
+    }
+
     @Override
     public Optional<Empleado> buscarPorId(String id) {
         try {
@@ -49,49 +321,277 @@ public class RepositorioEmpleadoMongo implements RepositorioEmpleado, PanacheMon
         }
     }
 
+    @Override
+    public Optional<Empleado> buscarPorIdVigente(String id, MarcaActualizacion marca) {
+        // Cada lectura va a MongoDB: siempre devuelve la versión vigente
+        return buscarPorId(id);
+    }
+
     @Override
     public Optional<Empleado> buscarPorDocumentoIdentidad(String documentoIdentidad) {
-        return find("documentoIdentidad", documentoIdentidad)
-                .firstResultOptional()
-                .map(EmpleadoMapper::toDominio);
+        EmpleadoEntidad entidad = mongoCollection()
+                .find(Filters.eq("documentoIdentidad", documentoIdentidad))
+                .limit(1)
+                .first();
+        return Optional.ofNullable(entidad).map(EmpleadoMapper::toDominio);
     }
 
     @Override
-    public List<Empleado> buscarPorEstado(EstadoEmpleado estado) {
-        return find("estado", estado.name())
-                .stream()
+    public List<Empleado> buscarPorTexto(String texto, int limite) {
+        List<String> terminos = TerminosBusqueda.toTerminosConsulta(texto);
+        if (terminos.isEmpty()) {
+            return List.of();
+        }
+
+        // Cada rama del $or recorre un rango de su índice; el índice devuelve
+        // primero las claves más cortas, de modo que las coincidencias exactas
+        // de la primera palabra entran antes en los candidatos
+        List<EmpleadoEntidad> candidatos = mongoCollection()
+                .find(BusquedaMapper.toFiltro(terminos))
+                .limit(limite * CANDIDATOS_POR_RESULTADO)
+                .into(new ArrayList<>());
+
+        return candidatos.stream()
+                .sorted(BusquedaMapper.porRelevancia(terminos))
+                .limit(limite)
                 .map(EmpleadoMapper::toDominio)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Empleado> buscarPorDepartamento(String departamento) {
-        return find("cargoActual.departamento", departamento)
-                .stream()
-                .map(EmpleadoMapper::toDominio)
-                .collect(Collectors.toList());
+    public Optional<VistaEmpleado> buscarPorId(String id, Set<CampoEmpleado> campos) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+        return buscarVista(Filters.eq("_id", new ObjectId(id)), campos);
     }
 
     @Override
-    public List<Empleado> obtenerTodos() {
-        return findAll()
-                .stream()
-                .map(EmpleadoMapper::toDominio)
-                .collect(Collectors.toList());
+    public Optional<VistaEmpleado> buscarPorDocumentoIdentidad(String documentoIdentidad, Set<CampoEmpleado> campos) {
+        return buscarVista(Filters.eq("documentoIdentidad", documentoIdentidad), campos);
     }
 
     @Override
-    public boolean eliminar(String id) {
-        try {
-            ObjectId objectId = new ObjectId(id);
-            return deleteById(objectId);
-        } catch (IllegalArgumentException e) {
-            return false;
+    public Optional<MarcaActualizacion> buscarMarcaActualizacion(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
         }
+
+        Document marca = mongoCollection()
+                .withDocumentClass(Document.class)
+                .find(Filters.eq("_id", new ObjectId(id)))
+                .projection(PROYECCION_MARCA)
+                .first();
+        return Optional.ofNullable(marca).map(this::toMarcaActualizacion);
+    }
+
+    @Override
+    public Pagina<Empleado> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite) {
+        return paginar(filtro, despuesDe, limite, null).map(EmpleadoMapper::toDominio);
+    }
+
+    @Override
+    public Pagina<VistaEmpleado> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite,
+            Set<CampoEmpleado> campos) {
+        return paginar(filtro, despuesDe, limite, VistaEmpleadoMapper.toProyeccion(campos))
+                .map(entidad -> VistaEmpleadoMapper.toVista(entidad, campos));
+    }
+
+    @Override
+    public Pagina<MarcaActualizacion> buscarMarcasPagina(FiltroEmpleados filtro, String despuesDe, int limite) {
+        return paginar(filtro, despuesDe, limite, PROYECCION_MARCA)
+                .map(entidad -> new MarcaActualizacion(
+                        entidad.id.toHexString(), entidad.fechaActualizacion, entidad.version));
+    }
+
+    @Override
+    public List<EstadisticaPlantilla> calcularEstadisticas(FiltroEmpleados filtro) {
+        // Se agrupa en el servidor: solo viaja un documento por combinación de
+        // departamento y estado
+        String salario = "$cargoActual.salario";
+        List<Bson> pipeline = List.of(
+                Aggregates.match(FiltroEmpleadosMapper.toBson(filtro)),
+                Aggregates.group(
+                        new Document("departamento", "$cargoActual.departamento").append("estado", "$estado"),
+                        Accumulators.sum("cantidadEmpleados", 1),
+                        Accumulators.sum("salarioTotal", salario),
+                        Accumulators.avg("salarioPromedio", salario),
+                        Accumulators.min("salarioMinimo", salario),
+                        Accumulators.max("salarioMaximo", salario)),
+                Aggregates.sort(Sorts.ascending("_id.departamento", "_id.estado")));
+
+        return mongoCollection()
+                .aggregate(pipeline, Document.class)
+                .map(this::toEstadisticaPlantilla)
+                .into(new ArrayList<>());
+    }
+
+    @Override
+    public Stream<Empleado> recorrer(FiltroEmpleados filtro) {
+        MongoCursor<EmpleadoEntidad> cursor = mongoCollection()
+                .find(FiltroEmpleadosMapper.toBson(filtro))
+                .batchSize(TAMANO_LOTE_CURSOR)
+                .cursor();
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(cursor::close)
+                .map(EmpleadoMapper::toDominio);
+    }
+
+    @Override
+    public Stream<VistaEmpleado> recorrer(FiltroEmpleados filtro, Set<CampoEmpleado> campos) {
+        MongoCursor<EmpleadoEntidad> cursor = mongoCollection()
+                .find(FiltroEmpleadosMapper.toBson(filtro))
+                .projection(VistaEmpleadoMapper.toProyeccion(campos))
+                .batchSize(TAMANO_LOTE_CURSOR)
+                .cursor();
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(cursor::close)
+                .map(entidad -> VistaEmpleadoMapper.toVista(entidad, campos));
+    }
+
+    @Override
+    public Optional<EmpleadoEliminado> eliminar(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+
+        // La misma operación devuelve el departamento y el estado que tenía
+        EmpleadoEntidad eliminado = mongoCollection().findOneAndDelete(
+                Filters.eq("_id", new ObjectId(id)),
+                new FindOneAndDeleteOptions().projection(EscriturasEmpleado.PROYECCION_PLANTILLA));
+        return Optional.ofNullable(eliminado).map(entidad -> EscriturasEmpleado.toEliminado(id, entidad));
     }
 
     @Override
     public boolean existePorDocumentoIdentidad(String documentoIdentidad) {
-        return count("documentoIdentidad", documentoIdentidad) > 0;
+        // Consulta cubierta por el índice único: no lee el documento ni cuenta
+        Document coincidencia = mongoCollection()
+                .withDocumentClass(Document.class)
+                .find(Filters.eq("documentoIdentidad", documentoIdentidad))
+                .projection(Projections.fields(
+                        Projections.include("documentoIdentidad"),
+                        Projections.excludeId()))
+                .limit(1)
+                .first();
+        return coincidencia != null;
+    }
+
+    /**
+     * Aplica los cambios, la fecha de actualización y el incremento de versión
+     * con un único findOneAndUpdate y devuelve el documento resultante
+     */
+    private Optional<Empleado> actualizarCampos(String id, Bson cambios, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Optional.empty();
+        }
+
+        EmpleadoEntidad actualizado = mongoCollection().findOneAndUpdate(
+                ControlVersion.filtro(new ObjectId(id), versionEsperada),
+                EscriturasEmpleado.conMarca(cambios, LocalDateTime.now()),
+                EscriturasEmpleado.DEVOLVER_ACTUALIZADO);
+        if (actualizado == null && versionEsperada != null && buscarMarcaActualizacion(id).isPresent()) {
+            throw new ConflictoVersionException(id, versionEsperada);
+        }
+        return Optional.ofNullable(actualizado).map(EmpleadoMapper::toDominio);
+    }
+
+    /**
+     * Lee un empleado con la proyección de los campos pedidos; los campos
+     * excluidos no viajan desde MongoDB ni se decodifican
+     */
+    private Optional<VistaEmpleado> buscarVista(Bson filtro, Set<CampoEmpleado> campos) {
+        EmpleadoEntidad entidad = mongoCollection()
+                .find(filtro)
+                .projection(VistaEmpleadoMapper.toProyeccion(campos))
+                .limit(1)
+                .first();
+        return Optional.ofNullable(entidad).map(encontrada -> VistaEmpleadoMapper.toVista(encontrada, campos));
+    }
+
+    /**
+     * Lee una página de empleados en el orden que corresponde al filtro, con la
+     * proyección indicada (null para leer el documento completo). Recorta el
+     * documento extra pedido para detectar la página siguiente y calcula el
+     * cursor a partir del último documento de la página
+     */
+    private Pagina<EmpleadoEntidad> paginar(FiltroEmpleados filtro, String despuesDe, int limite, Bson proyeccion) {
+        OrdenEmpleados orden = OrdenEmpleados.para(filtro);
+        // Se pide un documento extra para saber si hay otra página sin contar el total
+        FindIterable<EmpleadoEntidad> consulta = mongoCollection()
+                .find(FiltroEmpleadosMapper.toBson(filtro, despuesDe))
+                .sort(orden.toOrden())
+                .limit(limite + 1);
+        if (proyeccion != null) {
+            consulta = consulta.projection(orden.conProyeccion(proyeccion));
+        }
+        if (orden.getIndice() != null) {
+            // El planificador podría preferir un índice de igualdad y ordenar en memoria
+            consulta = consulta.hintString(orden.getIndice());
+        }
+
+        List<EmpleadoEntidad> entidades = consulta.into(new ArrayList<>());
+        boolean haySiguiente = entidades.size() > limite;
+        if (haySiguiente) {
+            entidades = entidades.subList(0, limite);
+        }
+
+        String siguienteCursor = haySiguiente ? orden.toCursor(entidades.get(entidades.size() - 1)) : null;
+        return new Pagina<>(entidades, siguienteCursor);
+    }
+
+    private Map<String, Map<EstadoEmpleado, Long>> contarPorDepartamentoYEstado(Bson filtro) {
+        List<Bson> pipeline = List.of(
+                Aggregates.match(filtro),
+                Aggregates.group(
+                        new Document("departamento", "$cargoActual.departamento").append("estado", "$estado"),
+                        Accumulators.sum("cantidadEmpleados", 1)));
+
+        Map<String, Map<EstadoEmpleado, Long>> conteo = new HashMap<>();
+        for (Document grupo : mongoCollection().aggregate(pipeline, Document.class)) {
+            Document clave = grupo.get("_id", Document.class);
+            conteo.computeIfAbsent(clave.getString("departamento"), d -> new EnumMap<>(EstadoEmpleado.class))
+                    .put(EstadoEmpleado.valueOf(clave.getString("estado")),
+                            grupo.get("cantidadEmpleados", Number.class).longValue());
+        }
+        return conteo;
+    }
+
+    private EstadisticaPlantilla toEstadisticaPlantilla(Document grupo) {
+        Document clave = grupo.get("_id", Document.class);
+        String estado = clave.getString("estado");
+        return new EstadisticaPlantilla(
+                clave.getString("departamento"),
+                estado != null ? EstadoEmpleado.valueOf(estado) : null,
+                grupo.get("cantidadEmpleados", Number.class).longValue(),
+                toDecimal(grupo.get("salarioTotal")),
+                toDecimal(grupo.get("salarioPromedio")),
+                toDecimal(grupo.get("salarioMinimo")),
+                toDecimal(grupo.get("salarioMaximo")));
+    }
+
+    /**
+     * Los salarios se guardan como Decimal128, y así los devuelven las sumas y
+     * promedios; sin salarios en el grupo el resultado es null (o 0 en la suma)
+     */
+    private BigDecimal toDecimal(Object valor) {
+        if (valor instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue();
+        }
+        return valor instanceof Number numero ? new BigDecimal(numero.toString()) : null;
+    }
+
+    private MarcaActualizacion toMarcaActualizacion(Document marca) {
+        // Mismo criterio que el codec de LocalDateTime del driver, que guarda en UTC
+        Date fecha = marca.getDate("fechaActualizacion");
+        return new MarcaActualizacion(
+                marca.getObjectId("_id").toHexString(),
+                fecha != null ? LocalDateTime.ofInstant(fecha.toInstant(), ZoneOffset.UTC) : null,
+                ControlVersion.leer(marca));
     }
 }
@@ -0,0 +1,279 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.Projections;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.modelo.CambioCargo;
+import devbitsve.dominio.modelo.CambioEstado;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EmpleadoEliminado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.InformacionContacto;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.InformacionPersonal;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.dominio.puerto.RepositorioEmpleadoReactivo;
+import devbitsve.infraestructura.persistencia.entidad.EmpleadoEntidad;
+import devbitsve.infraestructura.persistencia.mapper.EmpleadoMapper;
+import devbitsve.infraestructura.persistencia.mapper.FiltroEmpleadosMapper;
+import devbitsve.infraestructura.persistencia.mapper.OrdenEmpleados;
+import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.panache.reactive.ReactivePanacheMongoRepository;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación reactiva del repositorio de empleados usando MongoDB Panache.
+ * Adaptador que implementa el puerto RepositorioEmpleadoReactivo sobre el
+ * cliente reactivo de MongoDB, sin bloquear el event loop.
+ */
+@ApplicationScoped
+public class RepositorioEmpleadoMongoReactivo
+        implements RepositorioEmpleadoReactivo, ReactivePanacheMongoRepository<EmpleadoEntidad> {
+
+    /**
+     * Documentos que el cursor trae por cada viaje a MongoDB al recorrer
+     */
+    private static final int TAMANO_LOTE_CURSOR = 500;
+
+    @Override
+    public Uni<Empleado> guardar(Empleado empleado) {
+        EmpleadoEntidad entidad = EmpleadoMapper.toEntidad(empleado);
+        return persist(entidad)
+                .map(EmpleadoMapper::toDominio)
+                .onFailure(ErroresMongo::esClaveDuplicada)
+                .transform(e -> ErroresMongo.documentoDuplicado(entidad.documentoIdentidad));
+    }
+
+    @Override
+    public Uni<Optional<CambioEstado>> actualizarEstado(String id, EstadoEmpleado nuevoEstado, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+
+        // Se devuelve el documento anterior: de él salen el estado previo y el
+        // resto del empleado, sin leerlo antes
+        LocalDateTime ahora = LocalDateTime.now();
+        return mongoCollection()
+                .findOneAndUpdate(
+                        ControlVersion.filtro(new ObjectId(id), versionEsperada),
+                        EscriturasEmpleado.conMarca(EmpleadoMapper.toCambios(nuevoEstado), ahora),
+                        EscriturasEmpleado.DEVOLVER_ANTERIOR)
+                .flatMap(anterior -> {
+                    if (anterior == null) {
+                        return this.<CambioEstado>sinCoincidencia(id, versionEsperada);
+                    }
+                    return Uni.createFrom().item(
+                            Optional.of(EscriturasEmpleado.toCambioEstado(anterior, nuevoEstado, ahora)));
+                });
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> actualizarInformacionPersonal(String id, InformacionPersonal informacionPersonal,
+            Long versionEsperada) {
+        return actualizarCampos(id, EmpleadoMapper.toCambios(informacionPersonal), versionEsperada)
+                .onFailure(ErroresMongo::esClaveDuplicada)
+                .transform(e -> ErroresMongo.documentoDuplicado(informacionPersonal.getDocumentoIdentidad()));
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> actualizarInformacionContacto(String id, InformacionContacto informacionContacto,
+            Long versionEsperada) {
+        return actualizarCampos(id, EmpleadoMapper.toCambios(informacionContacto), versionEsperada);
+    }
+
+    @Override
+    public Uni<Optional<CambioCargo>> cambiarCargo(String id, InformacionLaboral nuevoCargo, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+
+        ObjectId objectId = new ObjectId(id);
+        LocalDate fechaFin = EscriturasEmpleado.fechaFinCargoActual(nuevoCargo);
+        LocalDateTime ahora = LocalDateTime.now();
+        // Misma escritura que el adaptador bloqueante: el pipeline deja el cargo
+        // finalizado pendiente de pasar al historial
+        return mongoCollection()
+                .findOneAndUpdate(
+                        EscriturasEmpleado.filtroCambioCargo(objectId, versionEsperada, fechaFin),
+                        EscriturasEmpleado.cambiosCargo(nuevoCargo, fechaFin, ahora),
+                        EscriturasEmpleado.DEVOLVER_ANTERIOR)
+                .flatMap(anterior -> {
+                    if (anterior == null) {
+                        return rechazarCambioCargo(objectId, versionEsperada, fechaFin);
+                    }
+                    return Uni.createFrom().item(
+                            Optional.of(EscriturasEmpleado.toCambioCargo(anterior, nuevoCargo, fechaFin, ahora)));
+                });
+    }
+
+    @Override
+    public Uni<Void> confirmarCargoEnHistorial(String id, InformacionLaboral cargo) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().voidItem();
+        }
+        return mongoCollection()
+                .updateOne(Filters.eq("_id", new ObjectId(id)), EmpleadoMapper.toConfirmacionHistorial(cargo))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> buscarPorId(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+        return findByIdOptional(new ObjectId(id))
+                .map(entidad -> entidad.map(EmpleadoMapper::toDominio));
+    }
+
+    @Override
+    public Uni<Optional<Empleado>> buscarPorDocumentoIdentidad(String documentoIdentidad) {
+        return mongoCollection()
+                .find(Filters.eq("documentoIdentidad", documentoIdentidad), new FindOptions().limit(1))
+                .collect().first()
+                .map(entidad -> Optional.ofNullable(entidad).map(EmpleadoMapper::toDominio));
+    }
+
+    @Override
+    public Uni<Pagina<Empleado>> buscarPagina(FiltroEmpleados filtro, String despuesDe, int limite) {
+        OrdenEmpleados orden = OrdenEmpleados.para(filtro);
+        // Se pide un documento extra para saber si hay otra página sin contar el total
+        FindOptions opciones = new FindOptions()
+                .sort(orden.toOrden())
+                .limit(limite + 1);
+        if (orden.getIndice() != null) {
+            // El índice del rango tiene las mismas claves que el orden; el
+            // planificador podría preferir uno de igualdad y ordenar en memoria
+            opciones = opciones.hint(orden.toOrden());
+        }
+
+        Uni<List<EmpleadoEntidad>> consulta;
+        try {
+            consulta = mongoCollection()
+                    .find(FiltroEmpleadosMapper.toBson(filtro, despuesDe), opciones)
+                    .collect().asList();
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().failure(e);
+        }
+
+        return consulta.map(entidades -> {
+            boolean haySiguiente = entidades.size() > limite;
+            List<EmpleadoEntidad> contenido = haySiguiente ? entidades.subList(0, limite) : entidades;
+            List<Empleado> empleados = contenido.stream()
+                    .map(EmpleadoMapper::toDominio)
+                    .collect(Collectors.toList());
+            String siguienteCursor = haySiguiente ? orden.toCursor(contenido.get(contenido.size() - 1)) : null;
+            return new Pagina<>(empleados, siguienteCursor);
+        });
+    }
+
+    @Override
+    public Multi<Empleado> recorrer(FiltroEmpleados filtro) {
+        return mongoCollection()
+                .find(FiltroEmpleadosMapper.toBson(filtro), new FindOptions().batchSize(TAMANO_LOTE_CURSOR))
+                .map(EmpleadoMapper::toDominio);
+    }
+
+    @Override
+    public Uni<Optional<EmpleadoEliminado>> eliminar(String id) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+        return mongoCollection()
+                .findOneAndDelete(
+                        Filters.eq("_id", new ObjectId(id)),
+                        new FindOneAndDeleteOptions().projection(EscriturasEmpleado.PROYECCION_PLANTILLA))
+                .map(eliminado -> Optional.ofNullable(eliminado)
+                        .map(entidad -> EscriturasEmpleado.toEliminado(id, entidad)));
+    }
+
+    @Override
+    public Uni<Boolean> existePorDocumentoIdentidad(String documentoIdentidad) {
+        // Consulta cubierta por el índice único: no lee el documento ni cuenta
+        return mongoCollection()
+                .find(Filters.eq("documentoIdentidad", documentoIdentidad), new FindOptions()
+                        .projection(Projections.fields(
+                                Projections.include("documentoIdentidad"),
+                                Projections.excludeId()))
+                        .limit(1))
+                .collect().first()
+                .map(coincidencia -> coincidencia != null);
+    }
+
+    /**
+     * Aplica los cambios con un único findOneAndUpdate y devuelve el documento
+     * ya actualizado
+     */
+    private Uni<Optional<Empleado>> actualizarCampos(String id, Bson cambios, Long versionEsperada) {
+        if (!ObjectId.isValid(id)) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+        return mongoCollection()
+                .findOneAndUpdate(
+                        ControlVersion.filtro(new ObjectId(id), versionEsperada),
+                        EscriturasEmpleado.conMarca(cambios, LocalDateTime.now()),
+                        EscriturasEmpleado.DEVOLVER_ACTUALIZADO)
+                .flatMap(actualizado -> {
+                    if (actualizado == null) {
+                        return this.<Empleado>sinCoincidencia(id, versionEsperada);
+                    }
+                    return Uni.createFrom().item(Optional.of(EmpleadoMapper.toDominio(actualizado)));
+                });
+    }
+
+    /**
+     * Resultado de una escritura condicionada que no encontró el documento: si
+     * se exigía una versión y el empleado existe, es un conflicto; si no, el
+     * empleado no existe
+     */
+    private <T> Uni<Optional<T>> sinCoincidencia(String id, Long versionEsperada) {
+        if (versionEsperada == null) {
+            return Uni.createFrom().item(Optional.empty());
+        }
+        return existePorId(new ObjectId(id))
+                .map(existe -> {
+                    if (existe) {
+                        throw new ConflictoVersionException(id, versionEsperada);
+                    }
+                    return Optional.<T>empty();
+                });
+    }
+
+    /**
+     * Averigua por qué no se aplicó un cambio de cargo: si el empleado no existe
+     * no hay motivo
+     */
+    private Uni<Optional<CambioCargo>> rechazarCambioCargo(ObjectId id, Long versionEsperada, LocalDate fechaFin) {
+        return mongoCollection()
+                .find(Filters.eq("_id", id), new FindOptions()
+                        .projection(EscriturasEmpleado.PROYECCION_RECHAZO_CARGO)
+                        .limit(1))
+                .collect().first()
+                .map(actual -> {
+                    if (actual == null) {
+                        return Optional.<CambioCargo>empty();
+                    }
+                    throw EscriturasEmpleado.rechazoCambioCargo(actual, versionEsperada, fechaFin);
+                });
+    }
+
+    private Uni<Boolean> existePorId(ObjectId id) {
+        return mongoCollection()
+                .find(Filters.eq("_id", id), new FindOptions()
+                        .projection(Projections.include("_id"))
+                        .limit(1))
+                .collect().first()
+                .map(coincidencia -> coincidencia != null);
+    }
+}
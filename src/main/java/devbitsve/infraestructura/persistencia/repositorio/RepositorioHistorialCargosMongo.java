@@ -0,0 +1,106 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOptions;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.dominio.puerto.RepositorioHistorialCargos;
+import devbitsve.infraestructura.metricas.Medido;
+import devbitsve.infraestructura.persistencia.entidad.HistorialCargosEntidad;
+import devbitsve.infraestructura.persistencia.mapper.CursorPaginacion;
+import devbitsve.infraestructura.persistencia.mapper.HistorialCargosMapper;
+import devbitsve.infraestructura.persistencia.mapper.PosicionHistorial;
+import io.quarkus.mongodb.panache.PanacheMongoRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación del historial de cargos usando MongoDB Panache.
+ * Adaptador que implementa el puerto RepositorioHistorialCargos sobre la
+ * colección historial_cargos, con un bucket por empleado y período.
+ */
+@Medido("repositorio")
+@ApplicationScoped
+public class RepositorioHistorialCargosMongo
+        implements RepositorioHistorialCargos, PanacheMongoRepository<HistorialCargosEntidad> {
+
+    /**
+     * Buckets que el cursor trae por cada viaje a MongoDB al paginar; una
+     * página suele resolverse con los períodos más recientes
+     */
+    private static final int TAMANO_LOTE_BUCKETS = 10;
+
+    private static final UpdateOptions CREAR_SI_NO_EXISTE = new UpdateOptions().upsert(true);
+
+    @Override
+    public void registrar(String empleadoId, InformacionLaboral cargo) {
+        Bson filtro = HistorialCargosMapper.toFiltroBucket(new ObjectId(empleadoId),
+                HistorialCargosMapper.toPeriodo(cargo));
+        Bson registro = HistorialCargosMapper.toRegistro(cargo);
+        try {
+            mongoCollection().updateOne(filtro, registro, CREAR_SI_NO_EXISTE);
+        } catch (MongoException e) {
+            if (!ErroresMongo.esClaveDuplicada(e)) {
+                throw e;
+            }
+            // Otro registro simultáneo creó el bucket primero; ahora ya existe
+            mongoCollection().updateOne(filtro, registro);
+        }
+    }
+
+    @Override
+    public Pagina<InformacionLaboral> buscarPagina(String empleadoId, String despuesDe, int limite) {
+        PosicionHistorial cursor = despuesDe != null ? CursorPaginacion.decodificarPosicion(despuesDe) : null;
+        if (!ObjectId.isValid(empleadoId)) {
+            return new Pagina<>(List.of(), null);
+        }
+
+        Bson filtro = Filters.eq("empleadoId", new ObjectId(empleadoId));
+        if (cursor != null) {
+            filtro = Filters.and(filtro, Filters.lte("periodo", cursor.getPeriodo()));
+        }
+
+        // Los buckets llegan del período más reciente al más antiguo y cada uno
+        // se recorre desde su último cargo; se deja de leer al completar la página
+        List<InformacionLaboral> cargos = new ArrayList<>(limite);
+        PosicionHistorial ultima = null;
+        boolean haySiguiente = false;
+        try (MongoCursor<HistorialCargosEntidad> buckets = mongoCollection()
+                .find(filtro)
+                .sort(Sorts.descending("periodo"))
+                .batchSize(TAMANO_LOTE_BUCKETS)
+                .cursor()) {
+            while (buckets.hasNext() && !haySiguiente) {
+                HistorialCargosEntidad bucket = buckets.next();
+                for (int i = bucket.cargos.size() - 1; i >= 0; i--) {
+                    PosicionHistorial posicion = new PosicionHistorial(bucket.periodo, i);
+                    if (cursor != null && !posicion.esPosteriorA(cursor)) {
+                        continue;
+                    }
+                    if (cargos.size() == limite) {
+                        haySiguiente = true;
+                        break;
+                    }
+                    cargos.add(HistorialCargosMapper.toDominio(bucket.cargos.get(i)));
+                    ultima = posicion;
+                }
+            }
+        }
+
+        return new Pagina<>(cargos, haySiguiente ? CursorPaginacion.codificar(ultima) : null);
+    }
+
+    @Override
+    public void eliminar(String empleadoId) {
+        if (ObjectId.isValid(empleadoId)) {
+            mongoCollection().deleteMany(Filters.eq("empleadoId", new ObjectId(empleadoId)));
+        }
+    }
+}
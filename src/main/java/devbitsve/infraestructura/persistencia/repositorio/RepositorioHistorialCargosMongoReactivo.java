@@ -0,0 +1,45 @@
+package devbitsve.infraestructura.persistencia.repositorio;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import devbitsve.dominio.modelo.InformacionLaboral;
+import devbitsve.dominio.puerto.RepositorioHistorialCargosReactivo;
+import devbitsve.infraestructura.persistencia.entidad.HistorialCargosEntidad;
+import devbitsve.infraestructura.persistencia.mapper.HistorialCargosMapper;
+import io.quarkus.mongodb.panache.reactive.ReactivePanacheMongoRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+/**
+ * Implementación reactiva del historial de cargos usando MongoDB Panache.
+ * Escribe en los mismos buckets que {@link RepositorioHistorialCargosMongo}.
+ */
+@ApplicationScoped
+public class RepositorioHistorialCargosMongoReactivo
+        implements RepositorioHistorialCargosReactivo, ReactivePanacheMongoRepository<HistorialCargosEntidad> {
+
+    private static final UpdateOptions CREAR_SI_NO_EXISTE = new UpdateOptions().upsert(true);
+
+    @Override
+    public Uni<Void> registrar(String empleadoId, InformacionLaboral cargo) {
+        Bson filtro = HistorialCargosMapper.toFiltroBucket(new ObjectId(empleadoId),
+                HistorialCargosMapper.toPeriodo(cargo));
+        Bson registro = HistorialCargosMapper.toRegistro(cargo);
+        return mongoCollection().updateOne(filtro, registro, CREAR_SI_NO_EXISTE)
+                // Otro registro simultáneo creó el bucket primero; ahora ya existe
+                .onFailure(ErroresMongo::esClaveDuplicada)
+                .recoverWithUni(() -> mongoCollection().updateOne(filtro, registro))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> eliminar(String empleadoId) {
+        if (!ObjectId.isValid(empleadoId)) {
+            return Uni.createFrom().voidItem();
+        }
+        return mongoCollection().deleteMany(Filters.eq("empleadoId", new ObjectId(empleadoId)))
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,27 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO para la respuesta con una consulta a MongoDB que superó el umbral de
+ * consultas lentas y su plan de ejecución (nulo si no se pudo obtener)
+ */
+public class ConsultaLentaResponse {
+
+    public LocalDateTime momento;
+    public String comando;
+    public String coleccion;
+    public long duracionMs;
+    public String casoDeUso;
+    public String metodoRepositorio;
+    public String forma;
+    public String recorrido;
+    public List<String> indices;
+    public Long documentosExaminados;
+    public Long clavesExaminadas;
+    public Long documentosDevueltos;
+
+    public ConsultaLentaResponse() {
+    }
+}
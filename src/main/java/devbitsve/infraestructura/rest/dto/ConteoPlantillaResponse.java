@@ -0,0 +1,27 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO para la respuesta con la cantidad de empleados por departamento y estado
+ * tomada de los contadores en memoria
+ */
+public class ConteoPlantillaResponse {
+
+    public Map<String, Map<String, Long>> departamentos;
+    public long total;
+    public LocalDateTime ultimaReconciliacion;
+
+    public ConteoPlantillaResponse() {
+    }
+
+    public ConteoPlantillaResponse(
+            Map<String, Map<String, Long>> departamentos,
+            long total,
+            LocalDateTime ultimaReconciliacion) {
+        this.departamentos = departamentos;
+        this.total = total;
+        this.ultimaReconciliacion = ultimaReconciliacion;
+    }
+}
@@ -0,0 +1,51 @@
+package devbitsve.infraestructura.rest.dto;
+
+import jakarta.ws.rs.QueryParam;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+
+/**
+ * Criterios de la consulta GET /api/empleados/filtro, leídos de la query.
+ * Los criterios presentes se combinan; los ausentes no se aplican. Los rangos
+ * incluyen sus extremos y admiten uno solo de ellos.
+ */
+public class CriteriosEmpleadosDTO {
+
+    @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)")
+    @QueryParam("estado")
+    public String estado;
+
+    @Parameter(description = "Departamento del cargo actual")
+    @QueryParam("departamento")
+    public String departamento;
+
+    @Parameter(description = "Cargo actual")
+    @QueryParam("cargo")
+    public String cargo;
+
+    @Parameter(description = "Salario mínimo del cargo actual")
+    @QueryParam("salarioMinimo")
+    public String salarioMinimo;
+
+    @Parameter(description = "Salario máximo del cargo actual")
+    @QueryParam("salarioMaximo")
+    public String salarioMaximo;
+
+    @Parameter(description = "Fecha de inicio del cargo actual desde (yyyy-MM-dd)")
+    @QueryParam("fechaInicioDesde")
+    public String fechaInicioDesde;
+
+    @Parameter(description = "Fecha de inicio del cargo actual hasta (yyyy-MM-dd)")
+    @QueryParam("fechaInicioHasta")
+    public String fechaInicioHasta;
+
+    @Parameter(description = "Fecha de nacimiento desde (yyyy-MM-dd)")
+    @QueryParam("fechaNacimientoDesde")
+    public String fechaNacimientoDesde;
+
+    @Parameter(description = "Fecha de nacimiento hasta (yyyy-MM-dd)")
+    @QueryParam("fechaNacimientoHasta")
+    public String fechaNacimientoHasta;
+
+    public CriteriosEmpleadosDTO() {
+    }
+}
@@ -1,7 +1,6 @@
 package devbitsve.infraestructura.rest.dto;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * DTO para la respuesta con información completa de un empleado
@@ -12,7 +11,7 @@ public class EmpleadoResponse {
     public InformacionPersonalDTO informacionPersonal;
     public InformacionContactoDTO informacionContacto;
     public InformacionLaboralDTO cargoActual;
-    public List<InformacionLaboralDTO> historialCargos;
+    public int cantidadCargosHistorial; // Cargos anteriores: GET /api/empleados/{id}/historial
     public String estado;
     public LocalDateTime fechaCreacion;
     public LocalDateTime fechaActualizacion;
@@ -25,7 +24,7 @@ public class EmpleadoResponse {
             InformacionPersonalDTO informacionPersonal,
             InformacionContactoDTO informacionContacto,
             InformacionLaboralDTO cargoActual,
-            List<InformacionLaboralDTO> historialCargos,
+            int cantidadCargosHistorial,
             String estado,
             LocalDateTime fechaCreacion,
             LocalDateTime fechaActualizacion) {
@@ -33,7 +32,7 @@ public class EmpleadoResponse {
         this.informacionPersonal = informacionPersonal;
         this.informacionContacto = informacionContacto;
         this.cargoActual = cargoActual;
-        this.historialCargos = historialCargos;
+        this.cantidadCargosHistorial = cantidadCargosHistorial;
         this.estado = estado;
         this.fechaCreacion = fechaCreacion;
         this.fechaActualizacion = fechaActualizacion;
@@ -0,0 +1,38 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para la respuesta con la cantidad de empleados y el resumen salarial de
+ * un departamento en un estado
+ */
+public class EstadisticaPlantillaResponse {
+
+    public String departamento;
+    public String estado;
+    public long cantidadEmpleados;
+    public BigDecimal salarioTotal;
+    public BigDecimal salarioPromedio;
+    public BigDecimal salarioMinimo;
+    public BigDecimal salarioMaximo;
+
+    public EstadisticaPlantillaResponse() {
+    }
+
+    public EstadisticaPlantillaResponse(
+            String departamento,
+            String estado,
+            long cantidadEmpleados,
+            BigDecimal salarioTotal,
+            BigDecimal salarioPromedio,
+            BigDecimal salarioMinimo,
+            BigDecimal salarioMaximo) {
+        this.departamento = departamento;
+        this.estado = estado;
+        this.cantidadEmpleados = cantidadEmpleados;
+        this.salarioTotal = salarioTotal;
+        this.salarioPromedio = salarioPromedio;
+        this.salarioMinimo = salarioMinimo;
+        this.salarioMaximo = salarioMaximo;
+    }
+}
@@ -0,0 +1,23 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO para seleccionar empleados en operaciones masivas.
+ * Los criterios presentes se combinan; los ausentes no se aplican.
+ */
+public class FiltroEmpleadosDTO {
+
+    public List<String> ids;
+    public String estado;
+    public String departamento;
+
+    public FiltroEmpleadosDTO() {
+    }
+
+    public FiltroEmpleadosDTO(List<String> ids, String estado, String departamento) {
+        this.ids = ids;
+        this.estado = estado;
+        this.departamento = departamento;
+    }
+}
@@ -0,0 +1,22 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO para la respuesta de un listado paginado por cursor.
+ * Para pedir la siguiente página se envía siguienteCursor en el parámetro
+ * despuesDe; es null cuando no hay más resultados.
+ */
+public class PaginaResponse<T> {
+
+    public List<T> elementos;
+    public String siguienteCursor;
+
+    public PaginaResponse() {
+    }
+
+    public PaginaResponse(List<T> elementos, String siguienteCursor) {
+        this.elementos = elementos;
+        this.siguienteCursor = siguienteCursor;
+    }
+}
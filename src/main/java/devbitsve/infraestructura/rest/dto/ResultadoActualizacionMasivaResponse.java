@@ -0,0 +1,18 @@
+package devbitsve.infraestructura.rest.dto;
+
+/**
+ * DTO para la respuesta de una actualización masiva
+ */
+public class ResultadoActualizacionMasivaResponse {
+
+    public long coincidentes;
+    public long modificados;
+
+    public ResultadoActualizacionMasivaResponse() {
+    }
+
+    public ResultadoActualizacionMasivaResponse(long coincidentes, long modificados) {
+        this.coincidentes = coincidentes;
+        this.modificados = modificados;
+    }
+}
@@ -0,0 +1,20 @@
+package devbitsve.infraestructura.rest.dto;
+
+/**
+ * DTO para el resultado de crear un empleado dentro de un lote
+ */
+public class ResultadoCreacionResponse {
+
+    public int indice;
+    public String id;
+    public String error;
+
+    public ResultadoCreacionResponse() {
+    }
+
+    public ResultadoCreacionResponse(int indice, String id, String error) {
+        this.indice = indice;
+        this.id = id;
+        this.error = error;
+    }
+}
@@ -0,0 +1,25 @@
+package devbitsve.infraestructura.rest.dto;
+
+import java.util.List;
+
+/**
+ * DTO para la respuesta de una creación por lote, con el resultado de cada
+ * empleado en el orden recibido
+ */
+public class ResultadoLoteResponse {
+
+    public int total;
+    public int creados;
+    public int fallidos;
+    public List<ResultadoCreacionResponse> resultados;
+
+    public ResultadoLoteResponse() {
+    }
+
+    public ResultadoLoteResponse(int total, int creados, int fallidos, List<ResultadoCreacionResponse> resultados) {
+        this.total = total;
+        this.creados = creados;
+        this.fallidos = fallidos;
+        this.resultados = resultados;
+    }
+}
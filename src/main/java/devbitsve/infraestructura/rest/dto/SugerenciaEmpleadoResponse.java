@@ -0,0 +1,18 @@
+package devbitsve.infraestructura.rest.dto;
+
+/**
+ * DTO para la respuesta con un empleado sugerido al autocompletar su nombre
+ */
+public class SugerenciaEmpleadoResponse {
+
+    public String id;
+    public String nombreCompleto;
+
+    public SugerenciaEmpleadoResponse() {
+    }
+
+    public SugerenciaEmpleadoResponse(String id, String nombreCompleto) {
+        this.id = id;
+        this.nombreCompleto = nombreCompleto;
+    }
+}
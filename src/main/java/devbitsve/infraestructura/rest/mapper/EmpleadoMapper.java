@@ -4,7 +4,15 @@ import devbitsve.dominio.modelo.*;
 import devbitsve.infraestructura.rest.dto.*;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +33,34 @@ public class EmpleadoMapper {
                 dto.fechaNacimiento);
     }
 
+    /**
+     * Convierte un DTO de filtro a filtro de dominio
+     *
+     * @throws IllegalArgumentException si el estado no es válido
+     */
+    public FiltroEmpleados toFiltroEmpleados(FiltroEmpleadosDTO dto) {
+        if (dto == null) {
+            return FiltroEmpleados.todos();
+        }
+        return FiltroEmpleados.de(toEstado(dto.estado), dto.departamento).conIds(dto.ids);
+    }
+
+    /**
+     * Convierte los criterios de la query a filtro de dominio
+     *
+     * @throws IllegalArgumentException si un criterio no tiene un formato válido
+     */
+    public FiltroEmpleados toFiltroEmpleados(CriteriosEmpleadosDTO criterios) {
+        return FiltroEmpleados.de(toEstado(criterios.estado), criterios.departamento)
+                .conCargo(criterios.cargo)
+                .conSalario(toDecimal("salarioMinimo", criterios.salarioMinimo),
+                        toDecimal("salarioMaximo", criterios.salarioMaximo))
+                .conFechaInicio(toFecha("fechaInicioDesde", criterios.fechaInicioDesde),
+                        toFecha("fechaInicioHasta", criterios.fechaInicioHasta))
+                .conFechaNacimiento(toFecha("fechaNacimientoDesde", criterios.fechaNacimientoDesde),
+                        toFecha("fechaNacimientoHasta", criterios.fechaNacimientoHasta));
+    }
+
     /**
      * Convierte un objeto de dominio de información personal a DTO
      */
@@ -85,16 +121,12 @@ public class EmpleadoMapper {
      * Convierte una entidad Empleado a DTO de respuesta
      */
     public EmpleadoResponse toEmpleadoResponse(Empleado empleado) {
-        List<InformacionLaboralDTO> historial = empleado.getHistorialCargos().stream()
-                .map(this::toInformacionLaboralDTO)
-                .collect(Collectors.toList());
-
         return new EmpleadoResponse(
                 empleado.getId(),
                 toInformacionPersonalDTO(empleado.getInformacionPersonal()),
                 toInformacionContactoDTO(empleado.getInformacionContacto()),
                 toInformacionLaboralDTO(empleado.getCargoActual()),
-                historial,
+                empleado.getCantidadCargosHistorial(),
                 empleado.getEstado().name(),
                 empleado.getFechaCreacion(),
                 empleado.getFechaActualizacion());
@@ -108,4 +140,182 @@ public class EmpleadoMapper {
                 .map(this::toEmpleadoResponse)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Convierte una página de empleados a DTO de respuesta paginada
+     */
+    public PaginaResponse<EmpleadoResponse> toPaginaResponse(Pagina<Empleado> pagina) {
+        return new PaginaResponse<>(
+                toEmpleadoResponseList(pagina.getElementos()),
+                pagina.getSiguienteCursor());
+    }
+
+    /**
+     * Convierte una página del historial de cargos a DTO de respuesta paginada
+     */
+    public PaginaResponse<InformacionLaboralDTO> toPaginaHistorialResponse(Pagina<InformacionLaboral> pagina) {
+        return new PaginaResponse<>(
+                pagina.getElementos().stream()
+                        .map(this::toInformacionLaboralDTO)
+                        .collect(Collectors.toList()),
+                pagina.getSiguienteCursor());
+    }
+
+    /**
+     * Convierte el parámetro campos (rutas separadas por comas) en los campos a
+     * leer, o null si no se indicó y hay que devolver el empleado completo
+     */
+    public Set<CampoEmpleado> toCampos(String campos) {
+        if (campos == null || campos.isBlank()) {
+            return null;
+        }
+        return CampoEmpleado.desde(Arrays.asList(campos.split(",")));
+    }
+
+    /**
+     * Convierte una vista parcial en un objeto JSON con la misma forma que
+     * EmpleadoResponse, pero solo con el ID y los campos pedidos
+     */
+    public Map<String, Object> toVistaResponse(VistaEmpleado vista) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", vista.getId());
+        vista.getValores().forEach((campo, valor) -> colocar(json, campo.getRuta(), toValorResponse(valor)));
+        return json;
+    }
+
+    /**
+     * Convierte una página de vistas parciales a DTO de respuesta paginada
+     */
+    public PaginaResponse<Map<String, Object>> toPaginaVistaResponse(Pagina<VistaEmpleado> pagina) {
+        return new PaginaResponse<>(
+                pagina.getElementos().stream()
+                        .map(this::toVistaResponse)
+                        .collect(Collectors.toList()),
+                pagina.getSiguienteCursor());
+    }
+
+    /**
+     * Convierte los resultados de una creación por lote a DTO de respuesta
+     */
+    public ResultadoLoteResponse toResultadoLoteResponse(List<ResultadoCreacion> resultados) {
+        List<ResultadoCreacionResponse> items = resultados.stream()
+                .map(resultado -> new ResultadoCreacionResponse(
+                        resultado.getIndice(),
+                        resultado.getId(),
+                        resultado.getError()))
+                .collect(Collectors.toList());
+        int creados = (int) resultados.stream().filter(ResultadoCreacion::esExitoso).count();
+
+        return new ResultadoLoteResponse(resultados.size(), creados, resultados.size() - creados, items);
+    }
+
+    /**
+     * Convierte el resultado de una actualización masiva a DTO de respuesta
+     */
+    public ResultadoActualizacionMasivaResponse toResultadoActualizacionMasivaResponse(
+            ResultadoActualizacionMasiva resultado) {
+        return new ResultadoActualizacionMasivaResponse(resultado.getCoincidentes(), resultado.getModificados());
+    }
+
+    /**
+     * Convierte las estadísticas de la plantilla a DTOs de respuesta. El
+     * promedio se redondea a centavos
+     */
+    public List<EstadisticaPlantillaResponse> toEstadisticaPlantillaResponseList(
+            List<EstadisticaPlantilla> estadisticas) {
+        return estadisticas.stream()
+                .map(estadistica -> new EstadisticaPlantillaResponse(
+                        estadistica.getDepartamento(),
+                        estadistica.getEstado() != null ? estadistica.getEstado().name() : null,
+                        estadistica.getCantidadEmpleados(),
+                        estadistica.getSalarioTotal(),
+                        estadistica.getSalarioPromedio() != null
+                                ? estadistica.getSalarioPromedio().setScale(2, RoundingMode.HALF_EVEN)
+                                : null,
+                        estadistica.getSalarioMinimo(),
+                        estadistica.getSalarioMaximo()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte las sugerencias de autocompletado a DTOs de respuesta
+     */
+    public List<SugerenciaEmpleadoResponse> toSugerenciaEmpleadoResponseList(List<SugerenciaEmpleado> sugerencias) {
+        return sugerencias.stream()
+                .map(sugerencia -> new SugerenciaEmpleadoResponse(sugerencia.getId(), sugerencia.getNombreCompleto()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte los contadores de la plantilla a DTO de respuesta, conservando
+     * el orden de departamentos y estados
+     */
+    public ConteoPlantillaResponse toConteoPlantillaResponse(ConteoPlantilla conteo) {
+        Map<String, Map<String, Long>> departamentos = new LinkedHashMap<>();
+        conteo.getPorDepartamento().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(departamento -> {
+                    Map<String, Long> porEstado = new LinkedHashMap<>();
+                    departamento.getValue().entrySet().stream()
+                            .sorted(Map.Entry.comparingByKey())
+                            .forEach(estado -> porEstado.put(estado.getKey().name(), estado.getValue()));
+                    departamentos.put(departamento.getKey(), porEstado);
+                });
+        return new ConteoPlantillaResponse(departamentos, conteo.getTotal(), conteo.getUltimaReconciliacion());
+    }
+
+    /**
+     * Coloca el valor en la ruta indicada, creando los objetos intermedios
+     */
+    @SuppressWarnings("unchecked")
+    private void colocar(Map<String, Object> json, String ruta, Object valor) {
+        int punto = ruta.indexOf('.');
+        if (punto < 0) {
+            json.put(ruta, valor);
+            return;
+        }
+        Map<String, Object> hijo = (Map<String, Object>) json.computeIfAbsent(
+                ruta.substring(0, punto), clave -> new LinkedHashMap<String, Object>());
+        colocar(hijo, ruta.substring(punto + 1), valor);
+    }
+
+    private Object toValorResponse(Object valor) {
+        if (valor instanceof EstadoEmpleado estado) {
+            return estado.name();
+        }
+        return valor;
+    }
+
+    private EstadoEmpleado toEstado(String estado) {
+        if (estado == null) {
+            return null;
+        }
+        try {
+            return EstadoEmpleado.valueOf(estado.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Estado inválido: " + estado);
+        }
+    }
+
+    private BigDecimal toDecimal(String criterio, String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + criterio + ": " + valor);
+        }
+    }
+
+    private LocalDate toFecha(String criterio, String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(valor.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida para " + criterio + " (yyyy-MM-dd): " + valor);
+        }
+    }
 }
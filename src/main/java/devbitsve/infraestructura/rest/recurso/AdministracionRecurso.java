@@ -0,0 +1,66 @@
+package devbitsve.infraestructura.rest.recurso;
+
+import devbitsve.infraestructura.persistencia.diagnostico.ConsultaLenta;
+import devbitsve.infraestructura.persistencia.diagnostico.PlanConsulta;
+import devbitsve.infraestructura.persistencia.diagnostico.RegistroConsultasLentas;
+import devbitsve.infraestructura.rest.dto.ConsultaLentaResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Recurso REST de diagnóstico para operar la API. Se publica en todos los
+ * modos de ejecución.
+ */
+@Path("/api/admin")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Administración", description = "Diagnóstico de la API")
+public class AdministracionRecurso {
+
+    @Inject
+    RegistroConsultasLentas registroConsultasLentas;
+
+    @GET
+    @Path("/consultas-lentas")
+    @Operation(summary = "Consultas lentas", description = "Últimas consultas a MongoDB que superaron empleados.consultas-lentas.umbral, de la más lenta a la más rápida, con el caso de uso que las originó y su plan de ejecución (COLLSCAN o IXSCAN, documentos examinados y devueltos). Las consultas se muestran sin valores")
+    @APIResponse(responseCode = "200", description = "Consultas lentas registradas", content = @Content(schema = @Schema(implementation = ConsultaLentaResponse.class, type = SchemaType.ARRAY)))
+    public Response obtenerConsultasLentas() {
+        List<ConsultaLentaResponse> consultas = registroConsultasLentas.obtenerConsultasLentas().stream()
+                .map(AdministracionRecurso::toConsultaLentaResponse)
+                .collect(Collectors.toList());
+        return Response.ok(consultas).build();
+    }
+
+    private static ConsultaLentaResponse toConsultaLentaResponse(ConsultaLenta consulta) {
+        ConsultaLentaResponse response = new ConsultaLentaResponse();
+        response.momento = consulta.getMomento();
+        response.comando = consulta.getComando();
+        response.coleccion = consulta.getColeccion();
+        response.duracionMs = consulta.getDuracionMs();
+        response.casoDeUso = consulta.getCasoDeUso();
+        response.metodoRepositorio = consulta.getMetodoRepositorio();
+        response.forma = consulta.getForma();
+
+        PlanConsulta plan = consulta.getPlan();
+        if (plan != null) {
+            response.recorrido = plan.getRecorrido();
+            response.indices = plan.getIndices();
+            response.documentosExaminados = plan.getDocumentosExaminados();
+            response.clavesExaminadas = plan.getClavesExaminadas();
+            response.documentosDevueltos = plan.getDocumentosDevueltos();
+        }
+        return response;
+    }
+}
@@ -1,48 +1,108 @@
 package devbitsve.infraestructura.rest.recurso;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import devbitsve.aplicacion.servicio.ServicioEmpleado;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.excepcion.DocumentoDuplicadoException;
+import devbitsve.dominio.modelo.CampoEmpleado;
 import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EstadisticaPlantilla;
 import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.dominio.modelo.Pagina;
+import devbitsve.dominio.modelo.ResultadoActualizacionMasiva;
+import devbitsve.dominio.modelo.ResultadoCreacion;
+import devbitsve.dominio.modelo.SugerenciaEmpleado;
+import devbitsve.dominio.modelo.VistaEmpleado;
 import devbitsve.infraestructura.rest.dto.*;
 import devbitsve.infraestructura.rest.mapper.EmpleadoMapper;
+import io.quarkus.arc.properties.IfBuildProperty;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Recurso REST para gestión de empleados
+ * Recurso REST para gestión de empleados.
+ * Es el recurso por defecto (empleados.api.modo=bloqueante); cada petición
+ * ocupa un hilo worker durante los accesos a MongoDB. En modo hilos-virtuales
+ * se publica a través de {@link EmpleadoRecursoHilosVirtuales}.
+ * Las consultas por ID y los listados admiten peticiones condicionales
+ * (If-None-Match, If-Modified-Since) con los validadores de {@link ValidadoresHttp},
+ * y las modificaciones de un empleado admiten If-Match.
  */
 @Path("/api/empleados")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Empleados", description = "Operaciones de gestión de empleados")
+@IfBuildProperty(name = "empleados.api.modo", stringValue = "bloqueante", enableIfMissing = true)
 public class EmpleadoRecurso {
 
+    private static final String LIMITE_POR_DEFECTO = "50";
+    private static final String LIMITE_BUSQUEDA_POR_DEFECTO = "10";
+    private static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    private static final int SEPARADOR_NDJSON = '\n';
+    private static final String DESCRIPCION_CAMPOS = "Campos a incluir, separados por comas (por ejemplo informacionPersonal.nombre,cargoActual.departamento,estado). Se aceptan grupos como cargoActual. Sin este parámetro se devuelve el empleado completo";
+
     @Inject
     ServicioEmpleado servicioEmpleado;
 
     @Inject
     EmpleadoMapper mapper;
 
+    @Inject
+    ObjectMapper escritorJson;
+
+    /**
+     * Número máximo de empleados por lote; el cuerpo NDJSON deja de leerse al
+     * superarlo
+     */
+    @ConfigProperty(name = "empleados.lote.maximo", defaultValue = "10000")
+    int maximoLote;
+
     @POST
     @Operation(summary = "Crear un nuevo empleado", description = "Crea un nuevo empleado en el sistema")
     @APIResponse(responseCode = "201", description = "Empleado creado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "400", description = "Datos inválidos o empleado ya existe")
     public Response crearEmpleado(CrearEmpleadoRequest request) {
         try {
+            validarRequerido(request, "Solicitud de creación");
             Empleado empleado = servicioEmpleado.crearEmpleado(
-                    mapper.toInformacionPersonal(request.informacionPersonal),
-                    mapper.toInformacionContacto(request.informacionContacto),
-                    mapper.toInformacionLaboral(request.cargoInicial));
+                    mapper.toInformacionPersonal(validarRequerido(request.informacionPersonal, "Información personal")),
+                    mapper.toInformacionContacto(validarRequerido(request.informacionContacto, "Información de contacto")),
+                    mapper.toInformacionLaboral(validarRequerido(request.cargoInicial, "Cargo inicial")));
 
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
             return Response.status(Response.Status.CREATED).entity(response).build();
@@ -53,36 +113,213 @@ public class EmpleadoRecurso {
         }
     }
 
+    @POST
+    @Path("/lote")
+    @Operation(summary = "Crear empleados por lote", description = "Crea un arreglo de empleados con inserciones no ordenadas por bloques. Un empleado inválido o con documento duplicado no impide crear el resto")
+    @APIResponse(responseCode = "200", description = "Lote procesado; revise el resultado de cada empleado", content = @Content(schema = @Schema(implementation = ResultadoLoteResponse.class)))
+    @APIResponse(responseCode = "400", description = "Lote vacío o demasiado grande")
+    public Response crearLote(List<CrearEmpleadoRequest> solicitudes) {
+        if (solicitudes == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("El lote es requerido"))
+                    .build();
+        }
+        return procesarLote(solicitudes.stream()
+                .map(this::toSolicitudCreacion)
+                .collect(Collectors.toList()));
+    }
+
+    @POST
+    @Path("/lote")
+    @Consumes(MEDIA_TYPE_NDJSON)
+    @Operation(summary = "Crear empleados por lote (NDJSON)", description = "Igual que la creación por lote, pero recibe una solicitud de creación por línea")
+    @APIResponse(responseCode = "200", description = "Lote procesado; revise el resultado de cada empleado", content = @Content(schema = @Schema(implementation = ResultadoLoteResponse.class)))
+    @APIResponse(responseCode = "400", description = "Lote demasiado grande")
+    public Response crearLoteNdjson(InputStream cuerpo) throws IOException {
+        List<Supplier<Empleado>> solicitudes = new ArrayList<>();
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(cuerpo, StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (!linea.isBlank()) {
+                    if (solicitudes.size() == maximoLote) {
+                        // No se sigue leyendo (ni acumulando) un cuerpo que ya excede el lote
+                        return Response.status(Response.Status.BAD_REQUEST)
+                                .entity(new ErrorResponse("El lote excede el máximo de " + maximoLote + " empleados"))
+                                .build();
+                    }
+                    String json = linea;
+                    // La lectura del JSON se hace al validar, así un JSON inválido
+                    // solo falla su propia línea
+                    solicitudes.add(() -> toSolicitudCreacion(leerSolicitud(json)).get());
+                }
+            }
+        }
+        return procesarLote(solicitudes);
+    }
+
     @GET
-    @Operation(summary = "Obtener todos los empleados", description = "Retorna la lista completa de empleados")
-    @APIResponse(responseCode = "200", description = "Lista de empleados obtenida exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
-    public Response obtenerTodosLosEmpleados() {
-        List<Empleado> empleados = servicioEmpleado.obtenerTodosLosEmpleados();
-        List<EmpleadoResponse> response = mapper.toEmpleadoResponseList(empleados);
-        return Response.ok(response).build();
+    @Operation(summary = "Obtener empleados", description = "Retorna una página de empleados ordenada por ID. Use siguienteCursor en despuesDe para pedir la página siguiente")
+    @APIResponse(responseCode = "200", description = "Página de empleados obtenida exitosamente", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "304", description = "La página no cambió desde el ETag indicado")
+    @APIResponse(responseCode = "400", description = "Límite o cursor inválido")
+    public Response obtenerTodosLosEmpleados(
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos,
+            @Context Request request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String siNoCoincide) {
+        return responderPagina(request, siNoCoincide, campos, FiltroEmpleados.todos(), despuesDe, limite,
+                () -> servicioEmpleado.obtenerEmpleados(despuesDe, limite));
     }
 
     @GET
     @Path("/{id}")
     @Operation(summary = "Obtener empleado por ID", description = "Busca un empleado por su identificador único")
     @APIResponse(responseCode = "200", description = "Empleado encontrado", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "304", description = "El empleado no cambió desde el ETag o la fecha indicados")
+    @APIResponse(responseCode = "400", description = "Campo desconocido")
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
     public Response obtenerEmpleadoPorId(
-            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos,
+            @Context Request request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String siNoCoincide,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String siModificadoDesde) {
+        Set<CampoEmpleado> seleccion;
+        try {
+            seleccion = mapper.toCampos(campos);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+
+        Optional<MarcaActualizacion> marca = Optional.empty();
+        if (siNoCoincide != null || siModificadoDesde != null) {
+            // Solo se lee la marca de actualización: si el cliente tiene la versión
+            // vigente no se carga, mapea ni serializa el empleado
+            marca = servicioEmpleado.buscarMarcaActualizacion(id);
+            if (marca.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            Response.ResponseBuilder noModificado = evaluarPrecondiciones(request, marca.get());
+            if (noModificado != null) {
+                return noModificado.build();
+            }
+        }
+
+        if (seleccion != null) {
+            // Solo se leen y serializan los campos pedidos
+            return servicioEmpleado.buscarVistaPorId(id, seleccion)
+                    .map(vista -> conValidadores(Response.ok(mapper.toVistaResponse(vista)), vista.getMarca()))
+                    .orElse(Response.status(Response.Status.NOT_FOUND))
+                    .build();
+        }
+
+        if (marca.isPresent()) {
+            // La marca ya se leyó de MongoDB: si la copia en caché es de otra
+            // versión (la modificó otra réplica) se relee, sin otra consulta previa
+            MarcaActualizacion vigente = marca.get();
+            return servicioEmpleado.buscarEmpleadoVigente(id, vigente)
+                    .map(empleado -> conValidadores(Response.ok(mapper.toEmpleadoResponse(empleado)), vigente))
+                    .orElse(Response.status(Response.Status.NOT_FOUND))
+                    .build();
+        }
+
+        // Sin condiciones se responde desde la caché, sin consultar MongoDB
         return servicioEmpleado.buscarEmpleadoPorId(id)
-                .map(mapper::toEmpleadoResponse)
-                .map(Response::ok)
+                .map(empleado -> conValidadores(
+                        Response.ok(mapper.toEmpleadoResponse(empleado)),
+                        MarcaActualizacion.de(empleado)))
                 .orElse(Response.status(Response.Status.NOT_FOUND))
                 .build();
     }
 
+    @GET
+    @Path("/{id}/historial")
+    @Operation(summary = "Obtener historial de cargos", description = "Devuelve los cargos anteriores del empleado, del más reciente al más antiguo, paginando por cursor")
+    @APIResponse(responseCode = "200", description = "Página del historial de cargos", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "400", description = "Límite o cursor inválido")
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    public Response obtenerHistorial(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "Número máximo de cargos por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe) {
+        try {
+            return servicioEmpleado.obtenerHistorialCargos(id, despuesDe, limite)
+                    .map(mapper::toPaginaHistorialResponse)
+                    .map(Response::ok)
+                    .orElse(Response.status(Response.Status.NOT_FOUND))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/buscar")
+    @Operation(summary = "Buscar empleados por nombre", description = "Busca por el inicio de las palabras del nombre, los apellidos o el email, sin distinguir mayúsculas ni acentos, y ordena por relevancia")
+    @APIResponse(responseCode = "200", description = "Empleados encontrados, del más al menos relevante", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class, type = SchemaType.ARRAY)))
+    @APIResponse(responseCode = "400", description = "Texto o límite inválido")
+    public Response buscar(
+            @Parameter(description = "Texto a buscar, por ejemplo \"ana rod\"", required = true) @QueryParam("q") String texto,
+            @Parameter(description = "Número máximo de empleados") @QueryParam("limite") @DefaultValue(LIMITE_BUSQUEDA_POR_DEFECTO) int limite) {
+        try {
+            List<Empleado> empleados = servicioEmpleado.buscarEmpleados(texto, limite);
+            return Response.ok(mapper.toEmpleadoResponseList(empleados)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @GET
+    @Path("/autocompletar")
+    @Operation(summary = "Autocompletar nombres de empleados", description = "Sugiere empleados por el inicio de las palabras de su nombre completo desde un índice en memoria, sin consultar MongoDB")
+    @APIResponse(responseCode = "200", description = "Sugerencias, de la más a la menos relevante", content = @Content(schema = @Schema(implementation = SugerenciaEmpleadoResponse.class, type = SchemaType.ARRAY)))
+    @APIResponse(responseCode = "400", description = "Texto o límite inválido")
+    public Response autocompletar(
+            @Parameter(description = "Texto escrito hasta ahora, por ejemplo \"ana ro\"", required = true) @QueryParam("q") String texto,
+            @Parameter(description = "Número máximo de sugerencias") @QueryParam("limite") @DefaultValue(LIMITE_BUSQUEDA_POR_DEFECTO) int limite) {
+        try {
+            List<SugerenciaEmpleado> sugerencias = servicioEmpleado.autocompletar(texto, limite);
+            return Response.ok(mapper.toSugerenciaEmpleadoResponseList(sugerencias)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
     @GET
     @Path("/documento/{documentoIdentidad}")
     @Operation(summary = "Buscar empleado por documento", description = "Busca un empleado por su documento de identidad")
     @APIResponse(responseCode = "200", description = "Empleado encontrado", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "400", description = "Campo desconocido")
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
     public Response buscarPorDocumento(
-            @Parameter(description = "Documento de identidad", required = true) @PathParam("documentoIdentidad") String documentoIdentidad) {
+            @Parameter(description = "Documento de identidad", required = true) @PathParam("documentoIdentidad") String documentoIdentidad,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos) {
+        Set<CampoEmpleado> seleccion;
+        try {
+            seleccion = mapper.toCampos(campos);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+
+        if (seleccion != null) {
+            return servicioEmpleado.buscarVistaPorDocumento(documentoIdentidad, seleccion)
+                    .map(mapper::toVistaResponse)
+                    .map(Response::ok)
+                    .orElse(Response.status(Response.Status.NOT_FOUND))
+                    .build();
+        }
+
         return servicioEmpleado.buscarEmpleadoPorDocumento(documentoIdentidad)
                 .map(mapper::toEmpleadoResponse)
                 .map(Response::ok)
@@ -92,31 +329,143 @@ public class EmpleadoRecurso {
 
     @GET
     @Path("/estado/{estado}")
-    @Operation(summary = "Obtener empleados por estado", description = "Filtra empleados por su estado actual")
-    @APIResponse(responseCode = "200", description = "Lista de empleados filtrada por estado", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @Operation(summary = "Obtener empleados por estado", description = "Filtra empleados por su estado actual, paginando por cursor")
+    @APIResponse(responseCode = "200", description = "Página de empleados filtrada por estado", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "304", description = "La página no cambió desde el ETag indicado")
+    @APIResponse(responseCode = "400", description = "Estado, límite o cursor inválido")
     public Response obtenerPorEstado(
-            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado) {
+            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado,
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos,
+            @Context Request request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String siNoCoincide) {
+        EstadoEmpleado estadoEmpleado;
         try {
-            EstadoEmpleado estadoEmpleado = EstadoEmpleado.valueOf(estado.toUpperCase());
-            List<Empleado> empleados = servicioEmpleado.obtenerEmpleadosPorEstado(estadoEmpleado);
-            List<EmpleadoResponse> response = mapper.toEmpleadoResponseList(empleados);
-            return Response.ok(response).build();
+            estadoEmpleado = EstadoEmpleado.valueOf(estado.toUpperCase());
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse("Estado inválido: " + estado))
                     .build();
         }
+
+        return responderPagina(request, siNoCoincide, campos, FiltroEmpleados.porEstado(estadoEmpleado), despuesDe, limite,
+                () -> servicioEmpleado.obtenerEmpleadosPorEstado(estadoEmpleado, despuesDe, limite));
     }
 
     @GET
     @Path("/departamento/{departamento}")
-    @Operation(summary = "Obtener empleados por departamento", description = "Filtra empleados por departamento")
-    @APIResponse(responseCode = "200", description = "Lista de empleados filtrada por departamento", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @Operation(summary = "Obtener empleados por departamento", description = "Filtra empleados por departamento, paginando por cursor")
+    @APIResponse(responseCode = "200", description = "Página de empleados filtrada por departamento", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "304", description = "La página no cambió desde el ETag indicado")
+    @APIResponse(responseCode = "400", description = "Límite o cursor inválido")
     public Response obtenerPorDepartamento(
-            @Parameter(description = "Nombre del departamento", required = true) @PathParam("departamento") String departamento) {
-        List<Empleado> empleados = servicioEmpleado.obtenerEmpleadosPorDepartamento(departamento);
-        List<EmpleadoResponse> response = mapper.toEmpleadoResponseList(empleados);
-        return Response.ok(response).build();
+            @Parameter(description = "Nombre del departamento", required = true) @PathParam("departamento") String departamento,
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos,
+            @Context Request request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String siNoCoincide) {
+        return responderPagina(request, siNoCoincide, campos, FiltroEmpleados.porDepartamento(departamento), despuesDe,
+                limite,
+                () -> servicioEmpleado.obtenerEmpleadosPorDepartamento(departamento, despuesDe, limite));
+    }
+
+    @GET
+    @Path("/filtro")
+    @Operation(summary = "Filtrar empleados", description = "Combina estado, departamento, cargo y rangos de salario, fecha de inicio del cargo y fecha de nacimiento, paginando por cursor. Con un rango la página se ordena por ese campo y luego por ID (salario antes que fecha de inicio y que fecha de nacimiento); sin rangos, por ID")
+    @APIResponse(responseCode = "200", description = "Página de empleados que cumplen los criterios", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "304", description = "La página no cambió desde el ETag indicado")
+    @APIResponse(responseCode = "400", description = "Criterio, límite o cursor inválido")
+    public Response obtenerFiltrados(
+            @BeanParam CriteriosEmpleadosDTO criterios,
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos,
+            @Context Request request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String siNoCoincide) {
+        FiltroEmpleados filtro;
+        try {
+            filtro = mapper.toFiltroEmpleados(criterios);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+
+        return responderPagina(request, siNoCoincide, campos, filtro, despuesDe, limite,
+                () -> servicioEmpleado.obtenerEmpleadosFiltrados(filtro, despuesDe, limite));
+    }
+
+    @GET
+    @Path("/estadisticas")
+    @Operation(summary = "Estadísticas de la plantilla", description = "Cantidad de empleados y total, promedio, mínimo y máximo de salarios por departamento y estado, calculados en MongoDB")
+    @APIResponse(responseCode = "200", description = "Una estadística por departamento y estado", content = @Content(schema = @Schema(implementation = EstadisticaPlantillaResponse.class, type = SchemaType.ARRAY)))
+    @APIResponse(responseCode = "400", description = "Estado inválido")
+    public Response obtenerEstadisticas(
+            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)") @QueryParam("estado") String estado,
+            @Parameter(description = "Nombre del departamento") @QueryParam("departamento") String departamento) {
+        FiltroEmpleados filtro;
+        try {
+            EstadoEmpleado estadoEmpleado = estado != null ? EstadoEmpleado.valueOf(estado.toUpperCase()) : null;
+            filtro = FiltroEmpleados.de(estadoEmpleado, departamento);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("Estado inválido: " + estado))
+                    .build();
+        }
+
+        List<EstadisticaPlantilla> estadisticas = servicioEmpleado.obtenerEstadisticas(filtro);
+        return Response.ok(mapper.toEstadisticaPlantillaResponseList(estadisticas)).build();
+    }
+
+    @GET
+    @Path("/contadores")
+    @Operation(summary = "Contadores de la plantilla", description = "Cantidad de empleados por departamento y estado desde contadores en memoria, sin consultar MongoDB. Se reconcilian periódicamente con la base de datos")
+    @APIResponse(responseCode = "200", description = "Cantidad de empleados por departamento y estado", content = @Content(schema = @Schema(implementation = ConteoPlantillaResponse.class)))
+    public Response obtenerContadores() {
+        return Response.ok(mapper.toConteoPlantillaResponse(servicioEmpleado.obtenerContadores())).build();
+    }
+
+    @GET
+    @Path("/exportar")
+    @Produces(MEDIA_TYPE_NDJSON)
+    @Operation(summary = "Exportar empleados", description = "Transmite los empleados como NDJSON (un documento JSON por línea) directamente desde el cursor de MongoDB, con memoria acotada")
+    @APIResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MEDIA_TYPE_NDJSON, schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "400", description = "Estado o campo inválido")
+    public Response exportar(
+            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)") @QueryParam("estado") String estado,
+            @Parameter(description = "Nombre del departamento") @QueryParam("departamento") String departamento,
+            @Parameter(description = DESCRIPCION_CAMPOS) @QueryParam("campos") String campos) {
+        Set<CampoEmpleado> seleccion;
+        try {
+            seleccion = mapper.toCampos(campos);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+
+        FiltroEmpleados filtro;
+        try {
+            EstadoEmpleado estadoEmpleado = estado != null ? EstadoEmpleado.valueOf(estado.toUpperCase()) : null;
+            filtro = FiltroEmpleados.de(estadoEmpleado, departamento);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .type(MediaType.APPLICATION_JSON)
+                    .entity(new ErrorResponse("Estado inválido: " + estado))
+                    .build();
+        }
+
+        // El cursor se abre al empezar a escribir y cada empleado se serializa y
+        // escribe por separado; la escritura bloquea si el cliente lee más lento
+        StreamingOutput salida = seleccion != null
+                ? output -> escribirNdjson(output, servicioEmpleado.exportarVistas(filtro, seleccion),
+                        mapper::toVistaResponse)
+                : output -> escribirNdjson(output, servicioEmpleado.exportarEmpleados(filtro),
+                        mapper::toEmpleadoResponse);
+        return Response.ok(salida, MEDIA_TYPE_NDJSON).build();
     }
 
     @PUT
@@ -124,15 +473,25 @@ public class EmpleadoRecurso {
     @Operation(summary = "Actualizar información personal", description = "Actualiza la información personal de un empleado")
     @APIResponse(responseCode = "200", description = "Información actualizada exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación o el documento de identidad ya pertenece a otro empleado")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response actualizarInformacionPersonal(
             @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
             InformacionPersonalDTO dto) {
         try {
             Empleado empleado = servicioEmpleado.actualizarInformacionPersonal(
                     id,
-                    mapper.toInformacionPersonal(dto));
+                    mapper.toInformacionPersonal(dto),
+                    ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
+        } catch (DocumentoDuplicadoException e) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -145,15 +504,21 @@ public class EmpleadoRecurso {
     @Operation(summary = "Actualizar información de contacto", description = "Actualiza la información de contacto de un empleado")
     @APIResponse(responseCode = "200", description = "Información actualizada exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response actualizarInformacionContacto(
             @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
             InformacionContactoDTO dto) {
         try {
             Empleado empleado = servicioEmpleado.actualizarInformacionContacto(
                     id,
-                    mapper.toInformacionContacto(dto));
+                    mapper.toInformacionContacto(dto),
+                    ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -166,15 +531,21 @@ public class EmpleadoRecurso {
     @Operation(summary = "Cambiar cargo del empleado", description = "Cambia el cargo actual del empleado y registra el cambio en el historial")
     @APIResponse(responseCode = "200", description = "Cargo cambiado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response cambiarCargo(
             @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
             InformacionLaboralDTO dto) {
         try {
             Empleado empleado = servicioEmpleado.cambiarCargo(
                     id,
-                    mapper.toInformacionLaboral(dto));
+                    mapper.toInformacionLaboral(dto),
+                    ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -187,15 +558,40 @@ public class EmpleadoRecurso {
     @Operation(summary = "Cambiar estado del empleado", description = "Cambia el estado del empleado")
     @APIResponse(responseCode = "200", description = "Estado cambiado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     @APIResponse(responseCode = "400", description = "Estado inválido")
     public Response cambiarEstado(
             @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
-            @Parameter(description = "Nuevo estado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado) {
+            @Parameter(description = "Nuevo estado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
         try {
             EstadoEmpleado nuevoEstado = EstadoEmpleado.valueOf(estado.toUpperCase());
-            Empleado empleado = servicioEmpleado.cambiarEstado(id, nuevoEstado);
+            Empleado empleado = servicioEmpleado.cambiarEstado(id, nuevoEstado, ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    @PUT
+    @Path("/estado/{estado}")
+    @Operation(summary = "Cambiar estado de forma masiva", description = "Cambia el estado de todos los empleados que cumplen el filtro (IDs, estado actual y/o departamento) con una única actualización en MongoDB")
+    @APIResponse(responseCode = "200", description = "Cambio aplicado", content = @Content(schema = @Schema(implementation = ResultadoActualizacionMasivaResponse.class)))
+    @APIResponse(responseCode = "400", description = "Estado, ID o filtro inválido")
+    public Response cambiarEstadoMasivo(
+            @Parameter(description = "Nuevo estado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado,
+            FiltroEmpleadosDTO filtro) {
+        try {
+            EstadoEmpleado nuevoEstado = EstadoEmpleado.valueOf(estado.toUpperCase());
+            ResultadoActualizacionMasiva resultado = servicioEmpleado.cambiarEstadoMasivo(
+                    mapper.toFiltroEmpleados(filtro), nuevoEstado);
+            return Response.ok(mapper.toResultadoActualizacionMasivaResponse(resultado)).build();
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -208,12 +604,17 @@ public class EmpleadoRecurso {
     @Operation(summary = "Desactivar empleado", description = "Cambia el estado del empleado a INACTIVO")
     @APIResponse(responseCode = "200", description = "Empleado desactivado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response desactivar(
-            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
         try {
-            Empleado empleado = servicioEmpleado.desactivarEmpleado(id);
+            Empleado empleado = servicioEmpleado.desactivarEmpleado(id, ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -226,12 +627,17 @@ public class EmpleadoRecurso {
     @Operation(summary = "Reactivar empleado", description = "Cambia el estado del empleado a ACTIVO")
     @APIResponse(responseCode = "200", description = "Empleado reactivado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response reactivar(
-            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
         try {
-            Empleado empleado = servicioEmpleado.reactivarEmpleado(id);
+            Empleado empleado = servicioEmpleado.reactivarEmpleado(id, ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -244,12 +650,17 @@ public class EmpleadoRecurso {
     @Operation(summary = "Poner empleado en licencia", description = "Cambia el estado del empleado a LICENCIA")
     @APIResponse(responseCode = "200", description = "Empleado puesto en licencia exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
     @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
     public Response ponerEnLicencia(
-            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
         try {
-            Empleado empleado = servicioEmpleado.ponerEmpleadoEnLicencia(id);
+            Empleado empleado = servicioEmpleado.ponerEmpleadoEnLicencia(id, ValidadoresHttp.versionEsperada(siCoincide));
             EmpleadoResponse response = mapper.toEmpleadoResponse(empleado);
-            return Response.ok(response).build();
+            return conValidadores(Response.ok(response), MarcaActualizacion.de(empleado)).build();
+        } catch (ConflictoVersionException e) {
+            return conflicto(siCoincide, e);
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity(new ErrorResponse(e.getMessage()))
@@ -272,6 +683,127 @@ public class EmpleadoRecurso {
         }
     }
 
+    /**
+     * Responde una página de empleados (completos o solo con los campos
+     * pedidos) con su ETag. Si el cliente envía If-None-Match, primero compara
+     * contra las marcas de la página y responde 304 sin cargar los empleados
+     * cuando nada cambió
+     */
+    private Response responderPagina(Request request, String siNoCoincide, String campos, FiltroEmpleados filtro,
+            String despuesDe, int limite, Supplier<Pagina<Empleado>> consulta) {
+        try {
+            Set<CampoEmpleado> seleccion = mapper.toCampos(campos);
+            if (siNoCoincide != null) {
+                EntityTag etiqueta = ValidadoresHttp.etiquetaPagina(
+                        servicioEmpleado.obtenerMarcasPagina(filtro, despuesDe, limite));
+                Response.ResponseBuilder noModificado = request.evaluatePreconditions(etiqueta);
+                if (noModificado != null) {
+                    return noModificado.tag(etiqueta).build();
+                }
+            }
+
+            if (seleccion != null) {
+                Pagina<VistaEmpleado> vistas = servicioEmpleado.obtenerVistas(filtro, despuesDe, limite, seleccion);
+                return Response.ok(mapper.toPaginaVistaResponse(vistas))
+                        .tag(ValidadoresHttp.etiquetaPagina(vistas.map(VistaEmpleado::getMarca)))
+                        .build();
+            }
+
+            Pagina<Empleado> pagina = consulta.get();
+            return Response.ok(mapper.toPaginaResponse(pagina))
+                    .tag(ValidadoresHttp.etiquetaPagina(pagina.map(MarcaActualizacion::de)))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    /**
+     * Evalúa If-None-Match e If-Modified-Since contra la marca del empleado.
+     * Devuelve la respuesta 304 a enviar, o null si hay que responder completo
+     */
+    private Response.ResponseBuilder evaluarPrecondiciones(Request request, MarcaActualizacion marca) {
+        EntityTag etiqueta = ValidadoresHttp.etiqueta(marca);
+        Date ultimaModificacion = ValidadoresHttp.ultimaModificacion(marca);
+        Response.ResponseBuilder noModificado = ultimaModificacion != null
+                ? request.evaluatePreconditions(ultimaModificacion, etiqueta)
+                : request.evaluatePreconditions(etiqueta);
+        return noModificado != null ? conValidadores(noModificado, marca) : null;
+    }
+
+    /**
+     * Respuesta a una escritura sobre una versión que ya no es la vigente: 412
+     * si el cliente la exigió con If-Match, 409 si el conflicto surgió con otra
+     * escritura concurrente
+     */
+    private Response conflicto(String siCoincide, ConflictoVersionException e) {
+        Response.Status estado = ValidadoresHttp.versionEsperada(siCoincide) != null
+                ? Response.Status.PRECONDITION_FAILED
+                : Response.Status.CONFLICT;
+        return Response.status(estado)
+                .entity(new ErrorResponse(e.getMessage()))
+                .build();
+    }
+
+    private Response.ResponseBuilder conValidadores(Response.ResponseBuilder respuesta, MarcaActualizacion marca) {
+        return respuesta
+                .tag(ValidadoresHttp.etiqueta(marca))
+                .lastModified(ValidadoresHttp.ultimaModificacion(marca));
+    }
+
+    /**
+     * Escribe cada elemento como una línea JSON a medida que se lee, y cierra el
+     * stream (y con él el cursor de MongoDB) al terminar
+     */
+    private <T> void escribirNdjson(OutputStream output, Stream<T> elementos, Function<T, ?> toResponse)
+            throws IOException {
+        try (elementos) {
+            Iterator<T> iterador = elementos.iterator();
+            while (iterador.hasNext()) {
+                output.write(escritorJson.writeValueAsBytes(toResponse.apply(iterador.next())));
+                output.write(SEPARADOR_NDJSON);
+            }
+        }
+    }
+
+    private Response procesarLote(List<Supplier<Empleado>> solicitudes) {
+        try {
+            List<ResultadoCreacion> resultados = servicioEmpleado.crearEmpleados(solicitudes);
+            return Response.ok(mapper.toResultadoLoteResponse(resultados)).build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse(e.getMessage()))
+                    .build();
+        }
+    }
+
+    private Supplier<Empleado> toSolicitudCreacion(CrearEmpleadoRequest request) {
+        return () -> {
+            validarRequerido(request, "Solicitud de creación");
+            return new Empleado(
+                    mapper.toInformacionPersonal(validarRequerido(request.informacionPersonal, "Información personal")),
+                    mapper.toInformacionContacto(validarRequerido(request.informacionContacto, "Información de contacto")),
+                    mapper.toInformacionLaboral(validarRequerido(request.cargoInicial, "Cargo inicial")));
+        };
+    }
+
+    private static <T> T validarRequerido(T valor, String nombreCampo) {
+        if (valor == null) {
+            throw new IllegalArgumentException(nombreCampo + " es requerido");
+        }
+        return valor;
+    }
+
+    private CrearEmpleadoRequest leerSolicitud(String json) {
+        try {
+            return escritorJson.readValue(json, CrearEmpleadoRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
     /**
      * DTO para respuestas de error
      */
@@ -0,0 +1,25 @@
+package devbitsve.infraestructura.rest.recurso;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * Recurso REST de empleados ejecutado sobre hilos virtuales.
+ * Expone los mismos endpoints que {@link EmpleadoRecurso}, pero cada petición
+ * corre en un hilo virtual en lugar de ocupar un hilo worker, de modo que la
+ * espera a MongoDB no limita la concurrencia al tamaño del pool. Se activa en
+ * tiempo de build con empleados.api.modo=hilos-virtuales.
+ */
+@Path("/api/empleados")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Empleados", description = "Operaciones de gestión de empleados")
+@RunOnVirtualThread
+@IfBuildProperty(name = "empleados.api.modo", stringValue = "hilos-virtuales")
+public class EmpleadoRecursoHilosVirtuales extends EmpleadoRecurso {
+}
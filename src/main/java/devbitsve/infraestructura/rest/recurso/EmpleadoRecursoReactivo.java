@@ -0,0 +1,320 @@
+package devbitsve.infraestructura.rest.recurso;
+
+import devbitsve.aplicacion.servicio.ServicioEmpleadoReactivo;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
+import devbitsve.dominio.excepcion.DocumentoDuplicadoException;
+import devbitsve.dominio.modelo.Empleado;
+import devbitsve.dominio.modelo.EstadoEmpleado;
+import devbitsve.dominio.modelo.FiltroEmpleados;
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.infraestructura.rest.dto.*;
+import devbitsve.infraestructura.rest.mapper.EmpleadoMapper;
+import devbitsve.infraestructura.rest.recurso.EmpleadoRecurso.ErrorResponse;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+/**
+ * Recurso REST reactivo para gestión de empleados.
+ * Expone los endpoints principales de {@link EmpleadoRecurso} sobre el event
+ * loop. Se activa en tiempo de build con empleados.api.modo=reactivo y en ese
+ * caso reemplaza al recurso bloqueante.
+ */
+@Path("/api/empleados")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Empleados", description = "Operaciones de gestión de empleados")
+@IfBuildProperty(name = "empleados.api.modo", stringValue = "reactivo")
+public class EmpleadoRecursoReactivo {
+
+    private static final String LIMITE_POR_DEFECTO = "50";
+    private static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+
+    @Inject
+    ServicioEmpleadoReactivo servicioEmpleado;
+
+    @Inject
+    EmpleadoMapper mapper;
+
+    @POST
+    @Operation(summary = "Crear un nuevo empleado", description = "Crea un nuevo empleado en el sistema")
+    @APIResponse(responseCode = "201", description = "Empleado creado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "400", description = "Datos inválidos o empleado ya existe")
+    public Uni<Response> crearEmpleado(CrearEmpleadoRequest request) {
+        return Uni.createFrom().deferred(() -> servicioEmpleado.crearEmpleado(
+                mapper.toInformacionPersonal(request.informacionPersonal),
+                mapper.toInformacionContacto(request.informacionContacto),
+                mapper.toInformacionLaboral(request.cargoInicial)))
+                .map(empleado -> Response.status(Response.Status.CREATED)
+                        .entity(mapper.toEmpleadoResponse(empleado))
+                        .build())
+                .onFailure(IllegalArgumentException.class)
+                .recoverWithItem(e -> error(Response.Status.BAD_REQUEST, e.getMessage()));
+    }
+
+    @GET
+    @Operation(summary = "Obtener empleados", description = "Retorna una página de empleados ordenada por ID. Use siguienteCursor en despuesDe para pedir la página siguiente")
+    @APIResponse(responseCode = "200", description = "Página de empleados obtenida exitosamente", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "400", description = "Límite o cursor inválido")
+    public Uni<Response> obtenerTodosLosEmpleados(
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe) {
+        return pagina(FiltroEmpleados.todos(), despuesDe, limite);
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Obtener empleado por ID", description = "Busca un empleado por su identificador único")
+    @APIResponse(responseCode = "200", description = "Empleado encontrado", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    public Uni<Response> obtenerEmpleadoPorId(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+        return servicioEmpleado.buscarEmpleadoPorId(id)
+                .map(empleado -> empleado
+                        .map(encontrado -> conValidadores(Response.ok(mapper.toEmpleadoResponse(encontrado)),
+                                MarcaActualizacion.de(encontrado)))
+                        .orElse(Response.status(Response.Status.NOT_FOUND))
+                        .build());
+    }
+
+    @GET
+    @Path("/documento/{documentoIdentidad}")
+    @Operation(summary = "Buscar empleado por documento", description = "Busca un empleado por su documento de identidad")
+    @APIResponse(responseCode = "200", description = "Empleado encontrado", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    public Uni<Response> buscarPorDocumento(
+            @Parameter(description = "Documento de identidad", required = true) @PathParam("documentoIdentidad") String documentoIdentidad) {
+        return servicioEmpleado.buscarEmpleadoPorDocumento(documentoIdentidad)
+                .map(empleado -> empleado
+                        .map(mapper::toEmpleadoResponse)
+                        .map(Response::ok)
+                        .orElse(Response.status(Response.Status.NOT_FOUND))
+                        .build());
+    }
+
+    @GET
+    @Path("/estado/{estado}")
+    @Operation(summary = "Obtener empleados por estado", description = "Filtra empleados por su estado actual, paginando por cursor")
+    @APIResponse(responseCode = "200", description = "Página de empleados filtrada por estado", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "400", description = "Estado, límite o cursor inválido")
+    public Uni<Response> obtenerPorEstado(
+            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado,
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe) {
+        try {
+            EstadoEmpleado estadoEmpleado = EstadoEmpleado.valueOf(estado.toUpperCase());
+            return pagina(FiltroEmpleados.porEstado(estadoEmpleado), despuesDe, limite);
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().item(error(Response.Status.BAD_REQUEST, "Estado inválido: " + estado));
+        }
+    }
+
+    @GET
+    @Path("/departamento/{departamento}")
+    @Operation(summary = "Obtener empleados por departamento", description = "Filtra empleados por departamento, paginando por cursor")
+    @APIResponse(responseCode = "200", description = "Página de empleados filtrada por departamento", content = @Content(schema = @Schema(implementation = PaginaResponse.class)))
+    @APIResponse(responseCode = "400", description = "Límite o cursor inválido")
+    public Uni<Response> obtenerPorDepartamento(
+            @Parameter(description = "Nombre del departamento", required = true) @PathParam("departamento") String departamento,
+            @Parameter(description = "Número máximo de empleados por página") @QueryParam("limite") @DefaultValue(LIMITE_POR_DEFECTO) int limite,
+            @Parameter(description = "Cursor devuelto por la página anterior") @QueryParam("despuesDe") String despuesDe) {
+        return pagina(FiltroEmpleados.porDepartamento(departamento), despuesDe, limite);
+    }
+
+    @GET
+    @Path("/exportar")
+    @Produces(MEDIA_TYPE_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Exportar empleados", description = "Transmite los empleados como NDJSON a medida que el cliente los consume")
+    @APIResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MEDIA_TYPE_NDJSON, schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "400", description = "Estado inválido")
+    public Multi<EmpleadoResponse> exportar(
+            @Parameter(description = "Estado del empleado (ACTIVO, INACTIVO, LICENCIA)") @QueryParam("estado") String estado,
+            @Parameter(description = "Nombre del departamento") @QueryParam("departamento") String departamento) {
+        EstadoEmpleado estadoEmpleado;
+        try {
+            estadoEmpleado = estado != null ? EstadoEmpleado.valueOf(estado.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Estado inválido: " + estado);
+        }
+        return servicioEmpleado.exportarEmpleados(FiltroEmpleados.de(estadoEmpleado, departamento))
+                .map(mapper::toEmpleadoResponse);
+    }
+
+    @PUT
+    @Path("/{id}/informacion-personal")
+    @Operation(summary = "Actualizar información personal", description = "Actualiza la información personal de un empleado")
+    @APIResponse(responseCode = "200", description = "Información actualizada exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación o el documento de identidad ya pertenece a otro empleado")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> actualizarInformacionPersonal(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
+            InformacionPersonalDTO dto) {
+        return responder(Uni.createFrom().deferred(() -> servicioEmpleado.actualizarInformacionPersonal(
+                id, mapper.toInformacionPersonal(dto), ValidadoresHttp.versionEsperada(siCoincide))),
+                siCoincide, Response.Status.NOT_FOUND);
+    }
+
+    @PUT
+    @Path("/{id}/informacion-contacto")
+    @Operation(summary = "Actualizar información de contacto", description = "Actualiza la información de contacto de un empleado")
+    @APIResponse(responseCode = "200", description = "Información actualizada exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> actualizarInformacionContacto(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
+            InformacionContactoDTO dto) {
+        return responder(Uni.createFrom().deferred(() -> servicioEmpleado.actualizarInformacionContacto(
+                id, mapper.toInformacionContacto(dto), ValidadoresHttp.versionEsperada(siCoincide))),
+                siCoincide, Response.Status.NOT_FOUND);
+    }
+
+    @PUT
+    @Path("/{id}/cambiar-cargo")
+    @Operation(summary = "Cambiar cargo del empleado", description = "Cambia el cargo actual del empleado y registra el cambio en el historial")
+    @APIResponse(responseCode = "200", description = "Cargo cambiado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> cambiarCargo(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide,
+            InformacionLaboralDTO dto) {
+        return responder(Uni.createFrom().deferred(() -> servicioEmpleado.cambiarCargo(
+                id, mapper.toInformacionLaboral(dto), ValidadoresHttp.versionEsperada(siCoincide))),
+                siCoincide, Response.Status.NOT_FOUND);
+    }
+
+    @PUT
+    @Path("/{id}/estado/{estado}")
+    @Operation(summary = "Cambiar estado del empleado", description = "Cambia el estado del empleado")
+    @APIResponse(responseCode = "200", description = "Estado cambiado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    @APIResponse(responseCode = "400", description = "Estado inválido")
+    public Uni<Response> cambiarEstado(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "Nuevo estado (ACTIVO, INACTIVO, LICENCIA)", required = true) @PathParam("estado") String estado,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
+        EstadoEmpleado nuevoEstado;
+        try {
+            nuevoEstado = EstadoEmpleado.valueOf(estado.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Uni.createFrom().item(error(Response.Status.BAD_REQUEST, "Estado inválido: " + estado));
+        }
+        return cambiarEstado(id, nuevoEstado, siCoincide);
+    }
+
+    @PUT
+    @Path("/{id}/desactivar")
+    @Operation(summary = "Desactivar empleado", description = "Cambia el estado del empleado a INACTIVO")
+    @APIResponse(responseCode = "200", description = "Empleado desactivado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> desactivar(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
+        return cambiarEstado(id, EstadoEmpleado.INACTIVO, siCoincide);
+    }
+
+    @PUT
+    @Path("/{id}/reactivar")
+    @Operation(summary = "Reactivar empleado", description = "Cambia el estado del empleado a ACTIVO")
+    @APIResponse(responseCode = "200", description = "Empleado reactivado exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> reactivar(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
+        return cambiarEstado(id, EstadoEmpleado.ACTIVO, siCoincide);
+    }
+
+    @PUT
+    @Path("/{id}/licencia")
+    @Operation(summary = "Poner empleado en licencia", description = "Cambia el estado del empleado a LICENCIA")
+    @APIResponse(responseCode = "200", description = "Empleado puesto en licencia exitosamente", content = @Content(schema = @Schema(implementation = EmpleadoResponse.class)))
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    @APIResponse(responseCode = "409", description = "El empleado cambió durante la operación")
+    @APIResponse(responseCode = "412", description = "El ETag de If-Match ya no es el vigente")
+    public Uni<Response> ponerEnLicencia(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id,
+            @Parameter(description = "ETag del empleado leído; si ya no es el vigente se responde 412") @HeaderParam(HttpHeaders.IF_MATCH) String siCoincide) {
+        return cambiarEstado(id, EstadoEmpleado.LICENCIA, siCoincide);
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(summary = "Eliminar empleado", description = "Elimina un empleado del sistema")
+    @APIResponse(responseCode = "204", description = "Empleado eliminado exitosamente")
+    @APIResponse(responseCode = "404", description = "Empleado no encontrado")
+    public Uni<Response> eliminar(
+            @Parameter(description = "ID del empleado", required = true) @PathParam("id") String id) {
+        return servicioEmpleado.eliminarEmpleado(id)
+                .map(eliminado -> eliminado
+                        ? Response.noContent().build()
+                        : Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    private Uni<Response> pagina(FiltroEmpleados filtro, String despuesDe, int limite) {
+        return servicioEmpleado.obtenerEmpleados(filtro, despuesDe, limite)
+                .map(pagina -> Response.ok(mapper.toPaginaResponse(pagina)).build())
+                .onFailure(IllegalArgumentException.class)
+                .recoverWithItem(e -> error(Response.Status.BAD_REQUEST, e.getMessage()));
+    }
+
+    private Uni<Response> cambiarEstado(String id, EstadoEmpleado nuevoEstado, String siCoincide) {
+        return responder(Uni.createFrom().deferred(() -> servicioEmpleado.cambiarEstado(
+                id, nuevoEstado, ValidadoresHttp.versionEsperada(siCoincide))),
+                siCoincide, Response.Status.NOT_FOUND);
+    }
+
+    /**
+     * Responde con el empleado y sus validadores, o con el error de la
+     * operación: un conflicto de versión es 412 si la petición traía If-Match y
+     * 409 si no, como en {@link EmpleadoRecurso}
+     */
+    private Uni<Response> responder(Uni<Empleado> operacion, String siCoincide, Response.Status estadoError) {
+        return operacion
+                .map(empleado -> conValidadores(Response.ok(mapper.toEmpleadoResponse(empleado)),
+                        MarcaActualizacion.de(empleado)).build())
+                .onFailure(ConflictoVersionException.class)
+                .recoverWithItem(e -> error(ValidadoresHttp.versionEsperada(siCoincide) != null
+                        ? Response.Status.PRECONDITION_FAILED
+                        : Response.Status.CONFLICT, e.getMessage()))
+                .onFailure(DocumentoDuplicadoException.class)
+                .recoverWithItem(e -> error(Response.Status.CONFLICT, e.getMessage()))
+                .onFailure(IllegalArgumentException.class)
+                .recoverWithItem(e -> error(estadoError, e.getMessage()));
+    }
+
+    private Response.ResponseBuilder conValidadores(Response.ResponseBuilder respuesta, MarcaActualizacion marca) {
+        return respuesta
+                .tag(ValidadoresHttp.etiqueta(marca))
+                .lastModified(ValidadoresHttp.ultimaModificacion(marca));
+    }
+
+    private Response error(Response.Status estado, String mensaje) {
+        return Response.status(estado)
+                .entity(new ErrorResponse(mensaje))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package devbitsve.infraestructura.rest.recurso;
+
+import devbitsve.dominio.modelo.MarcaActualizacion;
+import devbitsve.dominio.modelo.Pagina;
+import jakarta.ws.rs.core.EntityTag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Validadores HTTP (ETag y Last-Modified) calculados a partir de las marcas de
+ * actualización. Se obtienen igual desde una proyección que desde el empleado
+ * cargado, así una petición condicional se responde con 304 sin cargarlo.
+ * El ETag de un empleado empieza por su versión, que es lo que se compara al
+ * recibir If-Match.
+ */
+final class ValidadoresHttp {
+
+    private static final int BYTES_ETAG_PAGINA = 16;
+    private static final char SEPARADOR_VERSION = '-';
+
+    /**
+     * Versión que ningún empleado tiene: un If-Match que no corresponde a un
+     * ETag de esta API nunca coincide
+     */
+    static final long VERSION_INEXISTENTE = -1L;
+
+    private ValidadoresHttp() {
+    }
+
+    /**
+     * ETag fuerte de un empleado (versión y fecha): cambia con cada actualización
+     */
+    static EntityTag etiqueta(MarcaActualizacion marca) {
+        return new EntityTag(marca.getVersion() + String.valueOf(SEPARADOR_VERSION)
+                + Long.toString(milisegundos(marca.getFechaActualizacion()), Character.MAX_RADIX));
+    }
+
+    /**
+     * Versión que exige un encabezado If-Match: null si no hay condición
+     * (ausente o *), o {@link #VERSION_INEXISTENTE} si no es un ETag fuerte de
+     * esta API
+     */
+    static Long versionEsperada(String siCoincide) {
+        if (siCoincide == null || siCoincide.isBlank() || siCoincide.trim().equals("*")) {
+            return null;
+        }
+
+        // Comparación fuerte: un ETag débil (W/) nunca coincide
+        String etiqueta = siCoincide.trim();
+        int separador = etiqueta.indexOf(SEPARADOR_VERSION);
+        if (!etiqueta.startsWith("\"") || separador < 2) {
+            return VERSION_INEXISTENTE;
+        }
+        try {
+            return Long.parseLong(etiqueta.substring(1, separador));
+        } catch (NumberFormatException e) {
+            return VERSION_INEXISTENTE;
+        }
+    }
+
+    /**
+     * Fecha de última modificación de un empleado, o null si no se conoce
+     */
+    static Date ultimaModificacion(MarcaActualizacion marca) {
+        LocalDateTime fecha = marca.getFechaActualizacion();
+        return fecha != null ? Date.from(fecha.atZone(ZoneId.systemDefault()).toInstant()) : null;
+    }
+
+    /**
+     * ETag fuerte de una página: resume qué empleados la forman, cuándo se
+     * actualizó cada uno y si hay página siguiente. Altas y bajas también lo
+     * cambian, por eso las páginas no usan Last-Modified
+     */
+    static EntityTag etiquetaPagina(Pagina<MarcaActualizacion> pagina) {
+        MessageDigest resumen = sha256();
+        for (MarcaActualizacion marca : pagina.getElementos()) {
+            resumen.update(marca.getId().getBytes(StandardCharsets.US_ASCII));
+            resumen.update((byte) ':');
+            resumen.update(Long.toString(milisegundos(marca.getFechaActualizacion())).getBytes(StandardCharsets.US_ASCII));
+            resumen.update((byte) ':');
+            resumen.update(Long.toString(marca.getVersion()).getBytes(StandardCharsets.US_ASCII));
+            resumen.update((byte) ';');
+        }
+        if (pagina.tieneSiguiente()) {
+            resumen.update(pagina.getSiguienteCursor().getBytes(StandardCharsets.US_ASCII));
+        }
+
+        byte[] bytes = resumen.digest();
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(bytes, BYTES_ETAG_PAGINA)));
+    }
+
+    private static long milisegundos(LocalDateTime fecha) {
+        // MongoDB guarda milisegundos: se trunca para que la fecha recién
+        // escrita y la leída después produzcan el mismo ETag
+        return fecha != null ? fecha.truncatedTo(ChronoUnit.MILLIS).toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package devbitsve.infraestructura.salud;
+
+import devbitsve.aplicacion.servicio.IndiceAutocompletado;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Chequeo de preparación (/q/health/ready) que mantiene la aplicación fuera
+ * de servicio hasta que el índice de autocompletado termina su primera
+ * construcción.
+ */
+@Readiness
+@ApplicationScoped
+public class AutocompletadoReadinessCheck implements HealthCheck {
+
+    @Inject
+    IndiceAutocompletado indiceAutocompletado;
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named("autocompletado")
+                .status(indiceAutocompletado.estaListo())
+                .withData("nombres", indiceAutocompletado.cantidad())
+                .build();
+    }
+}
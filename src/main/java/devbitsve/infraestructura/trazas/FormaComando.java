@@ -0,0 +1,78 @@
+package devbitsve.infraestructura.trazas;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Forma de un comando de MongoDB sin los valores que contiene: conserva los
+ * campos y operadores y reemplaza cada valor por "?". Es lo que se registra en
+ * las trazas, para reconocer la consulta y su índice sin exponer datos
+ * personales (documentos de identidad, emails, nombres). También es la forma
+ * que se muestra en el registro de consultas lentas.
+ */
+public final class FormaComando {
+
+    private static final BsonString VALOR = new BsonString("?");
+
+    /**
+     * Campos de control del driver, sin información sobre la consulta
+     */
+    private static final Set<String> OMITIDOS = Set.of("lsid", "txnNumber", "autocommit", "startTransaction");
+
+    private FormaComando() {
+    }
+
+    /**
+     * Forma del comando. El primer campo (nombre del comando y colección) se
+     * conserva; en el nivel superior se conservan también los números y
+     * booleanos (limit, batchSize, ordered), y los documentos a insertar se
+     * reducen a su cantidad
+     */
+    public static String de(BsonDocument comando) {
+        BsonDocument forma = new BsonDocument();
+        boolean primero = true;
+        for (Map.Entry<String, BsonValue> campo : comando.entrySet()) {
+            String clave = campo.getKey();
+            BsonValue valor = campo.getValue();
+            if (primero) {
+                forma.put(clave, valor);
+                primero = false;
+            } else if (clave.startsWith("$") || OMITIDOS.contains(clave)) {
+                continue;
+            } else if ("documents".equals(clave) && valor.isArray()) {
+                forma.put(clave, new BsonInt32(valor.asArray().size()));
+            } else if (valor.isNumber() || valor.isBoolean()) {
+                forma.put(clave, valor);
+            } else {
+                forma.put(clave, enmascarar(valor));
+            }
+        }
+        return forma.toJson();
+    }
+
+    private static BsonValue enmascarar(BsonValue valor) {
+        if (valor.isDocument()) {
+            BsonDocument documento = new BsonDocument();
+            valor.asDocument().forEach((clave, anidado) -> documento.put(clave, enmascarar(anidado)));
+            return documento;
+        }
+        if (valor.isArray()) {
+            // Los arreglos de documentos ($and, $or, etapas, updates) conservan
+            // cada forma distinta una vez; los de valores ($in) quedan en uno
+            Set<BsonValue> formas = new LinkedHashSet<>();
+            for (BsonValue elemento : valor.asArray()) {
+                formas.add(elemento.isDocument() || elemento.isArray() ? enmascarar(elemento) : VALOR);
+            }
+            return new BsonArray(new ArrayList<>(formas));
+        }
+        return VALOR;
+    }
+}
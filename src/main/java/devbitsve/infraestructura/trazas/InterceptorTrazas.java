@@ -0,0 +1,71 @@
+package devbitsve.infraestructura.trazas;
+
+import devbitsve.infraestructura.metricas.Medido;
+import devbitsve.infraestructura.metricas.MetodosMedidos;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abre un span por cada invocación de un bean {@link Medido}, hijo del span
+ * vigente (la petición HTTP o la capa superior), con el nombre
+ * Clase.metodo y la capa como atributo. Los comandos de MongoDB que se
+ * ejecutan dentro quedan como hijos ({@link TrazasComandosMongo}), así que el
+ * tiempo de un span de repositorio que no cubren sus comandos es mapeo.
+ * Una excepción se registra solo por su clase, nunca por su mensaje.
+ */
+@Medido("")
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE + 5)
+public class InterceptorTrazas {
+
+    static final String ATRIBUTO_CAPA = "empleados.capa";
+    static final String ATRIBUTO_TIPO_ERROR = "error.type";
+
+    @Inject
+    Tracer tracer;
+
+    // Nombre del span por método, o null si el método no se traza
+    private final Map<Method, String> nombres = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object trazar(InvocationContext contexto) throws Exception {
+        Method metodo = contexto.getMethod();
+        String nombre = nombres.computeIfAbsent(metodo, InterceptorTrazas::nombreSpan);
+        if (nombre.isEmpty()) {
+            return contexto.proceed();
+        }
+
+        Span span = tracer.spanBuilder(nombre)
+                .setAttribute(ATRIBUTO_CAPA, MetodosMedidos.capa(metodo))
+                .setAttribute("code.function.name", metodo.getDeclaringClass().getName() + "." + metodo.getName())
+                .startSpan();
+        try (Scope ignorado = span.makeCurrent()) {
+            return contexto.proceed();
+        } catch (Exception e) {
+            // Sin recordException: el mensaje puede incluir datos personales
+            // (por ejemplo el documento de identidad duplicado)
+            span.setAttribute(ATRIBUTO_TIPO_ERROR, e.getClass().getName());
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String nombreSpan(Method metodo) {
+        return MetodosMedidos.esMedible(metodo)
+                ? metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName()
+                : "";
+    }
+}
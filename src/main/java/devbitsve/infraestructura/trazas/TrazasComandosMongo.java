@@ -0,0 +1,83 @@
+package devbitsve.infraestructura.trazas;
+
+import com.mongodb.MongoException;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Span por cada comando que el driver envía a MongoDB, hijo del span de
+ * repositorio que lo originó. Registra la forma del comando
+ * ({@link FormaComando}) en lugar del comando completo, que incluiría los
+ * datos personales de los filtros y documentos; por eso no se usa
+ * quarkus.mongodb.tracing.enabled. Los comandos fuera de una traza (índices al
+ * arrancar, métricas de colecciones) no se registran. De un comando fallido se
+ * registran la clase de la excepción y el código de MongoDB, no el mensaje.
+ */
+@ApplicationScoped
+public class TrazasComandosMongo implements CommandListener {
+
+    @Inject
+    Tracer tracer;
+
+    private final Map<Integer, Span> enCurso = new ConcurrentHashMap<>();
+
+    @Override
+    public void commandStarted(CommandStartedEvent evento) {
+        if (!Span.current().getSpanContext().isValid()) {
+            return;
+        }
+        String comando = evento.getCommandName();
+        BsonValue coleccion = evento.getCommand().get(comando);
+        String nombreColeccion = coleccion != null && coleccion.isString() ? coleccion.asString().getValue() : null;
+
+        Span span = tracer.spanBuilder(nombreColeccion == null ? comando : comando + " " + nombreColeccion)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute("db.system.name", "mongodb")
+                .setAttribute("db.namespace", evento.getDatabaseName())
+                .setAttribute("db.operation.name", comando)
+                .setAttribute("db.query.text", FormaComando.de(evento.getCommand()))
+                .setAttribute("server.address", evento.getConnectionDescription().getServerAddress().getHost())
+                .setAttribute("server.port", (long) evento.getConnectionDescription().getServerAddress().getPort())
+                .startSpan();
+        if (nombreColeccion != null) {
+            span.setAttribute("db.collection.name", nombreColeccion);
+        }
+        enCurso.put(evento.getRequestId(), span);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent evento) {
+        Span span = enCurso.remove(evento.getRequestId());
+        if (span != null) {
+            span.end();
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent evento) {
+        Span span = enCurso.remove(evento.getRequestId());
+        if (span != null) {
+            // El mensaje del servidor repite valores del comando (dup key: {...}),
+            // así que solo se registran la clase y el código de error
+            Throwable error = evento.getThrowable();
+            span.setAttribute(InterceptorTrazas.ATRIBUTO_TIPO_ERROR, error.getClass().getName());
+            if (error instanceof MongoException mongoException) {
+                span.setAttribute("db.response.status_code", String.valueOf(mongoException.getCode()));
+            }
+            span.setStatus(StatusCode.ERROR);
+            span.end();
+        }
+    }
+}
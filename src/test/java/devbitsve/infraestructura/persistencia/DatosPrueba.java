@@ -0,0 +1,33 @@
+package devbitsve.infraestructura.persistencia;
+
+import devbitsve.infraestructura.persistencia.cache.CacheEmpleados;
+import devbitsve.infraestructura.persistencia.repositorio.RepositorioEmpleadoMongo;
+import devbitsve.infraestructura.persistencia.repositorio.RepositorioHistorialCargosMongo;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Limpieza de los datos de los tests: vacía las colecciones con un único
+ * deleteMany cada una y descarta la caché, que no ve esas eliminaciones.
+ */
+@ApplicationScoped
+public class DatosPrueba {
+
+    @Inject
+    RepositorioEmpleadoMongo repositorioEmpleado;
+
+    @Inject
+    RepositorioHistorialCargosMongo repositorioHistorialCargos;
+
+    @Inject
+    CacheEmpleados cache;
+
+    /**
+     * Elimina todos los empleados y sus historiales de cargos
+     */
+    public void eliminarTodos() {
+        repositorioEmpleado.deleteAll();
+        repositorioHistorialCargos.deleteAll();
+        cache.invalidarTodo();
+    }
+}
@@ -0,0 +1,56 @@
+package devbitsve.infraestructura.persistencia;
+
+import devbitsve.dominio.modelo.*;
+import devbitsve.dominio.puerto.RepositorioEmpleado;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el camino del driver de MongoDB usado por el repositorio no
+ * fija (pin) el hilo portador cuando se ejecuta sobre hilos virtuales.
+ */
+@QuarkusTest
+@VirtualThreadUnit
+@ShouldNotPin
+class RepositorioEmpleadoHilosVirtualesTest {
+
+    @Inject
+    RepositorioEmpleado repositorioEmpleado;
+
+    @Inject
+    DatosPrueba datosPrueba;
+
+    @AfterEach
+    void tearDown() {
+        datosPrueba.eliminarTodos();
+    }
+
+    @Test
+    void noDeberiaFijarElHiloPortadorEnOperacionesDelRepositorio() {
+        assertTrue(Thread.currentThread().isVirtual());
+
+        Empleado guardado = repositorioEmpleado.guardar(new Empleado(
+                new InformacionPersonal("Ana", "Rojas", "11223344", "Femenino", LocalDate.of(1992, 8, 3)),
+                new InformacionContacto("ana.rojas@example.com", "+58-424-5555555", "Mérida, Venezuela"),
+                new InformacionLaboral("Analista QA", "Tecnología", new BigDecimal("4000.00"),
+                        LocalDate.of(2022, 2, 1), null)));
+
+        assertTrue(repositorioEmpleado.buscarPorId(guardado.getId()).isPresent());
+        assertTrue(repositorioEmpleado.existePorDocumentoIdentidad("11223344"));
+        assertEquals(1, repositorioEmpleado.buscarPagina(FiltroEmpleados.todos(), null, 10).getElementos().size());
+        try (Stream<Empleado> empleados = repositorioEmpleado.recorrer(FiltroEmpleados.todos())) {
+            assertEquals(1, empleados.count());
+        }
+        assertTrue(repositorioEmpleado.eliminar(guardado.getId()).isPresent());
+    }
+}
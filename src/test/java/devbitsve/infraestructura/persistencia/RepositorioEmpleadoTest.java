@@ -1,17 +1,34 @@
 package devbitsve.infraestructura.persistencia;
 
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import devbitsve.dominio.excepcion.ConflictoVersionException;
 import devbitsve.dominio.modelo.*;
 import devbitsve.dominio.puerto.RepositorioEmpleado;
+import devbitsve.dominio.puerto.RepositorioHistorialCargos;
+import devbitsve.infraestructura.persistencia.indice.IndicesEmpleado;
+import devbitsve.infraestructura.persistencia.mapper.CursorPaginacion;
+import devbitsve.infraestructura.persistencia.mapper.FiltroEmpleadosMapper;
+import devbitsve.infraestructura.persistencia.mapper.OrdenEmpleados;
+import devbitsve.infraestructura.persistencia.mapper.PosicionOrden;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,12 +41,26 @@ class RepositorioEmpleadoTest {
     @Inject
     RepositorioEmpleado repositorioEmpleado;
 
+    @Inject
+    RepositorioHistorialCargos repositorioHistorialCargos;
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    DatosPrueba datosPrueba;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    private static final int RELLENO_POR_GRUPO = 30;
+
     private Empleado empleadoPrueba;
 
     @BeforeEach
     void setUp() {
         // Limpiar la base de datos antes de cada test
-        repositorioEmpleado.obtenerTodos().forEach(e -> repositorioEmpleado.eliminar(e.getId()));
+        datosPrueba.eliminarTodos();
 
         // Crear un empleado de prueba
         InformacionPersonal infoPersonal = new InformacionPersonal(
@@ -57,7 +88,7 @@ class RepositorioEmpleadoTest {
     @AfterEach
     void tearDown() {
         // Limpiar después de cada test
-        repositorioEmpleado.obtenerTodos().forEach(e -> repositorioEmpleado.eliminar(e.getId()));
+        datosPrueba.eliminarTodos();
     }
 
     @Test
@@ -115,13 +146,105 @@ class RepositorioEmpleadoTest {
         assertEquals("nuevo.email@example.com", actualizado.getInformacionContacto().getEmail());
     }
 
+    @Test
+    void deberiaActualizarEstadoSinReescribirElDocumento() {
+        // Given
+        Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
+
+        // When
+        Optional<CambioEstado> cambio = repositorioEmpleado.actualizarEstado(guardado.getId(), EstadoEmpleado.LICENCIA, null);
+
+        // Then
+        assertTrue(cambio.isPresent());
+        Empleado actualizado = cambio.get().getEmpleado();
+        assertEquals(EstadoEmpleado.ACTIVO, cambio.get().getEstadoAnterior());
+        assertEquals(EstadoEmpleado.LICENCIA, actualizado.getEstado());
+        assertEquals(guardado.getVersion() + 1, actualizado.getVersion());
+        assertEquals("juan.perez@example.com", actualizado.getInformacionContacto().getEmail());
+        assertFalse(actualizado.getFechaActualizacion().isBefore(guardado.getFechaActualizacion()));
+        assertEquals(EstadoEmpleado.LICENCIA, repositorioEmpleado.buscarPorId(guardado.getId()).get().getEstado());
+        assertFalse(repositorioEmpleado.actualizarEstado("000000000000000000000000", EstadoEmpleado.ACTIVO, null).isPresent());
+    }
+
+    @Test
+    void deberiaRechazarEscriturasSobreUnaVersionAnterior() {
+        // Given
+        Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
+        Empleado copiaAnterior = repositorioEmpleado.buscarPorId(guardado.getId()).get();
+        Empleado vigente = repositorioEmpleado.actualizarEstado(guardado.getId(), EstadoEmpleado.LICENCIA, 0L).get()
+                .getEmpleado();
+
+        // When
+        copiaAnterior.cambiarCargo(new InformacionLaboral(
+                "Arquitecto", "Tecnología", new BigDecimal("6500.00"), LocalDate.of(2024, 1, 1), null));
+
+        // Then
+        assertEquals(1, vigente.getVersion());
+        assertThrows(ConflictoVersionException.class, () -> repositorioEmpleado.actualizar(copiaAnterior));
+        assertThrows(ConflictoVersionException.class,
+                () -> repositorioEmpleado.actualizarEstado(guardado.getId(), EstadoEmpleado.ACTIVO, 0L));
+        assertEquals(EstadoEmpleado.LICENCIA, repositorioEmpleado.buscarPorId(guardado.getId()).get().getEstado());
+        assertEquals(2, repositorioEmpleado.actualizarEstado(guardado.getId(), EstadoEmpleado.ACTIVO, 1L).get()
+                .getEmpleado().getVersion());
+    }
+
+    @Test
+    void deberiaCambiarCargoConUnaSolaEscrituraCondicionada() {
+        // Given
+        Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
+        InformacionLaboral nuevoCargo = new InformacionLaboral(
+                "Arquitecto", "Tecnología", new BigDecimal("6500.00"), LocalDate.of(2024, 1, 1), null);
+
+        // When
+        CambioCargo cambio = repositorioEmpleado.cambiarCargo(guardado.getId(), nuevoCargo, 0L).get();
+
+        // Then
+        assertEquals("Arquitecto", cambio.getEmpleado().getCargoActual().getCargo());
+        assertEquals(1, cambio.getEmpleado().getCantidadCargosHistorial());
+        assertEquals(1, cambio.getEmpleado().getVersion());
+        assertEquals("Desarrollador Senior", cambio.getCargoFinalizado().getCargo());
+        assertEquals(LocalDate.of(2023, 12, 31), cambio.getCargoFinalizado().getFechaFin());
+        assertEquals("Arquitecto", repositorioEmpleado.buscarPorId(guardado.getId()).get().getCargoActual().getCargo());
+
+        // Un cargo que empieza antes que el vigente no se aplica
+        assertThrows(IllegalArgumentException.class, () -> repositorioEmpleado.cambiarCargo(guardado.getId(),
+                new InformacionLaboral("Gerente", "Tecnología", new BigDecimal("8000.00"), LocalDate.of(2023, 6, 1), null),
+                null));
+        assertThrows(ConflictoVersionException.class,
+                () -> repositorioEmpleado.cambiarCargo(guardado.getId(), nuevoCargo, 0L));
+        assertFalse(repositorioEmpleado.cambiarCargo("000000000000000000000000", nuevoCargo, null).isPresent());
+        assertEquals(1, repositorioEmpleado.buscarPorId(guardado.getId()).get().getVersion());
+    }
+
+    @Test
+    void deberiaCambiarEstadoMasivoPorDepartamento() {
+        // Given
+        Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
+
+        // When
+        ResultadoActualizacionMasiva primero = repositorioEmpleado.actualizarEstadoMasivo(
+                FiltroEmpleados.porDepartamento("Tecnología"), EstadoEmpleado.LICENCIA);
+        ResultadoActualizacionMasiva repetido = repositorioEmpleado.actualizarEstadoMasivo(
+                FiltroEmpleados.porDepartamento("Tecnología"), EstadoEmpleado.LICENCIA);
+
+        // Then
+        assertEquals(1, primero.getCoincidentes());
+        assertEquals(1, primero.getModificados());
+        assertEquals(Map.of("Tecnología", Map.of(EstadoEmpleado.ACTIVO, 1L)), primero.getCambiadosPorDepartamento());
+        assertEquals(1, repetido.getCoincidentes());
+        assertEquals(0, repetido.getModificados());
+        assertTrue(repetido.getCambiadosPorDepartamento().isEmpty());
+        assertEquals(EstadoEmpleado.LICENCIA, repositorioEmpleado.buscarPorId(guardado.getId()).get().getEstado());
+    }
+
     @Test
     void deberiaBuscarEmpleadosPorEstado() {
         // Given
         repositorioEmpleado.guardar(empleadoPrueba);
 
         // When
-        List<Empleado> activos = repositorioEmpleado.buscarPorEstado(EstadoEmpleado.ACTIVO);
+        List<Empleado> activos = repositorioEmpleado.buscarPagina(
+                FiltroEmpleados.porEstado(EstadoEmpleado.ACTIVO), null, 20).getElementos();
 
         // Then
         assertEquals(1, activos.size());
@@ -134,24 +257,111 @@ class RepositorioEmpleadoTest {
         repositorioEmpleado.guardar(empleadoPrueba);
 
         // When
-        List<Empleado> enTecnologia = repositorioEmpleado.buscarPorDepartamento("Tecnología");
+        List<Empleado> enTecnologia = repositorioEmpleado.buscarPagina(
+                FiltroEmpleados.porDepartamento("Tecnología"), null, 20).getElementos();
 
         // Then
         assertEquals(1, enTecnologia.size());
         assertEquals("Tecnología", enTecnologia.get(0).getCargoActual().getDepartamento());
     }
 
+    @Test
+    void deberiaBuscarPorPrefijoSinAcentosOrdenandoPorRelevancia() {
+        // Given
+        Empleado juan = repositorioEmpleado.guardar(empleadoPrueba);
+        String[][] otros = { { "Pedro", "Juanes", "22334455" }, { "Juana", "Pereira", "33445566" } };
+        for (String[] otro : otros) {
+            repositorioEmpleado.guardar(new Empleado(
+                    new InformacionPersonal(otro[0], otro[1], otro[2], "Masculino", LocalDate.of(1991, 1, 1)),
+                    new InformacionContacto(otro[2] + "@example.com", "+58-412-0000000", "Valencia, Venezuela"),
+                    empleadoPrueba.getCargoActual()));
+        }
+
+        // When
+        List<Empleado> encontrados = repositorioEmpleado.buscarPorTexto("juan pe", 10);
+
+        // Then: coincidencia exacta antes que prefijo, y en el orden del nombre antes que desordenada
+        assertEquals(List.of("Juan", "Juana", "Pedro"), encontrados.stream()
+                .map(e -> e.getInformacionPersonal().getNombre())
+                .toList());
+        assertEquals(1, repositorioEmpleado.buscarPorTexto("PÉREZ", 10).size());
+        assertEquals(1, repositorioEmpleado.buscarPorTexto("juan.pe", 1).size());
+        assertTrue(repositorioEmpleado.buscarPorTexto("example", 10).isEmpty());
+
+        // Las claves siguen a la información personal al modificarla
+        repositorioEmpleado.actualizarInformacionPersonal(juan.getId(), new InformacionPersonal(
+                "José", "Pérez García", "12345678", "Masculino", LocalDate.of(1990, 5, 15)), null);
+        assertEquals(juan.getId(), repositorioEmpleado.buscarPorTexto("jose", 10).get(0).getId());
+    }
+
+    @Test
+    void deberiaCalcularEstadisticasPorDepartamentoYEstado() {
+        // Given
+        repositorioEmpleado.guardar(empleadoPrueba);
+        String[] salarios = { "3000.00", "4000.00", "3500.00" };
+        for (int i = 0; i < salarios.length; i++) {
+            Empleado analista = repositorioEmpleado.guardar(new Empleado(
+                    new InformacionPersonal("Analista", "Número " + i, "FIN-" + i, null, null),
+                    new InformacionContacto("analista" + i + "@example.com", null, null),
+                    new InformacionLaboral("Analista", "Finanzas", new BigDecimal(salarios[i]),
+                            LocalDate.of(2021, 1, 1), null)));
+            if (i == 2) {
+                repositorioEmpleado.actualizarEstado(analista.getId(), EstadoEmpleado.LICENCIA, null);
+            }
+        }
+
+        // When
+        List<EstadisticaPlantilla> estadisticas = repositorioEmpleado.calcularEstadisticas(FiltroEmpleados.todos());
+        List<EstadisticaPlantilla> finanzas = repositorioEmpleado.calcularEstadisticas(
+                FiltroEmpleados.de(EstadoEmpleado.ACTIVO, "Finanzas"));
+
+        // Then
+        assertEquals(3, estadisticas.size());
+        EstadisticaPlantilla activosFinanzas = estadisticas.get(0);
+        assertEquals("Finanzas", activosFinanzas.getDepartamento());
+        assertEquals(EstadoEmpleado.ACTIVO, activosFinanzas.getEstado());
+        assertEquals(2, activosFinanzas.getCantidadEmpleados());
+        assertEquals(0, new BigDecimal("7000").compareTo(activosFinanzas.getSalarioTotal()));
+        assertEquals(0, new BigDecimal("3500").compareTo(activosFinanzas.getSalarioPromedio()));
+        assertEquals(0, new BigDecimal("3000").compareTo(activosFinanzas.getSalarioMinimo()));
+        assertEquals(0, new BigDecimal("4000").compareTo(activosFinanzas.getSalarioMaximo()));
+        assertEquals(EstadoEmpleado.LICENCIA, estadisticas.get(1).getEstado());
+        assertEquals("Tecnología", estadisticas.get(2).getDepartamento());
+        assertEquals(List.of(activosFinanzas), finanzas);
+    }
+
     @Test
     void deberiaEliminarEmpleado() {
         // Given
         Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
 
         // When
-        boolean eliminado = repositorioEmpleado.eliminar(guardado.getId());
+        Optional<EmpleadoEliminado> eliminado = repositorioEmpleado.eliminar(guardado.getId());
 
         // Then
-        assertTrue(eliminado);
+        assertTrue(eliminado.isPresent());
+        assertEquals(guardado.getCargoActual().getDepartamento(), eliminado.get().getDepartamento());
+        assertEquals(EstadoEmpleado.ACTIVO, eliminado.get().getEstado());
         assertFalse(repositorioEmpleado.buscarPorId(guardado.getId()).isPresent());
+        assertFalse(repositorioEmpleado.eliminar(guardado.getId()).isPresent());
+    }
+
+    @Test
+    void deberiaMantenerLaCacheCoherenteTrasCambiarElDocumento() {
+        // Given
+        Empleado guardado = repositorioEmpleado.guardar(empleadoPrueba);
+        repositorioEmpleado.buscarPorDocumentoIdentidad("12345678").get()
+                .cambiarEstado(EstadoEmpleado.INACTIVO);
+
+        // When
+        repositorioEmpleado.actualizarInformacionPersonal(guardado.getId(), new InformacionPersonal(
+                "Juan", "Pérez García", "87654321", "Masculino", LocalDate.of(1990, 5, 15)), null);
+
+        // Then
+        assertFalse(repositorioEmpleado.buscarPorDocumentoIdentidad("12345678").isPresent());
+        Empleado encontrado = repositorioEmpleado.buscarPorDocumentoIdentidad("87654321").get();
+        assertEquals(guardado.getId(), encontrado.getId());
+        assertEquals(EstadoEmpleado.ACTIVO, encontrado.getEstado());
     }
 
     @Test
@@ -168,6 +378,45 @@ class RepositorioEmpleadoTest {
         assertFalse(noExiste);
     }
 
+    @Test
+    void deberiaRechazarDocumentoDuplicadoAlGuardar() {
+        // Given
+        repositorioEmpleado.guardar(empleadoPrueba);
+        Empleado duplicado = new Empleado(
+                new InformacionPersonal("Juan", "Pérez", "12345678", null, null),
+                new InformacionContacto("otro.juan@example.com", null, null),
+                empleadoPrueba.getCargoActual());
+
+        // When / Then
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> repositorioEmpleado.guardar(duplicado));
+        assertTrue(error.getMessage().contains("12345678"));
+    }
+
+    @Test
+    void deberiaGuardarLoteReportandoDuplicadosSinDetenerse() {
+        // Given
+        repositorioEmpleado.guardar(empleadoPrueba);
+        Empleado nuevo = new Empleado(
+                new InformacionPersonal("Luis", "Mora", "55555555", null, null),
+                new InformacionContacto("luis.mora@example.com", null, null),
+                empleadoPrueba.getCargoActual());
+        Empleado duplicado = new Empleado(
+                new InformacionPersonal("Juan", "Pérez", "12345678", null, null),
+                new InformacionContacto("otro.juan@example.com", null, null),
+                empleadoPrueba.getCargoActual());
+
+        // When
+        List<ResultadoCreacion> resultados = repositorioEmpleado.guardarTodos(List.of(duplicado, nuevo));
+
+        // Then
+        assertEquals(2, resultados.size());
+        assertFalse(resultados.get(0).esExitoso());
+        assertTrue(resultados.get(1).esExitoso());
+        assertEquals(1, resultados.get(1).getIndice());
+        assertTrue(repositorioEmpleado.buscarPorId(resultados.get(1).getId()).isPresent());
+    }
+
     @Test
     void deberiaObtenerTodosLosEmpleados() {
         // Given
@@ -196,9 +445,182 @@ class RepositorioEmpleadoTest {
         repositorioEmpleado.guardar(otroEmpleado);
 
         // When
-        List<Empleado> todos = repositorioEmpleado.obtenerTodos();
+        List<Empleado> todos = repositorioEmpleado.buscarPagina(FiltroEmpleados.todos(), null, 20).getElementos();
 
         // Then
         assertEquals(2, todos.size());
     }
+
+    @Test
+    void deberiaPaginarEmpleadosPorCursor() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            repositorioEmpleado.guardar(new Empleado(
+                    new InformacionPersonal("Empleado", "Número " + i, "DOC-" + i, null, null),
+                    new InformacionContacto("empleado" + i + "@example.com", null, null),
+                    new InformacionLaboral("Analista", "Finanzas", new BigDecimal("3000.00"),
+                            LocalDate.of(2021, 1, 1), null)));
+        }
+
+        // When
+        Pagina<Empleado> primera = repositorioEmpleado.buscarPagina(FiltroEmpleados.todos(), null, 2);
+        Pagina<Empleado> segunda = repositorioEmpleado.buscarPagina(
+                FiltroEmpleados.todos(), primera.getSiguienteCursor(), 2);
+        Pagina<Empleado> tercera = repositorioEmpleado.buscarPagina(
+                FiltroEmpleados.todos(), segunda.getSiguienteCursor(), 2);
+
+        // Then
+        assertEquals(2, primera.getElementos().size());
+        assertEquals(2, segunda.getElementos().size());
+        assertEquals(1, tercera.getElementos().size());
+        assertFalse(tercera.tieneSiguiente());
+        assertNotEquals(primera.getElementos().get(1).getId(), segunda.getElementos().get(0).getId());
+    }
+
+    @Test
+    void deberiaPaginarPorRangoDeSalarioEnOrdenDeSalario() {
+        // Given
+        String[] salarios = { "4500.00", "3000.00", "4000.00", "4000.00", "6000.00" };
+        for (int i = 0; i < salarios.length; i++) {
+            repositorioEmpleado.guardar(new Empleado(
+                    new InformacionPersonal("Empleado", "Número " + i, "DOC-" + i, null, null),
+                    new InformacionContacto("empleado" + i + "@example.com", null, null),
+                    new InformacionLaboral("Analista", "Finanzas", new BigDecimal(salarios[i]),
+                            LocalDate.of(2021, 1, 1), null)));
+        }
+        FiltroEmpleados filtro = FiltroEmpleados.de(null, "Finanzas")
+                .conSalario(new BigDecimal("3500"), new BigDecimal("5000"));
+
+        // When
+        Pagina<Empleado> primera = repositorioEmpleado.buscarPagina(filtro, null, 2);
+        Pagina<Empleado> segunda = repositorioEmpleado.buscarPagina(filtro, primera.getSiguienteCursor(), 2);
+
+        // Then
+        List<BigDecimal> recorridos = new ArrayList<>();
+        primera.getElementos().forEach(e -> recorridos.add(e.getCargoActual().getSalario()));
+        segunda.getElementos().forEach(e -> recorridos.add(e.getCargoActual().getSalario()));
+        assertEquals(List.of("4000.00", "4000.00", "4500.00"), recorridos.stream()
+                .map(BigDecimal::toPlainString)
+                .collect(Collectors.toList()));
+        assertFalse(segunda.tieneSiguiente());
+        assertNotEquals(primera.getElementos().get(1).getId(), segunda.getElementos().get(0).getId());
+    }
+
+    @Test
+    void deberiaResolverCadaCombinacionDeCriteriosConUnIndice() {
+        // Given: el empleado de prueba, empleados que solo cumplen los rangos y
+        // empleados que solo cumplen la igualdad
+        repositorioEmpleado.guardar(empleadoPrueba);
+        for (int i = 0; i < RELLENO_POR_GRUPO; i++) {
+            repositorioEmpleado.guardar(empleadoDeRelleno("R" + i, "Vendedor", "Ventas",
+                    new BigDecimal("5000.00"), LocalDate.of(2020, 1, 15), LocalDate.of(1990, 5, 15)));
+            repositorioEmpleado.guardar(empleadoDeRelleno("I" + i, "Desarrollador Senior", "Tecnología",
+                    new BigDecimal("20000.00"), LocalDate.of(2010, 1, 15), LocalDate.of(2005, 5, 15)));
+        }
+        MongoCollection<Document> empleados = mongoClient.getDatabase(baseDatos)
+                .getCollection(IndicesEmpleado.COLECCION_EMPLEADOS);
+        empleados.updateMany(new Document("cargoActual.departamento", "Ventas"),
+                new Document("$set", new Document("estado", EstadoEmpleado.INACTIVO.name())));
+
+        // Estado, departamento, cargo y los tres rangos: todas las combinaciones
+        for (int criterios = 0; criterios < (1 << 6); criterios++) {
+            FiltroEmpleados filtro = FiltroEmpleados.de(
+                    (criterios & 1) != 0 ? EstadoEmpleado.ACTIVO : null,
+                    (criterios & 2) != 0 ? "Tecnología" : null);
+            if ((criterios & 4) != 0) {
+                filtro = filtro.conCargo("Desarrollador Senior");
+            }
+            if ((criterios & 8) != 0) {
+                filtro = filtro.conSalario(new BigDecimal("1000"), new BigDecimal("9000"));
+            }
+            if ((criterios & 16) != 0) {
+                filtro = filtro.conFechaInicio(LocalDate.of(2015, 1, 1), null);
+            }
+            if ((criterios & 32) != 0) {
+                filtro = filtro.conFechaNacimiento(null, LocalDate.of(2000, 12, 31));
+            }
+            OrdenEmpleados orden = OrdenEmpleados.para(filtro);
+            boolean igualdadYRango = (criterios & 7) != 0 && (criterios & 56) != 0;
+
+            // Then: la primera página recorre un índice ya en orden y ninguna
+            // página examina más de lo que su índice permite descartar
+            Document primera = explicar(empleados, filtro, null, orden);
+            String plan = primera.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+            assertFalse(plan.contains("\"SORT\""), filtro + " ordena en memoria: " + plan);
+            verificarExaminados(filtro, primera, igualdadYRango);
+            verificarExaminados(filtro, explicar(empleados, filtro, cursorDePrueba(orden), orden), igualdadYRango);
+        }
+    }
+
+    /**
+     * Sin mezcla de igualdad y rango el índice resuelve todos los criterios y solo se
+     * examina lo que se devuelve. Con la mezcla se fuerza el índice del rango para
+     * evitar el SORT: se recorre el rango completo, pero nunca el resto de la colección.
+     */
+    private void verificarExaminados(FiltroEmpleados filtro, Document explicacion, boolean igualdadYRango) {
+        Document estadisticas = explicacion.get("executionStats", Document.class);
+        long devueltos = estadisticas.get("nReturned", Number.class).longValue();
+        long claves = estadisticas.get("totalKeysExamined", Number.class).longValue();
+        long documentos = estadisticas.get("totalDocsExamined", Number.class).longValue();
+        long limite = igualdadYRango ? RELLENO_POR_GRUPO + 2 : devueltos + 1;
+        assertTrue(claves <= limite, filtro + " examina " + claves + " claves para " + devueltos + " empleados");
+        assertTrue(documentos <= limite, filtro + " examina " + documentos + " documentos para " + devueltos + " empleados");
+    }
+
+    @Test
+    void deberiaPaginarElHistorialDeCargosDelMasRecienteAlMasAntiguo() {
+        // Given
+        String id = repositorioEmpleado.guardar(empleadoPrueba).getId();
+        String[] cargos = { "Líder Técnico", "Arquitecto", "Gerente de Tecnología" };
+        LocalDate[] inicios = { LocalDate.of(2022, 3, 1), LocalDate.of(2022, 9, 1), LocalDate.of(2024, 2, 1) };
+        for (int i = 0; i < cargos.length; i++) {
+            CambioCargo cambio = repositorioEmpleado.cambiarCargo(id, new InformacionLaboral(
+                    cargos[i], "Tecnología", new BigDecimal("6000.00"), inicios[i], null), null).get();
+            repositorioHistorialCargos.registrar(id, cambio.getCargoFinalizado());
+        }
+
+        // When
+        Pagina<InformacionLaboral> primera = repositorioHistorialCargos.buscarPagina(id, null, 2);
+        Pagina<InformacionLaboral> segunda = repositorioHistorialCargos.buscarPagina(
+                id, primera.getSiguienteCursor(), 2);
+
+        // Then
+        assertEquals(3, repositorioEmpleado.buscarPorId(id).get().getCantidadCargosHistorial());
+        assertEquals(List.of("Arquitecto", "Líder Técnico"),
+                primera.getElementos().stream().map(InformacionLaboral::getCargo).toList());
+        assertEquals(LocalDate.of(2024, 1, 31), primera.getElementos().get(0).getFechaFin());
+        assertEquals(List.of("Desarrollador Senior"),
+                segunda.getElementos().stream().map(InformacionLaboral::getCargo).toList());
+        assertFalse(segunda.tieneSiguiente());
+        assertThrows(IllegalArgumentException.class,
+                () -> repositorioHistorialCargos.buscarPagina(id, "no-es-un-cursor", 2));
+    }
+
+    private Document explicar(MongoCollection<Document> empleados, FiltroEmpleados filtro,
+            String despuesDe, OrdenEmpleados orden) {
+        FindIterable<Document> consulta = empleados.find(FiltroEmpleadosMapper.toBson(filtro, despuesDe))
+                .sort(orden.toOrden())
+                .limit(21);
+        if (orden.getIndice() != null) {
+            consulta = consulta.hintString(orden.getIndice());
+        }
+        return consulta.explain(ExplainVerbosity.EXECUTION_STATS);
+    }
+
+    private Empleado empleadoDeRelleno(String sufijo, String cargo, String departamento, BigDecimal salario,
+            LocalDate fechaInicio, LocalDate fechaNacimiento) {
+        return new Empleado(
+                new InformacionPersonal("Relleno", sufijo, "DOC-" + sufijo, "Femenino", fechaNacimiento),
+                new InformacionContacto("relleno." + sufijo.toLowerCase() + "@example.com", "+58-412-0000000", "Caracas, Venezuela"),
+                new InformacionLaboral(cargo, departamento, salario, fechaInicio, null));
+    }
+
+    private String cursorDePrueba(OrdenEmpleados orden) {
+        return switch (orden) {
+            case ID -> CursorPaginacion.codificar(new ObjectId());
+            case SALARIO -> CursorPaginacion.codificar(new PosicionOrden(orden, new BigDecimal("2000.00"), new ObjectId()));
+            case FECHA_INICIO, FECHA_NACIMIENTO ->
+                CursorPaginacion.codificar(new PosicionOrden(orden, LocalDate.of(1995, 1, 1), new ObjectId()));
+        };
+    }
 }
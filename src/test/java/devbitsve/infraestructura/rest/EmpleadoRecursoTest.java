@@ -0,0 +1,551 @@
+package devbitsve.infraestructura.rest;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import devbitsve.aplicacion.servicio.ContadoresPlantilla;
+import devbitsve.aplicacion.servicio.IndiceAutocompletado;
+import devbitsve.aplicacion.servicio.ServicioEmpleado;
+import devbitsve.dominio.modelo.*;
+import devbitsve.dominio.puerto.RepositorioEmpleado;
+import devbitsve.infraestructura.persistencia.DatosPrueba;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests de integración del recurso de empleados: peticiones condicionales
+ * (lectura y escritura), lecturas parciales, contadores, autocompletado en
+ * memoria, métricas, trazas y consultas lentas.
+ */
+@QuarkusTest
+class EmpleadoRecursoTest {
+
+    @Inject
+    RepositorioEmpleado repositorioEmpleado;
+
+    @Inject
+    ContadoresPlantilla contadoresPlantilla;
+
+    @Inject
+    IndiceAutocompletado indiceAutocompletado;
+
+    @Inject
+    InMemorySpanExporter exportadorTrazas;
+
+    @Inject
+    ServicioEmpleado servicioEmpleado;
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    DatosPrueba datosPrueba;
+
+    @ConfigProperty(name = "quarkus.mongodb.database")
+    String baseDatos;
+
+    private Empleado empleado;
+
+    @BeforeEach
+    void setUp() {
+        datosPrueba.eliminarTodos();
+
+        empleado = repositorioEmpleado.guardar(new Empleado(
+                new InformacionPersonal("Ana", "Rodríguez", "20111222", "Femenino", LocalDate.of(1992, 3, 8)),
+                new InformacionContacto("ana.rodriguez@example.com", "+58-414-5550000", "Maracay, Venezuela"),
+                new InformacionLaboral("Analista", "Finanzas", new BigDecimal("3000.00"), LocalDate.of(2021, 6, 1), null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        datosPrueba.eliminarTodos();
+    }
+
+    @Test
+    void deberiaResponderNoModificadoConElETagVigente() {
+        String etag = given()
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .header("Last-Modified", notNullValue())
+                .extract().header("ETag");
+
+        given()
+                .header("If-None-Match", etag)
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+
+        repositorioEmpleado.actualizarEstado(empleado.getId(), EstadoEmpleado.LICENCIA, null);
+
+        given()
+                .header("If-None-Match", etag)
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .header("ETag", not(etag));
+    }
+
+    @Test
+    void deberiaRevalidarContraLaVersionVigenteAunqueLaCacheTengaUnaAnterior() {
+        String etag = given()
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        // Escritura de otra réplica: no pasa por la caché de esta instancia
+        mongoClient.getDatabase(baseDatos).getCollection("empleados").updateOne(
+                Filters.eq("_id", new ObjectId(empleado.getId())),
+                new Document("$set", new Document("nombre", "Anabel").append("fechaActualizacion", new Date()))
+                        .append("$inc", new Document("version", 1)));
+
+        given()
+                .header("If-None-Match", etag)
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .header("ETag", not(etag))
+                .body("informacionPersonal.nombre", is("Anabel"));
+    }
+
+    @Test
+    void deberiaRechazarModificacionesConUnIfMatchObsoleto() {
+        String etag = given()
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        String etagNuevo = given()
+                .header("If-Match", etag)
+                .when().put("/api/empleados/{id}/licencia", empleado.getId())
+                .then()
+                .statusCode(200)
+                .header("ETag", not(etag))
+                .extract().header("ETag");
+
+        given()
+                .header("If-Match", etag)
+                .when().put("/api/empleados/{id}/desactivar", empleado.getId())
+                .then()
+                .statusCode(412);
+
+        given()
+                .header("If-Match", etagNuevo)
+                .when().put("/api/empleados/{id}/desactivar", empleado.getId())
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    void deberiaDevolverSoloLosCamposPedidos() {
+        given()
+                .queryParam("campos", "informacionPersonal.nombre,cargoActual.departamento,estado")
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200)
+                .body("id", is(empleado.getId()))
+                .body("informacionPersonal.nombre", is("Ana"))
+                .body("informacionPersonal.apellidos", nullValue())
+                .body("cargoActual.departamento", is("Finanzas"))
+                .body("cargoActual.salario", nullValue())
+                .body("estado", is("ACTIVO"))
+                .body("informacionContacto", nullValue())
+                .body("cantidadCargosHistorial", nullValue());
+
+        given()
+                .queryParam("campos", "informacionPersonal.nombre")
+                .when().get("/api/empleados")
+                .then()
+                .statusCode(200)
+                .body("elementos[0].informacionPersonal.nombre", is("Ana"))
+                .body("elementos[0].estado", nullValue());
+
+        given()
+                .queryParam("campos", "salarioSecreto")
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void deberiaResponderNoModificadoParaUnaPaginaSinCambios() {
+        String etag = given()
+                .when().get("/api/empleados?limite=10")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        given()
+                .header("If-None-Match", etag)
+                .when().get("/api/empleados?limite=10")
+                .then()
+                .statusCode(304);
+
+        repositorioEmpleado.eliminar(empleado.getId());
+
+        String etagSinEmpleados = given()
+                .header("If-None-Match", etag)
+                .when().get("/api/empleados?limite=10")
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+        assertNotEquals(etag, etagSinEmpleados);
+    }
+
+    @Test
+    void deberiaMantenerLosContadoresConCadaMutacion() {
+        contadoresPlantilla.reconciliar();
+
+        given()
+                .when().get("/api/empleados/contadores")
+                .then()
+                .statusCode(200)
+                .body("total", is(1))
+                .body("departamentos.Finanzas.ACTIVO", is(1))
+                .body("ultimaReconciliacion", notNullValue());
+
+        given()
+                .when().put("/api/empleados/{id}/licencia", empleado.getId())
+                .then()
+                .statusCode(200);
+
+        given()
+                .when().get("/api/empleados/contadores")
+                .then()
+                .statusCode(200)
+                .body("total", is(1))
+                .body("departamentos.Finanzas.ACTIVO", is(0))
+                .body("departamentos.Finanzas.LICENCIA", is(1));
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("departamento", "Finanzas"))
+                .when().put("/api/empleados/estado/INACTIVO")
+                .then()
+                .statusCode(200)
+                .body("modificados", is(1));
+
+        given()
+                .when().get("/api/empleados/contadores")
+                .then()
+                .statusCode(200)
+                .body("total", is(1))
+                .body("departamentos.Finanzas.LICENCIA", is(0))
+                .body("departamentos.Finanzas.INACTIVO", is(1));
+
+        given()
+                .when().delete("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(204);
+
+        given()
+                .when().get("/api/empleados/contadores")
+                .then()
+                .statusCode(200)
+                .body("total", is(0))
+                .body("departamentos.Finanzas", nullValue());
+    }
+
+    @Test
+    void deberiaAutocompletarDesdeElIndiceEnMemoria() {
+        indiceAutocompletado.reconstruir();
+
+        given()
+                .when().get("/q/health/ready")
+                .then()
+                .body("checks.find { it.name == 'autocompletado' }.status", is("UP"));
+
+        given()
+                .queryParam("q", "ANA rodri")
+                .when().get("/api/empleados/autocompletar")
+                .then()
+                .statusCode(200)
+                .body("size()", is(1))
+                .body("[0].id", is(empleado.getId()))
+                .body("[0].nombreCompleto", is("Ana Rodríguez"));
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("nombre", "Ana María", "apellidos", "Rodríguez", "documentoIdentidad", "20111222",
+                        "genero", "Femenino", "fechaNacimiento", "1992-03-08"))
+                .when().put("/api/empleados/{id}/informacion-personal", empleado.getId())
+                .then()
+                .statusCode(200);
+
+        given()
+                .queryParam("q", "maria")
+                .when().get("/api/empleados/autocompletar")
+                .then()
+                .statusCode(200)
+                .body("nombreCompleto", hasItem("Ana María Rodríguez"));
+
+        given()
+                .when().delete("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(204);
+
+        given()
+                .queryParam("q", "ana")
+                .when().get("/api/empleados/autocompletar")
+                .then()
+                .statusCode(200)
+                .body("size()", is(0));
+
+        given()
+                .queryParam("q", " ")
+                .when().get("/api/empleados/autocompletar")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void deberiaCompletarElHistorialCuandoSuRegistroFallaTrasElCambioDeCargo() {
+        // Un bucket corrupto del período en que termina el cargo actual hace
+        // fallar el registro en el historial después de cambiar el cargo
+        MongoCollection<Document> historial = mongoClient.getDatabase(baseDatos).getCollection("historial_cargos");
+        MongoCollection<Document> empleados = mongoClient.getDatabase(baseDatos).getCollection("empleados");
+        ObjectId empleadoId = new ObjectId(empleado.getId());
+        historial.insertOne(new Document("empleadoId", empleadoId).append("periodo", 2023).append("cargos", "corrupto"));
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("cargo", "Coordinadora", "departamento", "Finanzas",
+                        "salario", 4000, "fechaInicio", "2024-01-01"))
+                .when().put("/api/empleados/{id}/cambiar-cargo", empleado.getId())
+                .then()
+                .statusCode(200)
+                .body("cargoActual.cargo", is("Coordinadora"));
+
+        // El cargo finalizado quedó pendiente en el empleado, no perdido
+        Document documento = empleados.find(Filters.eq("_id", empleadoId)).first();
+        assertEquals(1, documento.getList("historialPendiente", Document.class).size());
+
+        historial.deleteMany(Filters.eq("empleadoId", empleadoId));
+        servicioEmpleado.completarHistorialPendiente();
+        // Repetirlo no duplica el cargo
+        servicioEmpleado.completarHistorialPendiente();
+
+        given()
+                .when().get("/api/empleados/{id}/historial", empleado.getId())
+                .then()
+                .statusCode(200)
+                .body("elementos.size()", is(1))
+                .body("elementos[0].cargo", is("Analista"))
+                .body("elementos[0].fechaFin", is("2023-12-31"));
+        documento = empleados.find(Filters.eq("_id", empleadoId)).first();
+        assertTrue(documento.getList("historialPendiente", Document.class).isEmpty());
+    }
+
+    @Test
+    void deberiaResponderConflictoAlUsarElDocumentoDeOtroEmpleado() {
+        repositorioEmpleado.guardar(new Empleado(
+                new InformacionPersonal("Luis", "Mendoza", "30444555", "Masculino", LocalDate.of(1988, 11, 2)),
+                new InformacionContacto("luis.mendoza@example.com", "+58-424-5551111", "Valencia, Venezuela"),
+                new InformacionLaboral("Contador", "Finanzas", new BigDecimal("3200.00"), LocalDate.of(2022, 2, 1), null)));
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("nombre", "Ana", "apellidos", "Rodríguez", "documentoIdentidad", "30444555",
+                        "genero", "Femenino", "fechaNacimiento", "1992-03-08"))
+                .when().put("/api/empleados/{id}/informacion-personal", empleado.getId())
+                .then()
+                .statusCode(409)
+                .body("mensaje", containsString("30444555"));
+    }
+
+    @Test
+    void deberiaRechazarElCambioMasivoConUnEstadoDeFiltroInvalido() {
+        given()
+                .contentType("application/json")
+                .body(Map.of("estado", "VACACIONES"))
+                .when().put("/api/empleados/estado/INACTIVO")
+                .then()
+                .statusCode(400)
+                .body("mensaje", is("Estado inválido: VACACIONES"));
+    }
+
+    @Test
+    void deberiaRechazarUnLoteNdjsonQueExcedeElMaximo() {
+        // Las líneas no se interpretan hasta validar: el rechazo llega al contar
+        given()
+                .contentType("application/x-ndjson")
+                .body("{}\n".repeat(10_001))
+                .when().post("/api/empleados/lote")
+                .then()
+                .statusCode(400)
+                .body("mensaje", containsString("10000"));
+    }
+
+    @Test
+    void deberiaPublicarLatenciasPorCapaEnPrometheus() {
+        given()
+                .when().get("/api/empleados/{id}", empleado.getId())
+                .then()
+                .statusCode(200);
+
+        given()
+                .when().get("/q/metrics")
+                .then()
+                .statusCode(200)
+                // HTTP por ruta y código, con buckets para agregar percentiles
+                .body(containsString("http_server_requests_seconds_bucket"))
+                .body(containsString("uri=\"/api/empleados/{id}\""))
+                // Caso de uso y operación del repositorio
+                .body(containsString("empleados_operacion_seconds_bucket"))
+                .body(containsString("metodo=\"buscarEmpleadoPorId\""))
+                .body(containsString("capa=\"repositorio\""))
+                .body(containsString("empleados_repositorio_documentos_count"))
+                .body(containsString("empleados_coleccion_documentos"))
+                .body(containsString("cache_size"));
+    }
+
+    @Test
+    void deberiaTrazarCadaCapaSinExponerDatosDeLaConsulta() throws InterruptedException {
+        String traza = "4bf92f3577b34da6a3ce929d0e0e4736";
+        exportadorTrazas.reset();
+
+        given()
+                .header("traceparent", "00-" + traza + "-00f067aa0ba902b7-01")
+                .contentType("application/json")
+                .body(Map.of(
+                        "cargo", "Jefa de Tesorería",
+                        "departamento", "Finanzas",
+                        "salario", 4200,
+                        "fechaInicio", "2024-01-01"))
+                .when().put("/api/empleados/{id}/cambiar-cargo", empleado.getId())
+                .then()
+                .statusCode(200);
+
+        List<SpanData> spans = esperarSpans(traza, Set.of(
+                "ServicioEmpleado.cambiarCargo", "RepositorioEmpleadoMongo.cambiarCargo", "findAndModify empleados"));
+
+        SpanData comando = spans.stream()
+                .filter(span -> span.getName().equals("findAndModify empleados"))
+                .findFirst()
+                .orElseThrow();
+        String consulta = comando.getAttributes().get(AttributeKey.stringKey("db.query.text"));
+        assertTrue(consulta.contains("cargoActual.fechaInicio"), consulta);
+        assertFalse(consulta.contains("Tesorería"), consulta);
+        assertFalse(consulta.contains(empleado.getId()), consulta);
+    }
+
+    @Test
+    void deberiaTrazarLosErroresSinSuMensaje() throws InterruptedException {
+        String traza = "0af7651916cd43dd8448eb211c80319c";
+        exportadorTrazas.reset();
+
+        given()
+                .header("traceparent", "00-" + traza + "-b7ad6b7169203331-01")
+                .contentType("application/json")
+                .body(Map.of(
+                        "informacionPersonal", Map.of("nombre", "Otra", "apellidos", "Persona",
+                                "documentoIdentidad", "20111222", "genero", "Femenino", "fechaNacimiento", "1990-01-01"),
+                        "informacionContacto", Map.of("email", "otra.persona@example.com",
+                                "telefono", "+58-414-5550001", "direccion", "Valencia, Venezuela"),
+                        "cargoInicial", Map.of("cargo", "Analista", "departamento", "Finanzas",
+                                "salario", 3000, "fechaInicio", "2024-01-01")))
+                .when().post("/api/empleados")
+                .then()
+                .statusCode(400)
+                .body("mensaje", containsString("20111222"));
+
+        List<SpanData> spans = esperarSpans(traza, Set.of("ServicioEmpleado.crearEmpleado"));
+
+        SpanData servicio = spans.stream()
+                .filter(span -> span.getName().equals("ServicioEmpleado.crearEmpleado"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(IllegalArgumentException.class.getName(),
+                servicio.getAttributes().get(AttributeKey.stringKey("error.type")));
+
+        // Ningún atributo, evento ni estado repite el documento duplicado
+        for (SpanData span : spans) {
+            String contenido = span.getAttributes() + " " + span.getEvents() + " " + span.getStatus();
+            assertFalse(contenido.contains("20111222"), span.getName() + ": " + contenido);
+        }
+    }
+
+    @Test
+    void deberiaRegistrarLasConsultasLentasConSuPlan() throws InterruptedException {
+        // En el perfil de test el umbral es 0: toda consulta se registra
+        given()
+                .queryParam("departamento", "Finanzas")
+                .queryParam("salarioMinimo", "1000")
+                .when().get("/api/empleados/filtro")
+                .then()
+                .statusCode(200);
+
+        // El plan se obtiene en segundo plano
+        List<Map<String, Object>> consultas = List.of();
+        for (int intento = 0; intento < 50 && consultas.isEmpty(); intento++) {
+            Thread.sleep(100);
+            consultas = given()
+                    .when().get("/api/admin/consultas-lentas")
+                    .then()
+                    .statusCode(200)
+                    .extract().jsonPath()
+                    .getList("findAll { it.casoDeUso == 'ServicioEmpleado.obtenerEmpleadosFiltrados' && it.recorrido != null }");
+        }
+
+        assertFalse(consultas.isEmpty(), "sin consultas registradas para el filtro");
+        Map<String, Object> consulta = consultas.get(0);
+        assertEquals("IXSCAN", consulta.get("recorrido"));
+        assertEquals("empleados", consulta.get("coleccion"));
+        assertTrue(String.valueOf(consulta.get("metodoRepositorio")).startsWith("RepositorioEmpleadoMongo."),
+                String.valueOf(consulta.get("metodoRepositorio")));
+        assertFalse(String.valueOf(consulta.get("forma")).contains("Finanzas"), String.valueOf(consulta.get("forma")));
+    }
+
+    /**
+     * Spans terminados de la traza; el procesador exporta por lotes, así que
+     * espera hasta que estén todos los indicados
+     */
+    private List<SpanData> esperarSpans(String traza, Set<String> esperados) throws InterruptedException {
+        List<SpanData> spans = List.of();
+        for (int intento = 0; intento < 50; intento++) {
+            spans = exportadorTrazas.getFinishedSpanItems().stream()
+                    .filter(span -> span.getTraceId().equals(traza))
+                    .collect(Collectors.toList());
+            if (spans.stream().map(SpanData::getName).collect(Collectors.toSet()).containsAll(esperados)) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        Set<String> nombres = spans.stream().map(SpanData::getName).collect(Collectors.toSet());
+        assertTrue(nombres.containsAll(esperados), "spans de la traza: " + nombres);
+        return spans;
+    }
+}
@@ -0,0 +1,18 @@
+package devbitsve.infraestructura.trazas;
+
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Exportador en memoria para los tests: Quarkus envía a todos los
+ * SpanExporter del contenedor los spans terminados.
+ */
+public class ExportadorTrazasPrueba {
+
+    @Produces
+    @Singleton
+    InMemorySpanExporter exportador() {
+        return InMemorySpanExporter.create();
+    }
+}